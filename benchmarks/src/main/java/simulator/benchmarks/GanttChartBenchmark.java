@@ -0,0 +1,65 @@
+package simulator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simulator.core.ExecutionSlice;
+import simulator.core.GanttChartRenderer;
+import simulator.core.SchedulingResult;
+
+/**
+ * Measures {@link SchedulingResult#buildGanttChart()} for timelines of increasing length.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GanttChartBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int slices;
+
+    private SchedulingResult result;
+    private GanttChartRenderer pagedRenderer;
+    private StringBuilder buffer;
+
+    @Setup
+    public void buildTimeline() {
+        List<ExecutionSlice> timeline = new ArrayList<>(slices);
+        int time = 0;
+        for (int i = 0; i < slices; i++) {
+            // Round-robin style rotation over 30 processes with a quantum of 7.
+            timeline.add(new ExecutionSlice(1 + i % 30, time, time + 7));
+            time += 7;
+        }
+        result = new SchedulingResult("benchmark", timeline, List.of(), List.of(), List.of());
+        pagedRenderer = new GanttChartRenderer(Long.MIN_VALUE, Long.MAX_VALUE, 120, 70);
+        buffer = new StringBuilder();
+    }
+
+    @Benchmark
+    public String buildGanttChart() {
+        return result.buildGanttChart();
+    }
+
+    @Benchmark
+    public StringBuilder renderPagedDownsampled() {
+        buffer.setLength(0);
+        pagedRenderer.render(result.getSlices(), buffer);
+        return buffer;
+    }
+}
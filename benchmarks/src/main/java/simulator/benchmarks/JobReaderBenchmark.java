@@ -0,0 +1,69 @@
+package simulator.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simulator.core.ProcessControlBlock;
+import simulator.core.SimulationClock;
+import simulator.core.SystemCallHandler;
+import simulator.io.JobReader;
+
+/**
+ * Measures {@link JobReader} parse throughput in records per second over a job file of the maximum accepted size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobReaderBenchmark {
+    private static final int RECORDS = 30;
+
+    private Path jobFile;
+    private BlockingQueue<ProcessControlBlock> jobQueue;
+
+    @Setup(Level.Trial)
+    public void writeJobFile() throws IOException {
+        jobFile = Files.createTempFile("jobs", ".txt");
+        Files.write(jobFile, Workloads.jobLines(RECORDS, Workloads.Distribution.UNIFORM));
+        jobQueue = new LinkedBlockingQueue<>();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJobFile() throws IOException {
+        Files.deleteIfExists(jobFile);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public BlockingQueue<ProcessControlBlock> parse() {
+        jobQueue.clear();
+        SystemCallHandler systemCalls = new SystemCallHandler(new SimulationClock(),
+                SystemCallHandler.TraceLevel.OFF, SystemCallHandler.DEFAULT_CAPACITY);
+        JobReader reader = new JobReader(jobFile, jobQueue, systemCalls, new AtomicInteger(), new AtomicBoolean());
+        // Invoke the reader loop on the benchmark thread so thread start-up is not measured.
+        reader.run();
+        return jobQueue;
+    }
+}
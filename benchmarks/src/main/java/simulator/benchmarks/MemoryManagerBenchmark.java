@@ -0,0 +1,76 @@
+package simulator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simulator.core.ProcessControlBlock;
+import simulator.core.SimulationClock;
+import simulator.core.SystemCallHandler;
+import simulator.memory.MemoryManager;
+
+/**
+ * Measures allocate/release cycles on a shared {@link MemoryManager} under thread contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class MemoryManagerBenchmark {
+    /**
+     * Memory manager shared by all benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedMemory {
+        /**
+         * How many of the benchmark threads' requests fit in memory at once; lower values force blocking.
+         */
+        @Param({"1", "2", "4"})
+        public int concurrentFits;
+
+        MemoryManager memory;
+
+        final AtomicInteger nextPid = new AtomicInteger();
+
+        @Setup
+        public void setUp() {
+            SystemCallHandler systemCalls = new SystemCallHandler(new SimulationClock(),
+                    SystemCallHandler.TraceLevel.OFF, SystemCallHandler.DEFAULT_CAPACITY);
+            memory = new MemoryManager(concurrentFits * 100, systemCalls);
+        }
+    }
+
+    /**
+     * Per-thread PCB so that each thread allocates under its own pid.
+     */
+    @State(Scope.Thread)
+    public static class OwnProcess {
+        ProcessControlBlock pcb;
+
+        @Setup
+        public void setUp(SharedMemory shared) {
+            int pid = shared.nextPid.incrementAndGet();
+            pcb = new ProcessControlBlock(pid, 10, 1, 100, 0, pid);
+        }
+    }
+
+    @Benchmark
+    public void allocateAndRelease(SharedMemory shared, OwnProcess own) throws InterruptedException {
+        shared.memory.allocateBlocking(own.pcb);
+        shared.memory.release(own.pcb);
+    }
+}
@@ -0,0 +1,81 @@
+package simulator.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import simulator.app.SimulationContext;
+import simulator.core.SchedulingResult;
+import simulator.scheduler.MemoryAwareSjfScheduler;
+import simulator.scheduler.PriorityScheduler;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.Scheduler;
+import simulator.scheduler.SjfScheduler;
+
+/**
+ * Measures a full {@link Scheduler#run} over a pre-admitted workload for each scheduling algorithm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBenchmark {
+    @Param({"SJF", "MEMORY_SJF", "RR", "PRIORITY"})
+    public String scheduler;
+
+    @Param({"100", "1000", "5000"})
+    public int jobs;
+
+    @Param({"UNIFORM", "EXPONENTIAL", "BIMODAL"})
+    public String distribution;
+
+    private List<String> jobLines;
+    private Scheduler instance;
+    private SimulationContext context;
+
+    @Setup(Level.Trial)
+    public void prepareWorkload() {
+        jobLines = Workloads.jobLines(jobs, Workloads.Distribution.valueOf(distribution));
+        switch (scheduler) {
+            case "SJF":
+                instance = new SjfScheduler();
+                break;
+            case "MEMORY_SJF":
+                instance = new MemoryAwareSjfScheduler();
+                break;
+            case "RR":
+                instance = new RoundRobinScheduler();
+                break;
+            case "PRIORITY":
+                instance = new PriorityScheduler();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scheduler " + scheduler);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareContext() throws InterruptedException {
+        // PCBs are mutated by a run, so every invocation starts from a freshly admitted context.
+        context = Workloads.admittedContext(jobLines);
+    }
+
+    @Benchmark
+    public SchedulingResult run() throws InterruptedException {
+        return instance.run(context);
+    }
+}
@@ -0,0 +1,111 @@
+package simulator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import simulator.app.SimulationContext;
+import simulator.core.LatencyProfile;
+import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
+import simulator.core.SimulationClock;
+import simulator.core.SystemCallHandler;
+import simulator.io.ProcessLoader;
+import simulator.memory.MemoryManager;
+
+/**
+ * Builds seeded synthetic workloads and pre-admitted simulation contexts for the benchmarks.
+ */
+final class Workloads {
+    /**
+     * Shapes of the burst-time distribution used for generated jobs.
+     */
+    enum Distribution {
+        UNIFORM,
+        EXPONENTIAL,
+        BIMODAL
+    }
+
+    private static final long SEED = 227L;
+
+    private Workloads() {
+    }
+
+    /**
+     * Generates {@code size} job definitions as {@code id:burst:priority;memory} lines.
+     */
+    static List<String> jobLines(int size, Distribution distribution) {
+        Random random = new Random(SEED);
+        List<String> lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int burst = burst(random, distribution);
+            int priority = 1 + random.nextInt(128);
+            int memory = 1 + random.nextInt(64);
+            lines.add((i + 1) + ":" + burst + ":" + priority + ";" + memory);
+        }
+        return lines;
+    }
+
+    private static int burst(Random random, Distribution distribution) {
+        switch (distribution) {
+            case UNIFORM:
+                return 1 + random.nextInt(50);
+            case EXPONENTIAL:
+                return 1 + (int) (-Math.log(1.0 - random.nextDouble()) * 20.0);
+            case BIMODAL:
+                return random.nextInt(10) < 8 ? 1 + random.nextInt(10) : 80 + random.nextInt(40);
+            default:
+                throw new IllegalArgumentException("Unknown distribution " + distribution);
+        }
+    }
+
+    /**
+     * Creates a context whose reader and loader have already finished and whose ready queue holds every job.
+     */
+    static SimulationContext admittedContext(List<String> jobLines) throws InterruptedException {
+        SimulationClock clock = new SimulationClock();
+        SystemCallHandler systemCalls = new SystemCallHandler(clock, SystemCallHandler.TraceLevel.OFF,
+                SystemCallHandler.DEFAULT_CAPACITY);
+        LatencyProfile latencies = new LatencyProfile();
+        MemoryManager memory = new MemoryManager(Integer.MAX_VALUE, systemCalls, latencies.getAllocationWait());
+
+        BlockingQueue<ProcessControlBlock> jobQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<ProcessControlBlock> readyQueue = new LinkedBlockingQueue<>();
+        AtomicBoolean readerFinished = new AtomicBoolean(true);
+        AtomicInteger totalJobs = new AtomicInteger();
+        ProcessTable table = new ProcessTable();
+
+        int order = 0;
+        for (String line : jobLines) {
+            ProcessControlBlock pcb = parse(table, line, order++);
+            memory.allocateBlocking(pcb);
+            pcb.markReady(0, memory.getAllocatedProcessCount(), true);
+            pcb.markReadyEnqueued(System.nanoTime());
+            readyQueue.add(pcb);
+            totalJobs.incrementAndGet();
+        }
+
+        // With the reader finished and an empty job queue the loader exits immediately.
+        ProcessLoader loader = new ProcessLoader(jobQueue, readyQueue, memory, systemCalls, clock, readerFinished);
+        loader.start();
+        loader.join();
+
+        return new SimulationContext(readyQueue, memory, systemCalls, clock, loader, readerFinished, totalJobs, latencies, true, table);
+    }
+
+    private static ProcessControlBlock parse(ProcessTable table, String line, int arrivalOrder) {
+        String[] parts = line.split(";");
+        String[] fields = parts[0].split(":");
+        return table.create(
+                Integer.parseInt(fields[0]),
+                Integer.parseInt(fields[1]),
+                Integer.parseInt(fields[2]),
+                Integer.parseInt(parts[1]),
+                0,
+                arrivalOrder);
+    }
+}
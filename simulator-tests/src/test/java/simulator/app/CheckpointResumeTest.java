@@ -0,0 +1,141 @@
+package simulator.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import simulator.io.JobDefinition;
+import simulator.scheduler.MemoryAwareSjfScheduler;
+import simulator.scheduler.PriorityScheduler;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.Scheduler;
+import simulator.scheduler.SjfScheduler;
+
+/**
+ * A run resumed from its checkpoint must finish exactly as if it had never stopped. Each test kills a checkpointing
+ * {@code Main} in a child JVM once its journal holds a delta, then resumes in process from what it left on disk: as
+ * is, with the last journal frame torn, and from the base alone.
+ */
+class CheckpointResumeTest {
+    // Long enough to still be running when the first delta lands, with several table chunks for deltas to skip.
+    private static final int JOBS = 20_000;
+    private static final String INTERVAL = "25";
+
+    @TempDir
+    Path directory;
+
+    static Stream<Arguments> schedulers() {
+        return Stream.of(
+                Arguments.of("sjf", (Supplier<Scheduler>) SjfScheduler::new),
+                Arguments.of("msjf", (Supplier<Scheduler>) MemoryAwareSjfScheduler::new),
+                Arguments.of("rr", (Supplier<Scheduler>) () -> new RoundRobinScheduler(4)),
+                Arguments.of("priority", (Supplier<Scheduler>) PriorityScheduler::new));
+    }
+
+    @ParameterizedTest
+    @MethodSource("schedulers")
+    void resumeAfterCrashMatchesUninterruptedRun(String option, Supplier<Scheduler> scheduler) throws Exception {
+        Path jobs = directory.resolve("jobs.txt");
+        List<String> lines = new ArrayList<>();
+        for (JobDefinition job : Simulations.mixedWorkload(JOBS, 11).getJobs()) {
+            lines.add(job.format());
+        }
+        Files.write(jobs, lines);
+        Path reference = directory.resolve("reference");
+        SimulationOptions uninterrupted = options().setCheckpointDirectory(reference);
+        String expected = Simulations.describe(new SimulationRunner(jobs, uninterrupted).execute(scheduler.get()));
+
+        Path crashed = directory.resolve("crashed");
+        crashMidRun(jobs, option, crashed);
+        // A resume that finds no checkpoint under its own name quietly starts over, which would prove nothing.
+        assertEquals(names(reference), names(crashed));
+        Path torn = copy(crashed, "torn");
+        Path baseOnly = copy(crashed, "base-only");
+        // Losing the tail of the last frame, as a crash mid-append would, drops only that delta.
+        try (FileChannel channel = FileChannel.open(journal(torn), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        Files.delete(journal(baseOnly));
+
+        for (Path checkpoints : List.of(crashed, torn, baseOnly)) {
+            SimulationOptions resume = options().setCheckpointDirectory(checkpoints).setResume(true);
+            String resumed = Simulations.describe(new SimulationRunner(jobs, resume).execute(scheduler.get()));
+            assertEquals(expected, resumed, checkpoints.getFileName().toString());
+        }
+    }
+
+    // What Main passes for a headless run of the whole file.
+    private static SimulationOptions options() {
+        return new SimulationOptions().setMaxJobs(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Runs {@code Main} with checkpoints in a child JVM and kills it once the journal holds a delta.
+     */
+    private static void crashMidRun(Path jobs, String option, Path checkpoints)
+            throws IOException, InterruptedException {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process child = new ProcessBuilder(java.toString(), "-cp", System.getProperty("java.class.path"),
+                Main.class.getName(), "--jobs", jobs.toString(), "--schedulers", option, "--quantum", "4",
+                "--checkpoint-dir", checkpoints.toString(), "--checkpoint-interval", INTERVAL)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+            while (!hasDelta(checkpoints)) {
+                assertTrue(child.isAlive(), "the run ended before its journal held a delta");
+                assertTrue(System.nanoTime() < deadline, "no checkpoint delta within 60 seconds");
+                Thread.sleep(1);
+            }
+        } finally {
+            child.destroyForcibly().waitFor();
+        }
+    }
+
+    private static boolean hasDelta(Path checkpoints) throws IOException {
+        if (!Files.isDirectory(checkpoints)) {
+            return false;
+        }
+        try (Stream<Path> files = Files.list(checkpoints)) {
+            return files.anyMatch(file -> file.toString().endsWith(".ckpt.journal") && file.toFile().length() > 0);
+        }
+    }
+
+    private static List<String> names(Path checkpoints) throws IOException {
+        try (Stream<Path> files = Files.list(checkpoints)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static Path journal(Path checkpoints) throws IOException {
+        try (Stream<Path> files = Files.list(checkpoints)) {
+            return files.filter(file -> file.toString().endsWith(".ckpt.journal")).findFirst().orElseThrow();
+        }
+    }
+
+    private Path copy(Path checkpoints, String name) throws IOException {
+        Path target = Files.createDirectory(directory.resolve(name));
+        try (Stream<Path> files = Files.list(checkpoints)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, target.resolve(file.getFileName()));
+            }
+        }
+        return target;
+    }
+}
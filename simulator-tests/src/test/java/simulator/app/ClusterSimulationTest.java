@@ -0,0 +1,82 @@
+package simulator.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.io.JobDefinition;
+import simulator.io.Workload;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.SjfScheduler;
+
+/**
+ * The dispatcher and the nodes meet at every arrival time: a node never runs past an arrival before the jobs
+ * arriving then are placed, and an idle node waits for its next job instead of finishing early.
+ */
+class ClusterSimulationTest {
+    @Test
+    void sparseArrivalsNeverWait() throws InterruptedException {
+        // Every job finishes well before the next one arrives, so only a node running ahead of the dispatcher,
+        // or idling past an arrival, could make one wait.
+        List<JobDefinition> jobs = new ArrayList<>();
+        long burstSum = 0;
+        for (int i = 0; i < 40; i++) {
+            int burst = 1 + i % 9;
+            burstSum += burst;
+            jobs.add(new JobDefinition(i + 1, new int[] {burst}, new int[0], new int[0], 1, 100));
+        }
+        ClusterSimulation.Result result = new ClusterSimulation(jobs, 20, new int[] {1024, 1024, 1024},
+                new SjfScheduler(), ClusterSimulation.Dispatch.LEAST_LOADED, 1).run();
+
+        assertEquals(jobs.size(), result.getCompletedCount());
+        assertEquals(0.0, result.getAverageWaitingTime(), 1e-9);
+        assertEquals((double) burstSum / jobs.size(), result.getAverageTurnaroundTime(), 1e-9);
+        assertEquals(39 * 20 + 1 + 39 % 9, result.getMakespan());
+    }
+
+    @Test
+    void denseArrivalsGiveTheSameResultEveryRun() throws InterruptedException {
+        List<JobDefinition> jobs = Simulations.mixedWorkload(300, 5).getJobs();
+        for (ClusterSimulation.Dispatch dispatch : ClusterSimulation.Dispatch.values()) {
+            String first = describe(run(jobs, dispatch));
+            for (int repeat = 0; repeat < 3; repeat++) {
+                assertEquals(first, describe(run(jobs, dispatch)), dispatch.getLabel());
+            }
+        }
+    }
+
+    @Test
+    void clusterOfOneMatchesStandaloneRunWithSameArrivals() throws InterruptedException {
+        // With no interarrival gap every job arrives at time 0, as the jobs of a file do.
+        Workload workload = Simulations.mixedWorkload(200, 8);
+        ClusterSimulation.Result cluster = new ClusterSimulation(workload.getJobs(), 0, new int[] {2048},
+                new RoundRobinScheduler(4), ClusterSimulation.Dispatch.ROUND_ROBIN, 1).run();
+        var standalone = Simulations.run(workload, new SimulationOptions().setRetainDetails(false),
+                new RoundRobinScheduler(4));
+
+        assertEquals(standalone.getMetrics().getCompletedCount(), cluster.getCompletedCount());
+        assertEquals(standalone.getMetrics().getMakespan(), cluster.getMakespan());
+        assertEquals(standalone.getAverageWaitingTime(), cluster.getAverageWaitingTime(), 1e-9);
+        assertEquals(standalone.getAverageTurnaroundTime(), cluster.getAverageTurnaroundTime(), 1e-9);
+    }
+
+    private static ClusterSimulation.Result run(List<JobDefinition> jobs, ClusterSimulation.Dispatch dispatch)
+            throws InterruptedException {
+        return new ClusterSimulation(jobs, 1, new int[] {1024, 1024, 2048, 2048}, new RoundRobinScheduler(4),
+                dispatch, 42).run();
+    }
+
+    private static String describe(ClusterSimulation.Result result) {
+        StringBuilder text = new StringBuilder();
+        text.append(result.getMakespan()).append(' ').append(result.getAverageWaitingTime()).append(' ')
+                .append(result.getAverageTurnaroundTime());
+        for (int node = 0; node < result.getNodeCount(); node++) {
+            text.append('\n').append(result.getAssignedCount(node)).append(' ')
+                    .append(Simulations.describe(result.getNodeResult(node)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package simulator.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * When the scheduler throws, the runner must stop the loader and reader threads and close its outputs, or the
+ * JVM keeps running after {@code main} returns.
+ */
+class FailedRunExitTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void jvmExitsAfterSchedulerFailure() throws IOException, InterruptedException {
+        // Each job needs 1500 of the 2048 MB, so the loader blocks on the second one.
+        Path jobs = directory.resolve("jobs.txt");
+        Files.write(jobs, List.of("1:5:1;1500", "2:5:1;1500", "3:5:1;1500"));
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process child = new ProcessBuilder(java.toString(), "-cp", System.getProperty("java.class.path"),
+                FailingSchedulerMain.class.getName(), jobs.toString(), directory.resolve("checkpoints").toString())
+                .redirectErrorStream(true)
+                .start();
+
+        if (!child.waitFor(60, TimeUnit.SECONDS)) {
+            child.destroyForcibly();
+            fail("JVM still running after the scheduler failed");
+        }
+        String output = new String(child.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals(0, child.exitValue(), output);
+        assertTrue(output.contains("caught: scheduler failed with 1 ready"), output);
+    }
+}
@@ -0,0 +1,42 @@
+package simulator.app;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import simulator.core.ProcessControlBlock;
+import simulator.core.SchedulingResult;
+import simulator.scheduler.Scheduler;
+
+/**
+ * Child JVM for {@link FailedRunExitTest}: runs a job file whose jobs cannot all fit in memory under a scheduler
+ * that throws once the loader is blocked on memory, then returns from {@code main}. The JVM only exits if the
+ * runner stopped its non-daemon loader and reader threads.
+ */
+public final class FailingSchedulerMain {
+    private FailingSchedulerMain() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SimulationRunner runner = new SimulationRunner(Path.of(args[0]),
+                new SimulationOptions().setCheckpointDirectory(Path.of(args[1])));
+        try {
+            runner.execute(new Scheduler() {
+                @Override
+                public String getName() {
+                    return "Failing";
+                }
+
+                @Override
+                public SchedulingResult run(SimulationContext context) {
+                    // Returns once the loader is idle, which here means stalled waiting for memory.
+                    List<ProcessControlBlock> ready = new ArrayList<>();
+                    context.drainReadyQueue(ready);
+                    throw new IllegalStateException("scheduler failed with " + ready.size() + " ready");
+                }
+            });
+        } catch (IllegalStateException ex) {
+            System.out.println("caught: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package simulator.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.core.SchedulingResult;
+import simulator.scheduler.PriorityScheduler;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.Scheduler;
+import simulator.scheduler.SjfScheduler;
+
+/**
+ * The averages the menu prints for the bundled {@code job.txt}; every optimization must leave them unchanged.
+ */
+class JobFileAveragesTest {
+    private static final Path JOB_FILE = Path.of(System.getProperty("simulator.jobFile", "../job.txt"));
+
+    private static void assertAverages(Scheduler scheduler, double waiting, double turnaround)
+            throws InterruptedException {
+        SchedulingResult result = new SimulationRunner(JOB_FILE).execute(scheduler);
+        assertEquals(waiting, result.getAverageWaitingTime(), 0.005, scheduler.getName());
+        assertEquals(turnaround, result.getAverageTurnaroundTime(), 0.005, scheduler.getName());
+    }
+
+    @Test
+    void shortestJobFirst() throws InterruptedException {
+        assertAverages(new SjfScheduler(), 15.33, 34.67);
+    }
+
+    @Test
+    void roundRobin() throws InterruptedException {
+        assertAverages(new RoundRobinScheduler(), 29.33, 48.67);
+    }
+
+    @Test
+    void priorityWithAging() throws InterruptedException {
+        assertAverages(new PriorityScheduler(), 21.00, 40.33);
+    }
+}
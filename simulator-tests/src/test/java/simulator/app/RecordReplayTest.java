@@ -0,0 +1,72 @@
+package simulator.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import simulator.io.AdmissionPolicy;
+import simulator.io.Workload;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.Scheduler;
+
+/**
+ * A replay takes its jobs and every loader admission from the run log, so it must reproduce the recorded run
+ * without the reader and loader threads.
+ */
+class RecordReplayTest {
+    private static final Workload WORKLOAD = Simulations.mixedWorkload(300, 23);
+
+    @TempDir
+    Path directory;
+
+    static Iterable<Supplier<Scheduler>> schedulers() {
+        return Simulations.singleCpuSchedulers();
+    }
+
+    @ParameterizedTest
+    @MethodSource("schedulers")
+    void replayReproducesRecordedRun(Supplier<Scheduler> scheduler) throws Exception {
+        String recorded = Simulations.describe(Simulations.run(WORKLOAD,
+                new SimulationOptions().setRecordDirectory(directory), scheduler.get()));
+
+        String replayed = Simulations.describe(Simulations.run(WORKLOAD,
+                new SimulationOptions().setReplayDirectory(directory), scheduler.get()));
+
+        assertEquals(recorded, replayed);
+    }
+
+    @Test
+    void replayReproducesAdmissionControlDecisions() throws Exception {
+        AdmissionPolicy policy = AdmissionPolicy.parse("cap:3");
+        String recorded = Simulations.describe(Simulations.run(WORKLOAD,
+                new SimulationOptions().setRecordDirectory(directory).setAdmissionPolicy(policy),
+                new RoundRobinScheduler(4)));
+
+        String replayed = Simulations.describe(Simulations.run(WORKLOAD,
+                new SimulationOptions().setReplayDirectory(directory).setAdmissionPolicy(policy),
+                new RoundRobinScheduler(4)));
+
+        assertEquals(recorded, replayed);
+    }
+
+    @Test
+    void replayRejectsRunLogOfAnotherMemorySize() throws Exception {
+        Simulations.run(WORKLOAD, new SimulationOptions().setRecordDirectory(directory), new RoundRobinScheduler(4));
+        try (var files = Files.list(directory)) {
+            assertTrue(files.anyMatch(file -> file.toString().endsWith(".runlog")));
+        }
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> Simulations.run(WORKLOAD,
+                new SimulationOptions().setReplayDirectory(directory).setMemorySize(4096), new RoundRobinScheduler(4)));
+        assertTrue(error.getMessage().contains("2048MB"), error.getMessage());
+    }
+}
@@ -0,0 +1,81 @@
+package simulator.app;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import simulator.core.ExecutionSlice;
+import simulator.core.SchedulingResult;
+import simulator.io.JobDefinition;
+import simulator.io.ResultExporter;
+import simulator.io.Workload;
+import simulator.scheduler.MemoryAwareSjfScheduler;
+import simulator.scheduler.PriorityScheduler;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.Scheduler;
+import simulator.scheduler.SjfScheduler;
+
+/**
+ * Workloads and result comparison shared by the end-to-end tests.
+ */
+final class Simulations {
+    private Simulations() {
+    }
+
+    /**
+     * The single-CPU schedulers, each built fresh for every run.
+     */
+    static List<Supplier<Scheduler>> singleCpuSchedulers() {
+        return List.of(SjfScheduler::new, MemoryAwareSjfScheduler::new, () -> new RoundRobinScheduler(4),
+                PriorityScheduler::new);
+    }
+
+    /**
+     * Draws {@code count} jobs that together need several times the default 2048 MB, about a third of them with
+     * I/O bursts on one of two devices, so runs exercise memory stalls, blocking, and device queues.
+     */
+    static Workload mixedWorkload(int count, long seed) {
+        Random random = new Random(seed);
+        List<JobDefinition> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder line = new StringBuilder().append(i + 1).append(':').append(1 + random.nextInt(30));
+            if (random.nextInt(3) == 0) {
+                line.append(',').append(1 + random.nextInt(15)).append('@').append(random.nextInt(2))
+                        .append(',').append(1 + random.nextInt(20));
+            }
+            line.append(':').append(1 + random.nextInt(10)).append(';').append(50 + random.nextInt(550));
+            jobs.add(JobDefinition.parse(line.toString()));
+        }
+        return new Workload(jobs);
+    }
+
+    /**
+     * Renders everything a run reports: the JSON summary with per-process metrics, then every execution slice
+     * and starvation notice. Two runs that produced the same schedule render identically.
+     */
+    static String describe(SchedulingResult result) {
+        StringWriter out = new StringWriter();
+        try {
+            new ResultExporter(false).writeJson(List.of(result), out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        for (ExecutionSlice slice : result.getSlices()) {
+            out.write(slice.getCpu() + ":" + slice.getProcessId() + "@" + slice.getStartTime() + "-"
+                    + slice.getEndTime() + "\n");
+        }
+        for (String notice : result.getStarvationNotices()) {
+            out.write(notice + "\n");
+        }
+        return out.toString();
+    }
+
+    static SchedulingResult run(Workload workload, SimulationOptions options, Scheduler scheduler)
+            throws InterruptedException {
+        return new SimulationRunner(workload, options).execute(scheduler);
+    }
+}
@@ -0,0 +1,107 @@
+package simulator.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ProcessTableTest {
+    private static byte[] checkpoint(ProcessTable table, boolean full) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        table.writeCheckpoint(new DataOutputStream(bytes), full);
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream in(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private static String describe(ProcessTable table) {
+        StringBuilder text = new StringBuilder();
+        for (int slot = 0; slot < table.size(); slot++) {
+            ProcessControlBlock pcb = table.view(slot);
+            text.append(pcb.getId()).append(' ').append(pcb.getState()).append(' ').append(pcb.getRemainingTime())
+                    .append(' ').append(pcb.getWaitingTime()).append(' ').append(pcb.getCompletionTime()).append('\n');
+        }
+        return text.toString();
+    }
+
+    @Test
+    void standaloneProcessGrowsItsOneRowTable() {
+        ProcessControlBlock pcb = new ProcessControlBlock(7, 10, 2, 100, 0, 0);
+        ProcessTable table = pcb.getTable();
+        pcb.markQueued();
+        for (int i = 1; i < 3000; i++) {
+            table.add(100 + i, i, 1, 10, 0, i);
+        }
+
+        assertEquals(7, pcb.getId());
+        assertEquals(ProcessControlBlock.ProcessState.JOB_QUEUED, pcb.getState());
+        assertEquals(10, pcb.getRemainingTime());
+        assertEquals(100 + 2999, table.view(2999).getId());
+        assertEquals(1500, table.view(1500).getBurstTime());
+    }
+
+    @Test
+    void deltasBringRestoredTableUpToDate() throws IOException {
+        ProcessTable table = new ProcessTable();
+        List<ProcessControlBlock> processes = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            processes.add(table.create(i + 1, 5 + i % 7, 1, 10, 0, i));
+        }
+        ProcessTable restored = ProcessTable.readCheckpoint(in(checkpoint(table, true)));
+
+        // Touch one row of chunk 1, then add rows that fill chunk 2 and start chunk 3.
+        ProcessControlBlock touched = processes.get(1100);
+        touched.markReady(3, 1, true);
+        touched.markDispatched(4);
+        touched.consumeCpu(touched.getRemainingTime());
+        touched.markCompleted(9);
+        for (int i = 2500; i < 3100; i++) {
+            processes.add(table.create(i + 1, 3, 1, 10, 0, i));
+        }
+        byte[] delta = checkpoint(table, false);
+        restored.applyCheckpoint(in(delta));
+
+        assertEquals(describe(table), describe(restored));
+        // Chunk 0 is unchanged and left out.
+        assertEquals(3, changedChunks(delta));
+        // Nothing changed since, so the next delta names no chunk.
+        assertEquals(0, changedChunks(checkpoint(table, false)));
+    }
+
+    private static int changedChunks(byte[] delta) throws IOException {
+        DataInputStream in = in(delta);
+        in.readInt();
+        return in.readInt();
+    }
+
+    @Test
+    void recycledRowIsReusedClean() {
+        ProcessTable table = new ProcessTable();
+        table.enableRecycling();
+        ProcessControlBlock first = table.create(1, 4, 2, 100, 0, 0);
+        first.markReady(0, 1, true);
+        first.markDispatched(0);
+        first.consumeCpu(4);
+        first.markCompleted(4);
+        List<Integer> released = new ArrayList<>();
+        table.recycleFinished(released::add);
+
+        ProcessControlBlock second = table.create(2, 9, 3, 200, 5, 1);
+
+        assertEquals(List.of(1), released);
+        assertEquals(first.getSlot(), second.getSlot());
+        assertEquals(1, table.size());
+        assertEquals(9, second.getRemainingTime());
+        assertEquals(-1, second.getCompletionTime());
+        assertEquals(0, second.getWaitingTime());
+    }
+}
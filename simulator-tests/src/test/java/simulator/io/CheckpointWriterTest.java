@@ -0,0 +1,123 @@
+package simulator.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CheckpointWriterTest {
+    @TempDir
+    Path directory;
+
+    private Path file() {
+        return directory.resolve("run.ckpt");
+    }
+
+    private Path journal() {
+        return directory.resolve("run.ckpt.journal");
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void write(String base, String... deltas) throws IOException, InterruptedException {
+        CheckpointWriter writer = new CheckpointWriter(file());
+        writer.start();
+        writer.submitBase(bytes(base));
+        for (String delta : deltas) {
+            writer.submitDelta(bytes(delta));
+        }
+        writer.close();
+    }
+
+    @Test
+    void readsBaseThenDeltasInOrder() throws Exception {
+        write("base", "one", "two", "three");
+
+        List<byte[]> snapshots = CheckpointWriter.read(file());
+
+        assertEquals(4, snapshots.size());
+        assertArrayEquals(bytes("base"), snapshots.get(0));
+        assertArrayEquals(bytes("three"), snapshots.get(3));
+    }
+
+    @Test
+    void tornFrameEndsTheJournal() throws Exception {
+        write("base", "one", "two");
+        try (RandomAccessFile raf = new RandomAccessFile(journal().toFile(), "rw")) {
+            raf.setLength(raf.length() - 1);
+        }
+
+        List<byte[]> snapshots = CheckpointWriter.read(file());
+
+        assertEquals(2, snapshots.size());
+        assertArrayEquals(bytes("one"), snapshots.get(1));
+    }
+
+    @Test
+    void corruptFrameEndsTheJournal() throws Exception {
+        write("base", "one", "two");
+        try (RandomAccessFile raf = new RandomAccessFile(journal().toFile(), "rw")) {
+            // The first frame's payload starts after its length, generation, and checksum.
+            raf.seek(16);
+            int value = raf.read();
+            raf.seek(16);
+            raf.write(value ^ 0xFF);
+        }
+
+        assertEquals(1, CheckpointWriter.read(file()).size());
+    }
+
+    @Test
+    void framesOfAnOlderBaseAreIgnored() throws Exception {
+        write("old", "old delta");
+        byte[] staleJournal = Files.readAllBytes(journal());
+        write("new");
+        // As if the process died after renaming the new base but before truncating the journal.
+        Files.write(journal(), staleJournal);
+
+        List<byte[]> snapshots = CheckpointWriter.read(file());
+
+        assertEquals(1, snapshots.size());
+        assertArrayEquals(bytes("new"), snapshots.get(0));
+    }
+
+    @Test
+    void baseBecomesDueAfterMaxDeltasOrWhenDeltasOutgrowIt() throws Exception {
+        CheckpointWriter writer = new CheckpointWriter(file());
+        writer.start();
+        assertTrue(writer.isBaseDue());
+        writer.submitBase(new byte[100]);
+        for (int i = 0; i < CheckpointWriter.MAX_DELTAS; i++) {
+            assertFalse(writer.isBaseDue());
+            writer.submitDelta(new byte[1]);
+        }
+        assertTrue(writer.isBaseDue());
+
+        writer.submitBase(new byte[100]);
+        writer.submitDelta(new byte[60]);
+        assertFalse(writer.isBaseDue());
+        writer.submitDelta(new byte[60]);
+        assertTrue(writer.isBaseDue());
+        writer.close();
+        assertEquals(3, CheckpointWriter.read(file()).size());
+    }
+
+    @Test
+    void deltaBeforeBaseIsRejected() {
+        CheckpointWriter writer = new CheckpointWriter(file());
+        assertThrows(IllegalStateException.class, () -> writer.submitDelta(new byte[1]));
+    }
+}
@@ -0,0 +1,104 @@
+package simulator.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.app.SimulationOptions;
+import simulator.app.SimulationRunner;
+import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
+import simulator.core.SchedulingResult;
+import simulator.core.SimulationClock;
+import simulator.core.SystemCallHandler;
+import simulator.scheduler.RoundRobinScheduler;
+
+class JobStreamRecyclingTest {
+    private static JobDefinition job(int id) {
+        return new JobDefinition(id, new int[] {3}, new int[0], new int[0], 1, 100);
+    }
+
+    @Test
+    void completedProcessReleasesItsRowAndId() throws InterruptedException {
+        ProcessTable table = new ProcessTable();
+        SimulationClock clock = new SimulationClock();
+        BlockingQueue<ProcessControlBlock> jobQueue = new LinkedBlockingQueue<>();
+        JobStream stream = new JobStream();
+        stream.setRecycling(true);
+        stream.attach(table, jobQueue, new SystemCallHandler(clock, SystemCallHandler.TraceLevel.OFF, 0), clock,
+                new AtomicInteger(), new AtomicBoolean(), 2048);
+
+        ProcessControlBlock first = stream.submit(job(7));
+        assertThrows(IllegalArgumentException.class, () -> stream.submit(job(7)));
+
+        first.markCompleted(clock.getTime());
+        // Completion alone does not free the row; the scheduler releases it at its next decision point.
+        assertThrows(IllegalArgumentException.class, () -> stream.submit(job(7)));
+        stream.recycleFinished();
+
+        ProcessControlBlock second = stream.submit(job(7));
+        assertEquals(first.getSlot(), second.getSlot());
+        assertEquals(1, table.size());
+        assertEquals(ProcessControlBlock.ProcessState.JOB_QUEUED, second.getState());
+        assertEquals(3, second.getRemainingTime());
+    }
+
+    @Test
+    void longRunHoldsOnlyJobsInFlight() throws Exception {
+        JobStream stream = new JobStream();
+        stream.setRecycling(true);
+        SimulationRunner runner = new SimulationRunner(stream, new SimulationOptions()
+                .setTraceLevel(SystemCallHandler.TraceLevel.OFF)
+                .setRetainDetails(false));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<SchedulingResult> run = executor.submit(() -> runner.execute(new RoundRobinScheduler(2)));
+            int rounds = 50;
+            int ids = 4;
+            for (int round = 0; round < rounds; round++) {
+                for (int id = 1; id <= ids; id++) {
+                    submitOnceFree(stream, job(id));
+                }
+            }
+            int peakRows = runner.getActiveContext() == null ? 0 : runner.getActiveContext().getProcessTable().size();
+            stream.close();
+            SchedulingResult result = run.get(60, TimeUnit.SECONDS);
+
+            assertEquals(rounds * ids, result.getMetrics().getCompletedCount());
+            assertTrue(peakRows <= ids, "table grew to " + peakRows + " rows for " + ids + " ids in flight");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Submits {@code job}, retrying while the previous process with its id is still in flight.
+     */
+    private static void submitOnceFree(JobStream stream, JobDefinition job)
+            throws InterruptedException, ExecutionException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (true) {
+            try {
+                stream.submit(job);
+                return;
+            } catch (IllegalArgumentException ex) {
+                if (System.nanoTime() > deadline) {
+                    throw new ExecutionException("Process id " + job.getId() + " was never released", ex);
+                }
+                Thread.sleep(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package simulator.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
+
+class MemoryFitQueueTest {
+    private static final Comparator<ProcessControlBlock> SHORTEST_FIRST =
+            Comparator.comparingInt(ProcessControlBlock::getBurstTime)
+                    .thenComparingInt(ProcessControlBlock::getArrivalOrder);
+
+    private final ProcessTable table = new ProcessTable();
+
+    private ProcessControlBlock job(int burst, int memory) {
+        int order = table.size();
+        return table.create(order + 1, burst, 1, memory, 0, order);
+    }
+
+    @Test
+    void pollsFirstJobInOrderAmongThoseThatFit() {
+        MemoryFitQueue queue = new MemoryFitQueue(SHORTEST_FIRST, 2048);
+        ProcessControlBlock shortButLarge = job(1, 1500);
+        ProcessControlBlock medium = job(5, 400);
+        ProcessControlBlock longButSmall = job(9, 100);
+        queue.add(longButSmall);
+        queue.add(shortButLarge);
+        queue.add(medium);
+
+        assertEquals(100, queue.getSmallestMemory());
+        assertEquals(medium.getId(), queue.pollFitting(1000).getId());
+        assertEquals(longButSmall.getId(), queue.pollFitting(1000).getId());
+        assertNull(queue.pollFitting(1000));
+        assertEquals(shortButLarge.getId(), queue.pollFitting(2048).getId());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void matchesLinearScanOnRandomJobs() {
+        Random random = new Random(3);
+        MemoryFitQueue queue = new MemoryFitQueue(SHORTEST_FIRST, 2048);
+        List<ProcessControlBlock> waiting = new ArrayList<>();
+        for (int round = 0; round < 2000; round++) {
+            if (waiting.isEmpty() || random.nextInt(3) > 0) {
+                ProcessControlBlock pcb = job(1 + random.nextInt(20), 1 + random.nextInt(2048));
+                queue.add(pcb);
+                waiting.add(pcb);
+            } else {
+                int free = random.nextInt(2049);
+                ProcessControlBlock expected = null;
+                for (ProcessControlBlock pcb : waiting) {
+                    if (pcb.getMemoryRequired() <= free && (expected == null || SHORTEST_FIRST.compare(pcb, expected) < 0)) {
+                        expected = pcb;
+                    }
+                }
+                ProcessControlBlock polled = queue.pollFitting(free);
+                assertEquals(expected == null ? null : expected.getId(), polled == null ? null : polled.getId());
+                waiting.remove(expected);
+            }
+            assertEquals(waiting.size(), queue.size());
+        }
+        List<ProcessControlBlock> listed = queue.toList();
+        for (int i = 1; i < listed.size(); i++) {
+            assertTrue(listed.get(i - 1).getArrivalOrder() < listed.get(i).getArrivalOrder());
+        }
+    }
+
+    @Test
+    void rejectsJobLargerThanMemory() {
+        MemoryFitQueue queue = new MemoryFitQueue(SHORTEST_FIRST, 1024);
+        assertThrows(IllegalArgumentException.class, () -> queue.add(job(1, 1025)));
+    }
+}
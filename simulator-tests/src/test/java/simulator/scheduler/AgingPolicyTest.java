@@ -0,0 +1,53 @@
+package simulator.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The priority scheduler ages lazily: it only revisits a waiting process at the time {@code waitToExceed} names,
+ * so that time must be exactly when its boost next grows.
+ */
+class AgingPolicyTest {
+    @Test
+    void closedFormWaitsMatchTheSearch() {
+        for (AgingPolicy.Standard policy : AgingPolicy.Standard.values()) {
+            AgingPolicy searched = new AgingPolicy() {
+                @Override
+                public int boostAfterWaiting(long waited, int agingInterval) {
+                    return policy.boostAfterWaiting(waited, agingInterval);
+                }
+
+                @Override
+                public int boostAfterRunning(int boost, long ran, int agingInterval) {
+                    return policy.boostAfterRunning(boost, ran, agingInterval);
+                }
+
+                @Override
+                public String getLabel() {
+                    return policy.getLabel();
+                }
+            };
+            for (int interval : new int[] {1, 3, 5}) {
+                for (int boost = 0; boost < 200; boost++) {
+                    long wait = policy.waitToExceed(boost, interval);
+                    assertEquals(searched.waitToExceed(boost, interval), wait, policy + " boost " + boost);
+                    assertTrue(policy.boostAfterWaiting(wait, interval) > boost);
+                    assertTrue(wait == 0 || policy.boostAfterWaiting(wait - 1, interval) <= boost);
+                }
+            }
+        }
+    }
+
+    @Test
+    void runningNeverRaisesTheBoost() {
+        for (AgingPolicy.Standard policy : AgingPolicy.Standard.values()) {
+            for (int boost = 0; boost < 50; boost++) {
+                for (long ran = 0; ran < 40; ran++) {
+                    assertTrue(policy.boostAfterRunning(boost, ran, 5) <= boost, policy.getLabel());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package simulator.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class PrioritySlotHeapTest {
+    @Test
+    void ordersByPriorityThenReadyTimeThenArrival() {
+        PrioritySlotHeap heap = new PrioritySlotHeap();
+        heap.add(0, 3, 10, 0);
+        heap.add(1, 5, 20, 1);
+        heap.add(2, 5, 10, 2);
+        heap.add(3, 5, 10, 3);
+
+        assertEquals(2, heap.pollFirst());
+        assertEquals(3, heap.pollFirst());
+        assertEquals(1, heap.pollFirst());
+        assertEquals(0, heap.pollFirst());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void raisedSlotMovesAheadInPlace() {
+        PrioritySlotHeap heap = new PrioritySlotHeap();
+        for (int slot = 0; slot < 8; slot++) {
+            heap.add(slot, 10 - slot, slot, slot);
+        }
+        // An aged process overtakes everything with a lower priority, and ties with the earlier-ready slot 0.
+        heap.raise(7, 10);
+
+        assertEquals(0, heap.pollFirst());
+        assertEquals(7, heap.pollFirst());
+        assertFalse(heap.contains(7));
+        assertEquals(6, heap.size());
+        assertThrows(IllegalArgumentException.class, () -> heap.raise(6, 1));
+    }
+
+    @Test
+    void matchesSortedReferenceUnderRandomAging() {
+        Random random = new Random(17);
+        PrioritySlotHeap heap = new PrioritySlotHeap();
+        List<long[]> reference = new ArrayList<>();
+        Comparator<long[]> order = Comparator.<long[]>comparingLong(entry -> -entry[1])
+                .thenComparingLong(entry -> entry[2])
+                .thenComparingLong(entry -> entry[3]);
+        int nextSlot = 0;
+        for (int step = 0; step < 5000; step++) {
+            int action = random.nextInt(3);
+            if (reference.isEmpty() || action == 0) {
+                long[] entry = {nextSlot, random.nextInt(10), random.nextInt(100), nextSlot};
+                heap.add(nextSlot++, (int) entry[1], entry[2], (int) entry[3]);
+                reference.add(entry);
+            } else if (action == 1) {
+                long[] entry = reference.get(random.nextInt(reference.size()));
+                entry[1] += random.nextInt(4);
+                heap.raise((int) entry[0], (int) entry[1]);
+            } else {
+                long[] first = reference.stream().min(order).orElseThrow();
+                reference.remove(first);
+                assertEquals(first[0], heap.pollFirst());
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package simulator.app;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import simulator.core.IoDevice;
+import simulator.core.MetricsAccumulator;
+import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
+import simulator.core.SystemCallHandler;
+import simulator.io.CheckpointWriter;
+import simulator.memory.MemoryManager;
+
+/**
+ * Binary snapshot of a run taken by the scheduler thread at a point where the loader is idle and the reader has
+ * finished, so the process table, queues, memory, devices, metrics, and trace position are mutually consistent.
+ * Sections are written in a fixed order: header, process table, memory allocations, pending jobs, queued ready
+ * processes, the scheduler's own ready set, devices, metrics, and the system call trace. A full snapshot holds
+ * every section in full; a delta holds only the table chunks, slices, completions, and trace records changed
+ * since the previous snapshot, and is restored on top of it.
+ */
+final class Checkpoint {
+    private static final int MAGIC = 0x53494D43;
+    private static final int VERSION = 5;
+
+    private final String schedulerName;
+    private final long clockTime;
+    private final int totalJobs;
+    private final int admittedCount;
+    private final ProcessTable processTable;
+    private final int[] pendingJobSlots;
+    private final int[] readyQueueSlots;
+    private final int[] schedulerSlots;
+    private final List<IoDevice> devices;
+    private final MetricsAccumulator metrics;
+
+    private Checkpoint(String schedulerName,
+                       long clockTime,
+                       int totalJobs,
+                       int admittedCount,
+                       ProcessTable processTable,
+                       int[] pendingJobSlots,
+                       int[] readyQueueSlots,
+                       int[] schedulerSlots,
+                       List<IoDevice> devices,
+                       MetricsAccumulator metrics) {
+        this.schedulerName = schedulerName;
+        this.clockTime = clockTime;
+        this.totalJobs = totalJobs;
+        this.admittedCount = admittedCount;
+        this.processTable = processTable;
+        this.pendingJobSlots = pendingJobSlots;
+        this.readyQueueSlots = readyQueueSlots;
+        this.schedulerSlots = schedulerSlots;
+        this.devices = devices;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Serializes the context's state, in full or as the changes since the previous capture; {@code schedulerSlots}
+     * is the scheduler's ready set in its own order.
+     */
+    static byte[] capture(String schedulerName, SimulationContext context, int[] schedulerSlots, boolean full) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeBoolean(full);
+            out.writeUTF(schedulerName);
+            out.writeInt(context.getTotalMemory());
+            out.writeLong(context.getClock().getTime());
+            out.writeInt(context.getTotalJobs());
+            out.writeInt(context.getAdmittedCount());
+            context.getProcessTable().writeCheckpoint(out, full);
+            context.getMemoryManager().writeCheckpoint(out);
+            writeSlotRuns(out, context.getPendingJobs());
+            writeSlots(out, context.getQueuedReady());
+            out.writeInt(schedulerSlots.length);
+            for (int slot : schedulerSlots) {
+                out.writeInt(slot);
+            }
+            List<IoDevice> devices = context.getDevices();
+            out.writeInt(devices.size());
+            for (IoDevice device : devices) {
+                device.writeCheckpoint(out);
+            }
+            context.getRunningMetrics().writeCheckpoint(out, full);
+            context.getSystemCalls().writeCheckpoint(out, full);
+        } catch (IOException ex) {
+            // Only an in-memory stream is written here.
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a checkpoint taken by {@code schedulerName}, applying each delta on top of its base, and restores
+     * memory allocations and the trace position into the new run's {@code memoryManager} and {@code systemCalls}.
+     */
+    static Checkpoint read(Path file,
+                           String schedulerName,
+                           MemoryManager memoryManager,
+                           SystemCallHandler systemCalls) throws IOException {
+        Checkpoint checkpoint = null;
+        for (byte[] snapshot : CheckpointWriter.read(file)) {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+                checkpoint = read(in, file, schedulerName, memoryManager, systemCalls, checkpoint);
+            }
+        }
+        return checkpoint;
+    }
+
+    private static Checkpoint read(DataInputStream in,
+                                   Path file,
+                                   String schedulerName,
+                                   MemoryManager memoryManager,
+                                   SystemCallHandler systemCalls,
+                                   Checkpoint previous) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException(file + " is not a simulation checkpoint");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint version " + version + " in " + file);
+        }
+        if (in.readBoolean() != (previous == null)) {
+            throw new IOException("Corrupt checkpoint " + file + ": deltas must follow exactly one full snapshot");
+        }
+        String savedScheduler = in.readUTF();
+        if (!savedScheduler.equals(schedulerName)) {
+            throw new IllegalArgumentException("Checkpoint " + file + " was taken by " + savedScheduler
+                    + ", not " + schedulerName);
+        }
+        int memorySize = in.readInt();
+        if (memorySize != memoryManager.getTotalMemory()) {
+            throw new IllegalArgumentException("Checkpoint " + file + " was taken with " + memorySize
+                    + "MB of memory, not " + memoryManager.getTotalMemory() + "MB");
+        }
+        long clockTime = in.readLong();
+        int totalJobs = in.readInt();
+        int admittedCount = in.readInt();
+        ProcessTable table;
+        if (previous == null) {
+            table = ProcessTable.readCheckpoint(in);
+        } else {
+            table = previous.processTable;
+            table.applyCheckpoint(in);
+        }
+        memoryManager.restoreCheckpoint(in);
+        int[] pendingJobs = readSlotRuns(in);
+        int[] readyQueue = readSlots(in);
+        int[] schedulerSlots = readSlots(in);
+        int deviceCount = in.readInt();
+        List<IoDevice> devices = new ArrayList<>(deviceCount);
+        for (int index = 0; index < deviceCount; index++) {
+            devices.add(IoDevice.readCheckpoint(in, index, table));
+        }
+        MetricsAccumulator metrics;
+        if (previous == null) {
+            metrics = MetricsAccumulator.readCheckpoint(in, table);
+        } else {
+            metrics = previous.metrics;
+            metrics.applyCheckpoint(in, table);
+        }
+        systemCalls.restoreCheckpoint(in);
+        return new Checkpoint(savedScheduler, clockTime, totalJobs, admittedCount, table,
+                pendingJobs, readyQueue, schedulerSlots, Collections.unmodifiableList(devices), metrics);
+    }
+
+    /**
+     * Writes slots as runs of consecutive values, since pending jobs usually sit in the table in admission order.
+     */
+    private static void writeSlotRuns(DataOutputStream out, List<ProcessControlBlock> processes) throws IOException {
+        out.writeInt(processes.size());
+        int runStart = -1;
+        int runLength = 0;
+        for (ProcessControlBlock pcb : processes) {
+            int slot = pcb.getSlot();
+            if (runLength > 0 && slot == runStart + runLength) {
+                runLength++;
+                continue;
+            }
+            if (runLength > 0) {
+                out.writeInt(runStart);
+                out.writeInt(runLength);
+            }
+            runStart = slot;
+            runLength = 1;
+        }
+        if (runLength > 0) {
+            out.writeInt(runStart);
+            out.writeInt(runLength);
+        }
+    }
+
+    private static int[] readSlotRuns(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt checkpoint: negative slot count");
+        }
+        int[] slots = new int[count];
+        int filled = 0;
+        while (filled < count) {
+            int runStart = in.readInt();
+            int runLength = in.readInt();
+            if (runLength <= 0 || runLength > count - filled) {
+                throw new IOException("Corrupt checkpoint: slot run of " + runLength);
+            }
+            for (int i = 0; i < runLength; i++) {
+                slots[filled++] = runStart + i;
+            }
+        }
+        return slots;
+    }
+
+    private static void writeSlots(DataOutputStream out, List<ProcessControlBlock> processes) throws IOException {
+        out.writeInt(processes.size());
+        for (ProcessControlBlock pcb : processes) {
+            out.writeInt(pcb.getSlot());
+        }
+    }
+
+    private static int[] readSlots(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt checkpoint: negative slot count");
+        }
+        int[] slots = new int[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = in.readInt();
+        }
+        return slots;
+    }
+
+    String getSchedulerName() {
+        return schedulerName;
+    }
+
+    long getClockTime() {
+        return clockTime;
+    }
+
+    int getTotalJobs() {
+        return totalJobs;
+    }
+
+    int getAdmittedCount() {
+        return admittedCount;
+    }
+
+    ProcessTable getProcessTable() {
+        return processTable;
+    }
+
+    /**
+     * Jobs not yet admitted, in admission order, including one that was waiting for memory.
+     */
+    int[] getPendingJobSlots() {
+        return pendingJobSlots;
+    }
+
+    int[] getReadyQueueSlots() {
+        return readyQueueSlots;
+    }
+
+    int[] getSchedulerSlots() {
+        return schedulerSlots;
+    }
+
+    List<IoDevice> getDevices() {
+        return devices;
+    }
+
+    MetricsAccumulator getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,746 @@
+package simulator.app;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import simulator.core.ProcessControlBlock;
+import simulator.core.SchedulingResult;
+import simulator.core.SimulationClock;
+import simulator.core.SystemCallHandler;
+import simulator.io.JobDefinition;
+import simulator.io.JobReader;
+import simulator.io.JobStream;
+import simulator.io.Workload;
+import simulator.scheduler.GangScheduler;
+import simulator.scheduler.MemoryAwareSjfScheduler;
+import simulator.scheduler.PriorityScheduler;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.Scheduler;
+import simulator.scheduler.SjfScheduler;
+
+/**
+ * A fleet of simulated machines fed by one global dispatcher. Every node has its own memory, clock, and scheduler
+ * and runs as an open-ended {@link SimulationRunner} on its own thread; the dispatcher places each arriving job on
+ * a node according to a {@link Dispatch} policy.
+ * <p>
+ * Nodes are synchronized conservatively. A node never schedules past the next arrival time until the dispatcher
+ * has handed over the jobs arriving then, and the dispatcher places them only once every node has reached that
+ * time or run out of work, judging load from the nodes' state at the arrival time. A run is therefore
+ * deterministic however the node threads are interleaved.
+ */
+public class ClusterSimulation {
+    public static final int DEFAULT_NODE_COUNT = 4;
+    public static final long DEFAULT_INTERARRIVAL = 2;
+
+    /**
+     * How the dispatcher picks a node for a job; only nodes with enough memory for the job are considered.
+     */
+    public enum Dispatch {
+        /**
+         * Nodes in turn.
+         */
+        ROUND_ROBIN,
+        /**
+         * The node with the fewest unfinished jobs.
+         */
+        LEAST_LOADED,
+        /**
+         * The node whose uncommitted memory the job fills most tightly; if none has room, the one with the most.
+         */
+        BEST_FIT_MEMORY,
+        /**
+         * The node with fewer unfinished jobs of two sampled at random.
+         */
+        POWER_OF_TWO;
+
+        public static Dispatch parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+
+        public String getLabel() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private final List<JobDefinition> jobs;
+    private final long interarrival;
+    private final int[] nodeMemory;
+    private final Scheduler scheduler;
+    private final Dispatch dispatch;
+    private final long seed;
+
+    // The dispatcher waits on settled for the nodes to catch up, and the nodes wait on released for the dispatcher,
+    // so a parking node never wakes the others.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition settled = lock.newCondition();
+    private final Condition released = lock.newCondition();
+    // Guarded by lock; the nodes also read horizon and done without it while they are running.
+    private final List<Node> nodes = new ArrayList<>();
+    private volatile long horizon;
+    private volatile boolean done;
+    private Exception failure;
+
+    /**
+     * Creates a cluster with one node per entry of {@code nodeMemory}, each running {@code scheduler}. Job
+     * {@code i} arrives at time {@code i * interarrival}.
+     */
+    public ClusterSimulation(List<JobDefinition> jobs,
+                             long interarrival,
+                             int[] nodeMemory,
+                             Scheduler scheduler,
+                             Dispatch dispatch,
+                             long seed) {
+        if (nodeMemory.length == 0) {
+            throw new IllegalArgumentException("A cluster needs at least one node");
+        }
+        if (interarrival < 0) {
+            throw new IllegalArgumentException("Interarrival time must not be negative");
+        }
+        int largest = 0;
+        for (int memory : nodeMemory) {
+            if (memory <= 0) {
+                throw new IllegalArgumentException("Node memory must be positive");
+            }
+            largest = Math.max(largest, memory);
+        }
+        for (JobDefinition job : jobs) {
+            if (job.getMemoryRequired() > largest) {
+                throw new IllegalArgumentException("Process " + job.getId() + " requires " + job.getMemoryRequired()
+                        + "MB which exceeds the largest node memory of " + largest + "MB");
+            }
+        }
+        this.jobs = List.copyOf(jobs);
+        this.interarrival = interarrival;
+        this.nodeMemory = nodeMemory.clone();
+        this.scheduler = scheduler;
+        this.dispatch = dispatch;
+        this.seed = seed;
+    }
+
+    public int getNodeCount() {
+        return nodeMemory.length;
+    }
+
+    public Dispatch getDispatch() {
+        return dispatch;
+    }
+
+    /**
+     * Simulates the whole fleet until every job has completed; an instance runs only once.
+     */
+    public Result run() throws InterruptedException {
+        lock.lock();
+        try {
+            if (!nodes.isEmpty()) {
+                throw new IllegalStateException("A cluster simulation runs only once");
+            }
+            for (int index = 0; index < nodeMemory.length; index++) {
+                nodes.add(new Node(index, nodeMemory[index]));
+            }
+            done = jobs.isEmpty();
+            horizon = done ? Long.MAX_VALUE : 0;
+        } finally {
+            lock.unlock();
+        }
+        for (Node node : nodes) {
+            node.thread.start();
+        }
+        try {
+            dispatchAll();
+        } catch (InterruptedException ex) {
+            fail(ex);
+            throw ex;
+        }
+        for (Node node : nodes) {
+            node.thread.join();
+        }
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw new IllegalStateException("Cluster run failed: " + failure.getMessage(), failure);
+            }
+            SchedulingResult[] results = new SchedulingResult[nodes.size()];
+            int[] assigned = new int[nodes.size()];
+            for (Node node : nodes) {
+                if (node.result == null) {
+                    throw new IllegalStateException("Node " + node.index + " ended without a result");
+                }
+                results[node.index] = node.result;
+                assigned[node.index] = node.assignedCount;
+            }
+            return new Result(dispatch, nodeMemory, results, assigned);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long arrivalTime(int job) {
+        return job * interarrival;
+    }
+
+    /**
+     * Places the jobs one arrival time at a time, each time once every node has caught up with it.
+     */
+    private void dispatchAll() throws InterruptedException {
+        Random random = new Random(seed);
+        int[] cursor = new int[1];
+        int next = 0;
+        lock.lock();
+        try {
+            while (next < jobs.size()) {
+                long time = arrivalTime(next);
+                while (failure == null && !allSettled()) {
+                    settled.await();
+                }
+                if (failure != null) {
+                    return;
+                }
+                int[] outstanding = new int[nodes.size()];
+                long[] committed = new long[nodes.size()];
+                for (Node node : nodes) {
+                    node.refreshLoad(time);
+                    outstanding[node.index] = node.placed.size();
+                    for (ProcessControlBlock pcb : node.placed) {
+                        committed[node.index] += pcb.getMemoryRequired();
+                    }
+                }
+                while (next < jobs.size() && arrivalTime(next) == time) {
+                    JobDefinition job = jobs.get(next++);
+                    Node target = nodes.get(choose(job, outstanding, committed, random, cursor));
+                    target.inbox.add(job);
+                    target.inboxArrival = time;
+                    target.assignedCount++;
+                    outstanding[target.index]++;
+                    committed[target.index] += job.getMemoryRequired();
+                }
+                if (next == jobs.size()) {
+                    done = true;
+                    horizon = Long.MAX_VALUE;
+                } else {
+                    horizon = arrivalTime(next);
+                }
+                for (Node node : nodes) {
+                    node.parked = false;
+                }
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean allSettled() {
+        for (Node node : nodes) {
+            if (!node.parked && !node.ended) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int choose(JobDefinition job, int[] outstanding, long[] committed, Random random, int[] cursor) {
+        int memory = job.getMemoryRequired();
+        int count = nodeMemory.length;
+        switch (dispatch) {
+            case ROUND_ROBIN:
+                for (int step = 0; step < count; step++) {
+                    int candidate = (cursor[0] + step) % count;
+                    if (memory <= nodeMemory[candidate]) {
+                        cursor[0] = candidate + 1;
+                        return candidate;
+                    }
+                }
+                break;
+            case LEAST_LOADED: {
+                int best = -1;
+                for (int candidate = 0; candidate < count; candidate++) {
+                    if (memory <= nodeMemory[candidate] && (best < 0 || outstanding[candidate] < outstanding[best])) {
+                        best = candidate;
+                    }
+                }
+                return best;
+            }
+            case BEST_FIT_MEMORY: {
+                int tightest = -1;
+                int roomiest = -1;
+                for (int candidate = 0; candidate < count; candidate++) {
+                    if (memory > nodeMemory[candidate]) {
+                        continue;
+                    }
+                    long free = nodeMemory[candidate] - committed[candidate];
+                    if (free >= memory && (tightest < 0 || free < nodeMemory[tightest] - committed[tightest])) {
+                        tightest = candidate;
+                    }
+                    if (roomiest < 0 || free > nodeMemory[roomiest] - committed[roomiest]) {
+                        roomiest = candidate;
+                    }
+                }
+                return tightest >= 0 ? tightest : roomiest;
+            }
+            case POWER_OF_TWO: {
+                int[] eligible = new int[count];
+                int size = 0;
+                for (int candidate = 0; candidate < count; candidate++) {
+                    if (memory <= nodeMemory[candidate]) {
+                        eligible[size++] = candidate;
+                    }
+                }
+                if (size == 1) {
+                    return eligible[0];
+                }
+                int first = random.nextInt(size);
+                int second = random.nextInt(size - 1);
+                if (second >= first) {
+                    second++;
+                }
+                return outstanding[eligible[second]] < outstanding[eligible[first]] ? eligible[second] : eligible[first];
+            }
+            default:
+                break;
+        }
+        throw new IllegalStateException("No node can hold process " + job.getId());
+    }
+
+    private void fail(Exception ex) {
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = ex;
+            }
+            settled.signalAll();
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * One machine of the cluster. Its scheduler thread calls into it through {@link SimulationContext} to pick up
+     * the jobs the dispatcher placed on it; every other field is guarded by the cluster's lock.
+     */
+    final class Node {
+        private final int index;
+        private final JobStream stream = new JobStream();
+        private final Thread thread;
+        // Jobs placed here and not yet submitted, all arriving at inboxArrival.
+        private final List<JobDefinition> inbox = new ArrayList<>();
+        private long inboxArrival;
+        // Jobs submitted here that the dispatcher has not yet seen finish.
+        private final List<ProcessControlBlock> placed = new ArrayList<>();
+        private int assignedCount;
+        private boolean parked;
+        private boolean ended;
+        private boolean closed;
+        private SchedulingResult result;
+
+        private Node(int index, int memorySize) {
+            this.index = index;
+            SimulationRunner runner = new SimulationRunner(stream, new SimulationOptions()
+                    .setTraceLevel(SystemCallHandler.TraceLevel.OFF)
+                    .setRetainDetails(false)
+                    .setMemorySize(memorySize));
+            runner.setClusterNode(this);
+            this.thread = new Thread(() -> simulate(runner), "cluster-node-" + index);
+        }
+
+        private void simulate(SimulationRunner runner) {
+            try {
+                SchedulingResult completed = runner.execute(scheduler);
+                lock.lock();
+                try {
+                    result = completed;
+                } finally {
+                    lock.unlock();
+                }
+            } catch (InterruptedException | RuntimeException ex) {
+                fail(new IllegalStateException("Node " + index + " failed: " + ex.getMessage(), ex));
+            } finally {
+                lock.lock();
+                try {
+                    ended = true;
+                    settled.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        long getNextArrivalTime() {
+            return horizon;
+        }
+
+        /**
+         * Called by the node's scheduler before each decision: once the node's clock has reached the next
+         * arrival time, waits for the dispatcher and submits the jobs it placed here.
+         */
+        void awaitArrivals(SimulationClock clock) throws InterruptedException {
+            if (closed || (!done && clock.getTime() < horizon)) {
+                return;
+            }
+            lock.lock();
+            try {
+                while (true) {
+                    checkFailure();
+                    deliver(clock);
+                    if (done || clock.getTime() < horizon) {
+                        break;
+                    }
+                    park();
+                }
+                closeIfDone();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Called by the node's scheduler when it has nothing to run: waits until the dispatcher places a job here,
+         * moving the idle clock forward to its arrival, or until no more jobs will come.
+         */
+        void awaitWork(SimulationClock clock) throws InterruptedException {
+            lock.lock();
+            try {
+                while (!done && inbox.isEmpty()) {
+                    checkFailure();
+                    park();
+                }
+                checkFailure();
+                deliver(clock);
+                closeIfDone();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void park() throws InterruptedException {
+            parked = true;
+            settled.signal();
+            released.await();
+        }
+
+        private void deliver(SimulationClock clock) throws InterruptedException {
+            if (inbox.isEmpty()) {
+                return;
+            }
+            long now = clock.getTime();
+            if (now < inboxArrival) {
+                clock.advance(inboxArrival - now);
+            }
+            for (JobDefinition job : inbox) {
+                placed.add(stream.submit(job, inboxArrival));
+            }
+            inbox.clear();
+        }
+
+        private void closeIfDone() {
+            if (done && inbox.isEmpty() && !closed) {
+                stream.close();
+                closed = true;
+            }
+        }
+
+        private void checkFailure() {
+            if (failure != null) {
+                throw new IllegalStateException("Cluster run aborted: " + failure.getMessage());
+            }
+        }
+
+        /**
+         * Forgets the jobs that had finished by {@code time}. The node may have simulated beyond it, so later
+         * completions still count as load.
+         */
+        private void refreshLoad(long time) {
+            placed.removeIf(pcb -> pcb.getState() == ProcessControlBlock.ProcessState.TERMINATED
+                    && pcb.getCompletionTime() <= time);
+        }
+    }
+
+    /**
+     * Per-node results of a cluster run and the fleet-wide figures derived from them.
+     */
+    public static final class Result {
+        private final Dispatch dispatch;
+        private final int[] nodeMemory;
+        private final SchedulingResult[] nodeResults;
+        private final int[] assigned;
+
+        Result(Dispatch dispatch, int[] nodeMemory, SchedulingResult[] nodeResults, int[] assigned) {
+            this.dispatch = dispatch;
+            this.nodeMemory = nodeMemory.clone();
+            this.nodeResults = nodeResults;
+            this.assigned = assigned;
+        }
+
+        public Dispatch getDispatch() {
+            return dispatch;
+        }
+
+        public int getNodeCount() {
+            return nodeResults.length;
+        }
+
+        public int getNodeMemory(int node) {
+            return nodeMemory[node];
+        }
+
+        public SchedulingResult getNodeResult(int node) {
+            return nodeResults[node];
+        }
+
+        /**
+         * Returns how many jobs the dispatcher placed on the node.
+         */
+        public int getAssignedCount(int node) {
+            return assigned[node];
+        }
+
+        public int getCompletedCount() {
+            int completed = 0;
+            for (SchedulingResult result : nodeResults) {
+                completed += result.getMetrics().getCompletedCount();
+            }
+            return completed;
+        }
+
+        /**
+         * Elapsed simulated time from the first arrival anywhere in the fleet to the last completion.
+         */
+        public long getMakespan() {
+            long first = Long.MAX_VALUE;
+            long last = 0;
+            for (SchedulingResult result : nodeResults) {
+                if (result.getMetrics().getCompletedCount() > 0) {
+                    first = Math.min(first, result.getMetrics().getFirstArrivalTime());
+                    last = Math.max(last, result.getMetrics().getLastCompletionTime());
+                }
+            }
+            return first == Long.MAX_VALUE ? 0 : last - first;
+        }
+
+        /**
+         * Fraction of the fleet's CPU time over the fleet makespan that was spent running jobs.
+         */
+        public double getUtilization() {
+            long busy = 0;
+            long cpus = 0;
+            for (SchedulingResult result : nodeResults) {
+                busy += result.getMetrics().getBusyTime();
+                cpus += result.getCpuCount();
+            }
+            long makespan = getMakespan();
+            return makespan == 0 ? 0.0 : (double) busy / makespan / cpus;
+        }
+
+        /**
+         * Fraction of the fleet makespan during which the node's CPUs were busy, so nodes compare on one time base.
+         */
+        public double getNodeUtilization(int node) {
+            long makespan = getMakespan();
+            SchedulingResult result = nodeResults[node];
+            return makespan == 0 ? 0.0 : (double) result.getMetrics().getBusyTime() / makespan / result.getCpuCount();
+        }
+
+        /**
+         * Ratio of the busiest node's utilization to the mean; 1.0 when the load is perfectly balanced.
+         */
+        public double getPeakToMeanLoad() {
+            double peak = 0.0;
+            double sum = 0.0;
+            for (int node = 0; node < nodeResults.length; node++) {
+                peak = Math.max(peak, getNodeUtilization(node));
+                sum += getNodeUtilization(node);
+            }
+            return sum == 0.0 ? 1.0 : peak / (sum / nodeResults.length);
+        }
+
+        /**
+         * Standard deviation of the node utilizations divided by their mean; 0.0 when perfectly balanced.
+         */
+        public double getLoadCoefficientOfVariation() {
+            double sum = 0.0;
+            for (int node = 0; node < nodeResults.length; node++) {
+                sum += getNodeUtilization(node);
+            }
+            double mean = sum / nodeResults.length;
+            if (mean == 0.0) {
+                return 0.0;
+            }
+            double squares = 0.0;
+            for (int node = 0; node < nodeResults.length; node++) {
+                double deviation = getNodeUtilization(node) - mean;
+                squares += deviation * deviation;
+            }
+            return Math.sqrt(squares / nodeResults.length) / mean;
+        }
+
+        /**
+         * Average waiting time over every job in the fleet.
+         */
+        public double getAverageWaitingTime() {
+            double total = 0.0;
+            for (SchedulingResult result : nodeResults) {
+                total += result.getAverageWaitingTime() * result.getMetrics().getCompletedCount();
+            }
+            int completed = getCompletedCount();
+            return completed == 0 ? 0.0 : total / completed;
+        }
+
+        /**
+         * Average turnaround time over every job in the fleet.
+         */
+        public double getAverageTurnaroundTime() {
+            double total = 0.0;
+            for (SchedulingResult result : nodeResults) {
+                total += result.getAverageTurnaroundTime() * result.getMetrics().getCompletedCount();
+            }
+            int completed = getCompletedCount();
+            return completed == 0 ? 0.0 : total / completed;
+        }
+    }
+
+    public static void main(String[] args) {
+        Path jobFile = Path.of("job.txt");
+        int nodeCount = DEFAULT_NODE_COUNT;
+        String memoryList = Integer.toString(JobReader.DEFAULT_MEMORY_LIMIT);
+        long interarrival = DEFAULT_INTERARRIVAL;
+        String dispatchList = "all";
+        String schedulerName = "rr";
+        int timeQuantum = RoundRobinScheduler.DEFAULT_TIME_QUANTUM;
+        int agingInterval = PriorityScheduler.DEFAULT_AGING_INTERVAL;
+        int cpuCount = GangScheduler.DEFAULT_CPU_COUNT;
+        long seed = 227L;
+        int[] nodeMemory;
+        List<Dispatch> dispatches = new ArrayList<>();
+        Scheduler scheduler;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--jobs") && i + 1 < args.length) {
+                    jobFile = Path.of(args[++i]);
+                } else if (args[i].equals("--nodes") && i + 1 < args.length) {
+                    nodeCount = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--memory") && i + 1 < args.length) {
+                    memoryList = args[++i];
+                } else if (args[i].equals("--interarrival") && i + 1 < args.length) {
+                    interarrival = Long.parseLong(args[++i]);
+                } else if (args[i].equals("--dispatch") && i + 1 < args.length) {
+                    dispatchList = args[++i];
+                } else if (args[i].equals("--scheduler") && i + 1 < args.length) {
+                    schedulerName = args[++i].trim().toLowerCase(Locale.ROOT);
+                } else if (args[i].equals("--quantum") && i + 1 < args.length) {
+                    timeQuantum = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--aging") && i + 1 < args.length) {
+                    agingInterval = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--cpus") && i + 1 < args.length) {
+                    cpuCount = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--seed") && i + 1 < args.length) {
+                    seed = Long.parseLong(args[++i]);
+                } else {
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.exit(Main.EXIT_USAGE);
+                    return;
+                }
+            }
+            if (nodeCount <= 0) {
+                throw new IllegalArgumentException("--nodes must be positive");
+            }
+            String[] sizes = memoryList.split(",");
+            if (sizes.length != 1 && sizes.length != nodeCount) {
+                throw new IllegalArgumentException("--memory lists " + sizes.length + " sizes for " + nodeCount + " nodes");
+            }
+            nodeMemory = new int[nodeCount];
+            for (int node = 0; node < nodeCount; node++) {
+                nodeMemory[node] = Integer.parseInt(sizes[sizes.length == 1 ? 0 : node].trim());
+            }
+            if (dispatchList.trim().equalsIgnoreCase("all")) {
+                dispatches.addAll(List.of(Dispatch.values()));
+            } else {
+                for (String name : dispatchList.split(",")) {
+                    dispatches.add(Dispatch.parse(name));
+                }
+            }
+            switch (schedulerName) {
+                case "sjf":
+                    scheduler = new SjfScheduler();
+                    break;
+                case "msjf":
+                case "memory-sjf":
+                    scheduler = new MemoryAwareSjfScheduler();
+                    break;
+                case "rr":
+                case "round-robin":
+                    scheduler = new RoundRobinScheduler(timeQuantum);
+                    break;
+                case "priority":
+                    scheduler = new PriorityScheduler(agingInterval);
+                    break;
+                case "gang":
+                    scheduler = new GangScheduler(cpuCount, timeQuantum, GangScheduler.DEFAULT_MIGRATION_PENALTY);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown scheduler: " + schedulerName);
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Invalid argument: " + ex.getMessage());
+            System.exit(Main.EXIT_USAGE);
+            return;
+        }
+
+        Workload workload;
+        try {
+            workload = Workload.load(jobFile);
+        } catch (IOException | RuntimeException ex) {
+            System.err.println("Failed to load " + jobFile.toAbsolutePath() + ": " + ex.getMessage());
+            System.exit(Main.EXIT_FAILURE);
+            return;
+        }
+        System.out.println("Cluster of " + nodeCount + " nodes running " + scheduler.getName() + ": "
+                + workload.size() + " jobs arriving every " + interarrival + " units, memory " + memoryList + "MB");
+        try {
+            for (Dispatch dispatch : dispatches) {
+                long started = System.nanoTime();
+                Result result = new ClusterSimulation(workload.getJobs(), interarrival, nodeMemory, scheduler,
+                        dispatch, seed).run();
+                long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+                print(result, elapsedMillis);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            System.err.println("Cluster run interrupted");
+            System.exit(Main.EXIT_FAILURE);
+        } catch (RuntimeException ex) {
+            // Threads of the failed nodes may still be alive, so leave explicitly.
+            System.err.println(ex.getMessage());
+            System.exit(Main.EXIT_FAILURE);
+        }
+    }
+
+    private static void print(Result result, long elapsedMillis) {
+        System.out.println();
+        System.out.println("Dispatch: " + result.getDispatch().getLabel() + " (" + elapsedMillis + " ms)");
+        System.out.printf("  %-6s %-8s %-6s %-8s %-12s %-12s %-14s%n",
+                "Node", "Memory", "Jobs", "Busy", "Utilization", "Avg Waiting", "Avg Turnaround");
+        for (int node = 0; node < result.getNodeCount(); node++) {
+            SchedulingResult nodeResult = result.getNodeResult(node);
+            System.out.printf(Locale.ROOT, "  %-6d %-8d %-6d %-8d %-12s %-12.2f %-14.2f%n",
+                    node,
+                    result.getNodeMemory(node),
+                    result.getAssignedCount(node),
+                    nodeResult.getMetrics().getBusyTime(),
+                    String.format(Locale.ROOT, "%.2f%%", result.getNodeUtilization(node) * 100.0),
+                    nodeResult.getAverageWaitingTime(),
+                    nodeResult.getAverageTurnaroundTime());
+        }
+        System.out.printf(Locale.ROOT, "  - Fleet makespan          : %d%n", result.getMakespan());
+        System.out.printf(Locale.ROOT, "  - Fleet utilization       : %.2f%%%n", result.getUtilization() * 100.0);
+        System.out.printf(Locale.ROOT, "  - Average waiting time    : %.2f%n", result.getAverageWaitingTime());
+        System.out.printf(Locale.ROOT, "  - Average turnaround time : %.2f%n", result.getAverageTurnaroundTime());
+        System.out.printf(Locale.ROOT, "  - Load imbalance          : peak/mean %.2f, CV %.2f%n",
+                result.getPeakToMeanLoad(), result.getLoadCoefficientOfVariation());
+    }
+}
@@ -1,118 +1,481 @@
 package simulator.app;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.function.Function;
 
+import simulator.core.DistributionSummary;
+import simulator.core.GanttChartRenderer;
+import simulator.core.LatencyHistogram;
+import simulator.core.CpuTopology;
+import simulator.core.MetricsAccumulator;
 import simulator.core.ProcessReport;
 import simulator.core.SchedulingResult;
+import simulator.core.SystemCallHandler;
+import simulator.io.AdmissionPolicy;
+import simulator.io.JobReader;
+import simulator.io.ResultExporter;
+import simulator.scheduler.AgingPolicy;
+import simulator.scheduler.GangScheduler;
+import simulator.scheduler.MemoryAwareSjfScheduler;
 import simulator.scheduler.PriorityScheduler;
 import simulator.scheduler.RoundRobinScheduler;
 import simulator.scheduler.Scheduler;
 import simulator.scheduler.SjfScheduler;
 
 /**
- * Entry point that lets the user choose which scheduling algorithms to simulate.
+ * Entry point that lets the user choose which scheduling algorithms to simulate, either from an interactive menu
+ * or headless with {@code --batch}/{@code --schedulers} for scripts.
  */
 public class Main {
-    private static final List<Scheduler> SCHEDULERS = List.of(
-            new SjfScheduler(),
-            new RoundRobinScheduler(),
-            new PriorityScheduler()
-    );
+    static final int EXIT_SUCCESS = 0;
+    static final int EXIT_FAILURE = 1;
+    static final int EXIT_USAGE = 2;
+
+    private static final int CHART_WIDTH = 120;
+    private static final long DEFAULT_LIVE_UNIT_MICROS = 1_000L;
 
     public static void main(String[] args) {
+        int status = run(args);
+        if (status != EXIT_SUCCESS) {
+            System.exit(status);
+        }
+    }
+
+    private static int run(String[] args) {
         Path jobFile = Path.of("job.txt");
-        if (!Files.exists(jobFile)) {
-            System.err.println("Missing job.txt file in working directory: " + jobFile.toAbsolutePath());
-            return;
+        SimulationOptions options = new SimulationOptions();
+        int timeQuantum = RoundRobinScheduler.DEFAULT_TIME_QUANTUM;
+        int agingInterval = PriorityScheduler.DEFAULT_AGING_INTERVAL;
+        int cpuCount = GangScheduler.DEFAULT_CPU_COUNT;
+        int migrationPenalty = GangScheduler.DEFAULT_MIGRATION_PENALTY;
+        String cpuSpeeds = null;
+        List<GangScheduler.Placement> placements = List.of(GangScheduler.Placement.OBLIVIOUS);
+        List<AgingPolicy> agingPolicies = List.of(AgingPolicy.Standard.LINEAR);
+        boolean batch = false;
+        int maxJobs = 0;
+        String schedulerSpec = "all";
+        ResultExporter.Format format = ResultExporter.Format.TEXT;
+        Path output = null;
+        boolean printSystemCalls = true;
+        boolean jmx = false;
+        List<Scheduler> schedulers;
+        List<Scheduler> selected;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--jobs") && i + 1 < args.length) {
+                    jobFile = Path.of(args[++i]);
+                } else if (args[i].equals("--batch")) {
+                    batch = true;
+                } else if (args[i].equals("--schedulers") && i + 1 < args.length) {
+                    schedulerSpec = args[++i];
+                    batch = true;
+                } else if (args[i].equals("--format") && i + 1 < args.length) {
+                    format = ResultExporter.Format.parse(args[++i]);
+                    batch = true;
+                } else if (args[i].equals("--output") && i + 1 < args.length) {
+                    output = Path.of(args[++i]);
+                    batch = true;
+                } else if (args[i].equals("--no-syscall-log")) {
+                    printSystemCalls = false;
+                } else if (args[i].equals("--jmx")) {
+                    jmx = true;
+                } else if (args[i].equals("--trace-dir") && i + 1 < args.length) {
+                    options.setTraceDirectory(Path.of(args[++i]));
+                } else if (args[i].equals("--timeline-dir") && i + 1 < args.length) {
+                    options.setTimelineDirectory(Path.of(args[++i]));
+                } else if (args[i].equals("--streaming-metrics")) {
+                    options.setRetainDetails(false);
+                } else if (args[i].equals("--live")) {
+                    options.setLiveUnitMicros(DEFAULT_LIVE_UNIT_MICROS);
+                } else if (args[i].equals("--live-unit-micros") && i + 1 < args.length) {
+                    options.setLiveUnitMicros(Long.parseLong(args[++i]));
+                } else if (args[i].equals("--quantum") && i + 1 < args.length) {
+                    timeQuantum = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--aging") && i + 1 < args.length) {
+                    agingInterval = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--cpus") && i + 1 < args.length) {
+                    cpuCount = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--migration-penalty") && i + 1 < args.length) {
+                    migrationPenalty = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--cpu-speeds") && i + 1 < args.length) {
+                    cpuSpeeds = args[++i];
+                } else if (args[i].equals("--placement") && i + 1 < args.length) {
+                    placements = new ArrayList<>();
+                    for (String policy : args[++i].split(",")) {
+                        placements.add(GangScheduler.Placement.parse(policy));
+                    }
+                } else if (args[i].equals("--aging-policy") && i + 1 < args.length) {
+                    agingPolicies = parseAgingPolicies(args[++i]);
+                } else if (args[i].equals("--max-jobs") && i + 1 < args.length) {
+                    maxJobs = Integer.parseInt(args[++i]);
+                    if (maxJobs <= 0) {
+                        throw new IllegalArgumentException("--max-jobs must be positive");
+                    }
+                } else if (args[i].equals("--memory") && i + 1 < args.length) {
+                    options.setMemorySize(Integer.parseInt(args[++i]));
+                } else if (args[i].equals("--checkpoint-dir") && i + 1 < args.length) {
+                    options.setCheckpointDirectory(Path.of(args[++i]));
+                } else if (args[i].equals("--checkpoint-interval") && i + 1 < args.length) {
+                    options.setCheckpointInterval(Long.parseLong(args[++i]));
+                } else if (args[i].equals("--resume")) {
+                    options.setResume(true);
+                } else if (args[i].equals("--record-dir") && i + 1 < args.length) {
+                    options.setRecordDirectory(Path.of(args[++i]));
+                } else if (args[i].equals("--replay-dir") && i + 1 < args.length) {
+                    options.setReplayDirectory(Path.of(args[++i]));
+                } else if (args[i].equals("--admission") && i + 1 < args.length) {
+                    options.setAdmissionPolicy(AdmissionPolicy.parse(args[++i]));
+                } else {
+                    System.err.println("Unknown argument: " + args[i]);
+                    return EXIT_USAGE;
+                }
+            }
+            // The interactive menu keeps the course's 30-job limit; headless runs take job files of any size.
+            options.setMaxJobs(maxJobs > 0 ? maxJobs : batch ? Integer.MAX_VALUE : JobReader.DEFAULT_MAX_JOBS);
+            if (options.isResume() && options.getCheckpointDirectory() == null) {
+                throw new IllegalArgumentException("--resume requires --checkpoint-dir");
+            }
+            if (options.getCheckpointDirectory() != null && options.isLive()) {
+                throw new IllegalArgumentException("--checkpoint-dir cannot be combined with live mode");
+            }
+            if (options.getRecordDirectory() != null && options.getReplayDirectory() != null) {
+                throw new IllegalArgumentException("--record-dir cannot be combined with --replay-dir");
+            }
+            if (options.getRecordDirectory() != null && options.isResume()) {
+                throw new IllegalArgumentException("--record-dir cannot be combined with --resume");
+            }
+            if (options.getReplayDirectory() != null && options.getCheckpointDirectory() != null) {
+                throw new IllegalArgumentException("--replay-dir cannot be combined with --checkpoint-dir");
+            }
+            if (options.getAdmissionPolicy() != AdmissionPolicy.NONE && options.getCheckpointDirectory() != null) {
+                throw new IllegalArgumentException("--admission cannot be combined with --checkpoint-dir");
+            }
+            if (output != null && format == ResultExporter.Format.TEXT) {
+                throw new IllegalArgumentException("--output requires --format json or csv");
+            }
+            // Priority scheduling runs once per aging policy; the menu offers the first.
+            List<Scheduler> priorities = new ArrayList<>();
+            for (AgingPolicy policy : agingPolicies) {
+                priorities.add(new PriorityScheduler(agingInterval, policy));
+            }
+            schedulers = List.of(
+                    new SjfScheduler(),
+                    new RoundRobinScheduler(timeQuantum),
+                    priorities.get(0)
+            );
+            // The gang scheduler models several CPUs, so it is only run when asked for by name, once per placement.
+            CpuTopology topology = cpuSpeeds == null ? CpuTopology.uniform(cpuCount) : CpuTopology.parse(cpuSpeeds);
+            List<Scheduler> gangs = new ArrayList<>();
+            for (GangScheduler.Placement placement : placements) {
+                gangs.add(new GangScheduler(topology, timeQuantum, migrationPenalty, placement));
+            }
+            selected = selectSchedulers(schedulerSpec, schedulers, priorities, gangs, new MemoryAwareSjfScheduler());
+            if (!Collections.disjoint(selected, gangs) && options.isLive()) {
+                throw new IllegalArgumentException("gang scheduling cannot be combined with live mode");
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Invalid argument: " + ex.getMessage());
+            return EXIT_USAGE;
+        }
+        // A replay takes its jobs from the run logs.
+        if (options.getReplayDirectory() == null && !Files.exists(jobFile)) {
+            System.err.println("Missing job file: " + jobFile.toAbsolutePath());
+            return EXIT_USAGE;
         }
-        SimulationRunner runner = new SimulationRunner(jobFile);
-        try (Scanner scanner = new Scanner(System.in)) {
-            boolean running = true;
-            while (running) {
-                printMenu();
-                String choice = scanner.nextLine().trim();
-                switch (choice) {
-                    case "1":
-                    case "2":
-                    case "3":
-                        int index = Integer.parseInt(choice) - 1;
-                        runSchedulers(runner, List.of(SCHEDULERS.get(index)));
-                        break;
-                    case "4":
-                        runSchedulers(runner, SCHEDULERS);
-                        break;
-                    case "5":
-                        running = false;
-                        break;
-                    default:
-                        System.out.println("Invalid option. Please choose again.");
+        if (!printSystemCalls && options.getTraceDirectory() == null && options.getTimelineDirectory() == null) {
+            // Nothing would read the in-memory log, so skip recording it; timelines are built from it.
+            options.setTraceLevel(SystemCallHandler.TraceLevel.OFF);
+        }
+        SimulationRunner runner = new SimulationRunner(jobFile, options);
+        SimulationMonitor monitor = jmx ? SimulationMonitor.register(runner, "main") : null;
+        try {
+            if (batch) {
+                return runBatch(runner, selected, format, output, printSystemCalls);
+            }
+            try (Scanner scanner = new Scanner(System.in)) {
+                boolean running = true;
+                while (running) {
+                    printMenu(schedulers);
+                    String choice = scanner.nextLine().trim();
+                    switch (choice) {
+                        case "1":
+                        case "2":
+                        case "3":
+                            int index = Integer.parseInt(choice) - 1;
+                            runSchedulers(runner, List.of(schedulers.get(index)), ResultExporter.Format.TEXT, printSystemCalls);
+                            break;
+                        case "4":
+                            runSchedulers(runner, schedulers, ResultExporter.Format.TEXT, printSystemCalls);
+                            break;
+                        case "5":
+                            running = false;
+                            break;
+                        default:
+                            System.out.println("Invalid option. Please choose again.");
+                    }
                 }
             }
+        } finally {
+            if (monitor != null) {
+                monitor.close();
+            }
         }
         System.out.println("Simulation finished.");
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Resolves a comma-separated list of {@code sjf}, {@code msjf}, {@code rr}, {@code priority}, {@code gang}, or
+     * {@code all}; {@code all} covers the single-CPU schedulers of the menu, {@code priority} adds a priority
+     * scheduler per aging policy, and {@code gang} a gang scheduler per placement policy.
+     */
+    private static List<Scheduler> selectSchedulers(String spec,
+                                                    List<Scheduler> schedulers,
+                                                    List<Scheduler> priorities,
+                                                    List<Scheduler> gangs,
+                                                    Scheduler memoryAware) {
+        List<Scheduler> selected = new ArrayList<>();
+        for (String token : spec.split(",")) {
+            switch (token.trim().toLowerCase(Locale.ROOT)) {
+                case "all":
+                    selected.add(schedulers.get(0));
+                    selected.add(schedulers.get(1));
+                    selected.addAll(priorities);
+                    break;
+                case "sjf":
+                    selected.add(schedulers.get(0));
+                    break;
+                case "msjf":
+                case "memory-sjf":
+                    selected.add(memoryAware);
+                    break;
+                case "rr":
+                case "round-robin":
+                    selected.add(schedulers.get(1));
+                    break;
+                case "priority":
+                    selected.addAll(priorities);
+                    break;
+                case "gang":
+                    selected.addAll(gangs);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown scheduler: " + token.trim());
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Parses a comma-separated list of aging policies, or {@code all} for every built-in one.
+     */
+    static List<AgingPolicy> parseAgingPolicies(String spec) {
+        if (spec.trim().equalsIgnoreCase("all")) {
+            return List.of(AgingPolicy.Standard.values());
+        }
+        List<AgingPolicy> policies = new ArrayList<>();
+        for (String name : spec.split(",")) {
+            policies.add(AgingPolicy.Standard.parse(name));
+        }
+        return policies;
     }
 
-    private static void printMenu() {
+    /**
+     * Runs the selected schedulers once without prompting and reports the outcome through the exit code.
+     */
+    private static int runBatch(SimulationRunner runner,
+                                List<Scheduler> schedulers,
+                                ResultExporter.Format format,
+                                Path output,
+                                boolean printSystemCalls) {
+        List<SchedulingResult> results = runSchedulers(runner, schedulers, format, printSystemCalls);
+        if (results == null) {
+            return EXIT_FAILURE;
+        }
+        if (format == ResultExporter.Format.TEXT) {
+            return EXIT_SUCCESS;
+        }
+        ResultExporter exporter = new ResultExporter(printSystemCalls);
+        try {
+            Writer out = output == null
+                    ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                    : Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+            try {
+                if (format == ResultExporter.Format.JSON) {
+                    exporter.writeJson(results, out);
+                } else {
+                    exporter.writeCsv(results, out);
+                }
+                out.flush();
+            } finally {
+                if (output != null) {
+                    out.close();
+                }
+            }
+        } catch (IOException ex) {
+            System.err.println("Failed to write results: " + ex.getMessage());
+            return EXIT_FAILURE;
+        }
+        return EXIT_SUCCESS;
+    }
+
+    private static void printMenu(List<Scheduler> schedulers) {
         System.out.println();
         System.out.println("=== CPU Scheduler Simulator ===");
-        System.out.println("1) Shortest Job First");
-        System.out.println("2) Round Robin (q=7)");
-        System.out.println("3) Priority Scheduling");
+        for (int i = 0; i < schedulers.size(); i++) {
+            System.out.println((i + 1) + ") " + schedulers.get(i).getName());
+        }
         System.out.println("4) Run All & Compare");
         System.out.println("5) Exit");
         System.out.print("Select an option: ");
     }
 
-    private static void runSchedulers(SimulationRunner runner, List<Scheduler> schedulers) {
+    /**
+     * Runs the schedulers in order, printing each result in text format; returns null if a run fails.
+     */
+    private static List<SchedulingResult> runSchedulers(SimulationRunner runner,
+                                                        List<Scheduler> schedulers,
+                                                        ResultExporter.Format format,
+                                                        boolean printSystemCalls) {
+        boolean printText = format == ResultExporter.Format.TEXT;
         List<SchedulingResult> results = new ArrayList<>();
         for (Scheduler scheduler : schedulers) {
             try {
                 SchedulingResult result = runner.execute(scheduler);
                 results.add(result);
-                printResult(result);
+                if (printText) {
+                    printResult(result, runner.getOptions().getTraceDirectory(), printSystemCalls);
+                }
             } catch (InterruptedException ex) {
                 Thread.currentThread().interrupt();
                 System.err.println("Simulation interrupted: " + ex.getMessage());
-                return;
+                return null;
             } catch (RuntimeException ex) {
                 System.err.println("Simulation failed: " + ex.getMessage());
-                return;
+                return null;
             }
         }
-        if (results.size() > 1) {
+        if (printText && results.size() > 1) {
             printComparison(results);
         }
+        return results;
     }
 
-    private static void printResult(SchedulingResult result) {
+    private static void printResult(SchedulingResult result, Path traceDirectory, boolean printSystemCalls) {
         System.out.println();
         System.out.println("=== " + result.getSchedulerName() + " ===");
         System.out.println("Summary:");
         System.out.printf("  - Average waiting time   : %.2f%n", result.getAverageWaitingTime());
         System.out.printf("  - Average turnaround time: %.2f%n", result.getAverageTurnaroundTime());
+        System.out.printf("  - Throughput (jobs/unit) : %.4f%n", result.getThroughput());
+        System.out.printf("  - CPU utilization        : %.2f%%%n", result.getCpuUtilization() * 100.0);
+        if (result.getCpuCount() > 1) {
+            for (int cpu = 0; cpu < result.getCpuCount(); cpu++) {
+                System.out.printf("  - CPU %-2d utilization    : %.2f%%%n", cpu, result.getCpuUtilization(cpu) * 100.0);
+            }
+            CpuTopology topology = result.getMetrics().getCpuTopology();
+            if (topology.isHeterogeneous()) {
+                for (int speedClass = 0; speedClass < topology.getClassCount(); speedClass++) {
+                    System.out.printf("  - Speed %-4s utilization: %.2f%% (%d CPUs)%n", topology.getClassSpeed(speedClass) + "x",
+                            result.getClassUtilization(speedClass) * 100.0, Long.bitCount(topology.getClassMask(speedClass)));
+                }
+            }
+            System.out.printf("  - Gang fragmentation     : %.2f%%%n", result.getFragmentation() * 100.0);
+            System.out.printf("  - Migrations (penalty)   : %d (%d CPU units)%n",
+                    result.getMigrationCount(), result.getMigrationPenaltyTime());
+        }
+        System.out.printf("  - Jain fairness index    : %.4f%n", result.getFairnessIndex());
+        System.out.printf("  - Memory in use (MB)     : %.2f avg, %d peak%n",
+                result.getAverageMemoryUsed(), result.getPeakMemoryUsed());
+        System.out.printf("  - Jobs in memory         : %.2f avg, %d peak%n",
+                result.getAverageDegree(), result.getPeakDegree());
+        MetricsAccumulator admission = result.getMetrics();
+        if (admission.getAdmissionPolicy() != null) {
+            System.out.printf("  - Admission %-13s: %d jobs held, final limit %s%n", admission.getAdmissionPolicy(),
+                    admission.getAdmissionHolds(),
+                    admission.getAdmissionLimit() < 0 ? "none" : Integer.toString(admission.getAdmissionLimit()));
+        }
+        for (int device = 0; device < result.getDeviceCount(); device++) {
+            System.out.printf("  - Device %-2d utilization : %.2f%%%n", device, result.getDeviceUtilization(device) * 100.0);
+        }
+        if (result.isLive()) {
+            System.out.printf("  - Live avg waiting (ms)  : %.2f%n", result.getAverageWallWaitingMillis());
+            System.out.printf("  - Live avg turnaround(ms): %.2f%n", result.getAverageWallTurnaroundMillis());
+        }
 
-        System.out.println();
-        System.out.println("Gantt Chart:");
-        System.out.println(result.buildGanttChart());
+        if (result.hasDetails()) {
+            System.out.println();
+            System.out.println("Gantt Chart:");
+            System.out.println(result.buildGanttChart(new GanttChartRenderer(Long.MIN_VALUE, Long.MAX_VALUE, CHART_WIDTH, 0)));
+
+            System.out.println();
+            System.out.println("Per-Process Metrics:");
+            if (result.isLive()) {
+                System.out.printf("  %-10s %-12s %-15s %-12s %-16s %-16s%n",
+                        "Process", "Waiting", "Turnaround", "Response", "Live Wait (ms)", "Live TAT (ms)");
+            } else {
+                System.out.printf("  %-10s %-12s %-15s %-12s%n", "Process", "Waiting", "Turnaround", "Response");
+            }
+            for (ProcessReport report : result.buildProcessReports()) {
+                if (result.isLive()) {
+                    System.out.printf("  %-10d %-12d %-15d %-12d %-16.2f %-16.2f%n",
+                            report.getProcessId(),
+                            report.getWaitingTime(),
+                            report.getTurnaroundTime(),
+                            report.getResponseTime(),
+                            report.getWallWaitingMillis(),
+                            report.getWallTurnaroundMillis());
+                } else {
+                    System.out.printf("  %-10d %-12d %-15d %-12d%n",
+                            report.getProcessId(),
+                            report.getWaitingTime(),
+                            report.getTurnaroundTime(),
+                            report.getResponseTime());
+                }
+            }
+        } else {
+            MetricsAccumulator metrics = result.getMetrics();
+            System.out.println();
+            System.out.println("Streaming Metrics (" + metrics.getCompletedCount() + " jobs, "
+                    + metrics.getSliceCount() + " slices):");
+            System.out.printf("  %-15s %-10s %-10s %-10s %-10s %-10s%n", "Metric", "Mean", "p50", "p90", "p99", "Max");
+            printDistribution("Waiting", metrics.getWaitingSummary());
+            printDistribution("Turnaround", metrics.getTurnaroundSummary());
+            printDistribution("Response", metrics.getResponseSummary());
+            printDistribution("Slowdown", metrics.getSlowdownSummary());
+        }
 
         System.out.println();
-        System.out.println("Per-Process Metrics:");
-        System.out.printf("  %-10s %-12s %-15s %-12s%n", "Process", "Waiting", "Turnaround", "Response");
-        for (ProcessReport report : result.buildProcessReports()) {
-            System.out.printf("  %-10d %-12d %-15d %-12d%n",
-                    report.getProcessId(),
-                    report.getWaitingTime(),
-                    report.getTurnaroundTime(),
-                    report.getResponseTime());
+        System.out.println("Simulator Internals (microseconds):");
+        System.out.printf("  %-30s %-10s %-10s %-10s %-10s%n", "Operation", "Count", "p50", "p99", "Max");
+        for (LatencyHistogram histogram : result.getLatencies().getHistograms()) {
+            System.out.printf("  %-30s %-10d %-10.2f %-10.2f %-10.2f%n",
+                    histogram.getName(),
+                    histogram.getCount(),
+                    histogram.getValueAtQuantile(0.50) / 1_000.0,
+                    histogram.getValueAtQuantile(0.99) / 1_000.0,
+                    histogram.getMax() / 1_000.0);
         }
 
         Map<Integer, List<String>> starvationEvents = result.getStarvationEventsByProcess();
-        if (!starvationEvents.isEmpty()) {
+        if (!result.hasDetails() && !result.getStarvationNotices().isEmpty()) {
+            System.out.println("Starvation notices:");
+            for (String notice : result.getStarvationNotices()) {
+                System.out.println("  " + notice);
+            }
+        } else if (!starvationEvents.isEmpty()) {
             System.out.println("Starvation notices:");
             starvationEvents.forEach((pid, events) -> {
                 for (String event : events) {
@@ -121,6 +484,13 @@ public class Main {
             });
         }
         System.out.println();
+        if (!printSystemCalls) {
+            return;
+        }
+        if (traceDirectory != null) {
+            System.out.println("System Call Trace: streamed to " + traceDirectory.toAbsolutePath());
+            return;
+        }
         List<String> systemCalls = result.getSystemCallLog();
         System.out.println("System Call Trace (" + systemCalls.size() + " entries):");
         for (String entry : systemCalls) {
@@ -128,15 +498,65 @@ public class Main {
         }
     }
 
+    private static void printDistribution(String label, DistributionSummary summary) {
+        System.out.printf("  %-15s %-10.2f %-10.2f %-10.2f %-10.2f %-10.2f%n",
+                label,
+                summary.getMean(),
+                summary.getP50(),
+                summary.getP90(),
+                summary.getP99(),
+                summary.getMax());
+    }
+
     private static void printComparison(List<SchedulingResult> results) {
         System.out.println();
         System.out.println("=== Comparison Summary ===");
-        System.out.printf("%-25s %-20s %-20s%n", "Scheduler", "Avg Waiting", "Avg Turnaround");
+        String name = nameColumn(results);
+        System.out.printf(name + " %-14s %-16s %-14s %-12s %-10s %-8s%n",
+                "Scheduler", "Avg Waiting", "Avg Turnaround", "Throughput", "CPU Util", "Fairness", "Starved");
         for (SchedulingResult result : results) {
-            System.out.printf("%-25s %-20.2f %-20.2f%n",
+            System.out.printf(name + " %-14.2f %-16.2f %-14.4f %-12s %-10.4f %-8d%n",
                     result.getSchedulerName(),
                     result.getAverageWaitingTime(),
-                    result.getAverageTurnaroundTime());
+                    result.getAverageTurnaroundTime(),
+                    result.getThroughput(),
+                    String.format("%.2f%%", result.getCpuUtilization() * 100.0),
+                    result.getFairnessIndex(),
+                    result.getStarvationCount());
+        }
+        printTailComparison("Waiting time", results, SchedulingResult::getWaitingSummary);
+        printTailComparison("Turnaround time", results, SchedulingResult::getTurnaroundSummary);
+        printTailComparison("Response time", results, SchedulingResult::getResponseSummary);
+        printTailComparison("Slowdown (turnaround / burst)", results, SchedulingResult::getSlowdownSummary);
+    }
+
+    private static void printTailComparison(String title,
+                                            List<SchedulingResult> results,
+                                            Function<SchedulingResult, DistributionSummary> metric) {
+        System.out.println();
+        System.out.println(title + ":");
+        String name = nameColumn(results);
+        System.out.printf(name + " %-10s %-10s %-10s %-10s %-10s%n", "Scheduler", "Mean", "p50", "p90", "p99", "Max");
+        for (SchedulingResult result : results) {
+            DistributionSummary summary = metric.apply(result);
+            System.out.printf(name + " %-10.2f %-10.2f %-10.2f %-10.2f %-10.2f%n",
+                    result.getSchedulerName(),
+                    summary.getMean(),
+                    summary.getP50(),
+                    summary.getP90(),
+                    summary.getP99(),
+                    summary.getMax());
+        }
+    }
+
+    /**
+     * Returns the format of a scheduler-name column wide enough for every result, and at least 25 characters.
+     */
+    private static String nameColumn(List<SchedulingResult> results) {
+        int width = 25;
+        for (SchedulingResult result : results) {
+            width = Math.max(width, result.getSchedulerName().length());
         }
+        return "%-" + width + "s";
     }
 }
@@ -0,0 +1,440 @@
+package simulator.app;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import simulator.core.SchedulingResult;
+import simulator.core.SystemCallHandler;
+import simulator.io.Workload;
+import simulator.scheduler.PriorityScheduler;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.Scheduler;
+import simulator.scheduler.SjfScheduler;
+
+/**
+ * Tunes the round-robin quantum, the priority aging interval, and the memory size by simulating one parsed
+ * workload under many parameter combinations in parallel on a fork-join pool. Every combination is written to
+ * a CSV results table, and the Pareto frontier between mean turnaround and p99 response time is printed.
+ */
+public class ParameterSweep {
+    /**
+     * Scheduling algorithms a sweep can evaluate.
+     */
+    public enum Algorithm {
+        SJF,
+        ROUND_ROBIN,
+        PRIORITY
+    }
+
+    private final Workload workload;
+    private final ForkJoinPool pool;
+
+    public ParameterSweep(Workload workload, int parallelism) {
+        this.workload = workload;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Enumerates every combination of the ranges; SJF only varies memory, round robin adds the quantum and
+     * priority scheduling the aging interval. Memory sizes too small for the largest job are skipped.
+     */
+    public List<Point> grid(Range quanta, Range agingIntervals, Range memorySizes) {
+        List<Point> points = new ArrayList<>();
+        for (int memory : feasibleMemorySizes(memorySizes)) {
+            points.add(new Point(Algorithm.SJF, 0, 0, memory));
+            for (int quantum : quanta.values()) {
+                points.add(new Point(Algorithm.ROUND_ROBIN, quantum, 0, memory));
+            }
+            for (int aging : agingIntervals.values()) {
+                points.add(new Point(Algorithm.PRIORITY, 0, aging, memory));
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Draws {@code samples} random configurations per tunable algorithm from the ranges. SJF has no parameter
+     * besides memory, so it is simulated once per distinct memory size drawn.
+     */
+    public List<Point> random(Range quanta, Range agingIntervals, Range memorySizes, int samples, long seed) {
+        List<Integer> memories = feasibleMemorySizes(memorySizes);
+        Random random = new Random(seed);
+        Set<Integer> sjfMemories = new TreeSet<>();
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < samples; i++) {
+            int memory = pick(memories, random);
+            if (sjfMemories.add(memory)) {
+                points.add(new Point(Algorithm.SJF, 0, 0, memory));
+            }
+            points.add(new Point(Algorithm.ROUND_ROBIN, pick(quanta.values(), random), 0, pick(memories, random)));
+            points.add(new Point(Algorithm.PRIORITY, 0, pick(agingIntervals.values(), random), pick(memories, random)));
+        }
+        return points;
+    }
+
+    private List<Integer> feasibleMemorySizes(Range memorySizes) {
+        List<Integer> feasible = new ArrayList<>();
+        for (int memory : memorySizes.values()) {
+            if (memory >= workload.getMaxMemoryRequired()) {
+                feasible.add(memory);
+            }
+        }
+        if (feasible.isEmpty()) {
+            throw new IllegalArgumentException("No memory size fits the largest job ("
+                    + workload.getMaxMemoryRequired() + "MB)");
+        }
+        return feasible;
+    }
+
+    private static int pick(List<Integer> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * Simulates every point on the fork-join pool and marks the Pareto-optimal outcomes.
+     */
+    public List<Outcome> run(List<Point> points) {
+        if (points.isEmpty()) {
+            return List.of();
+        }
+        List<Outcome> outcomes = pool.invoke(new SweepTask(points, 0, points.size()));
+        markParetoFrontier(outcomes);
+        return outcomes;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private Outcome evaluate(Point point) {
+        SimulationOptions options = new SimulationOptions()
+                .setTraceLevel(SystemCallHandler.TraceLevel.OFF)
+                .setMemorySize(point.getMemorySize());
+        try {
+            SchedulingResult result = new SimulationRunner(workload, options).execute(point.createScheduler());
+            return new Outcome(point,
+                    result.getAverageWaitingTime(),
+                    result.getAverageTurnaroundTime(),
+                    result.getResponseSummary().getP99(),
+                    result.getThroughput());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Sweep interrupted", ex);
+        }
+    }
+
+    /**
+     * Flags outcomes that no other outcome beats on both mean turnaround and p99 response time.
+     */
+    static void markParetoFrontier(List<Outcome> outcomes) {
+        List<Outcome> sorted = new ArrayList<>(outcomes);
+        sorted.sort(Comparator.comparingDouble(Outcome::getMeanTurnaround)
+                .thenComparingDouble(Outcome::getP99Response));
+        double bestResponse = Double.POSITIVE_INFINITY;
+        double frontierTurnaround = Double.NaN;
+        for (Outcome outcome : sorted) {
+            boolean improves = outcome.getP99Response() < bestResponse;
+            // Exact ties with the last frontier point are equally optimal.
+            boolean ties = outcome.getP99Response() == bestResponse && outcome.getMeanTurnaround() == frontierTurnaround;
+            if (improves || ties) {
+                outcome.paretoOptimal = true;
+                bestResponse = outcome.getP99Response();
+                frontierTurnaround = outcome.getMeanTurnaround();
+            }
+        }
+    }
+
+    /**
+     * Writes every outcome as one CSV row; parameters that do not apply to an algorithm are left empty.
+     */
+    public static void writeCsv(Path file, List<Outcome> outcomes) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("algorithm,quantum,aging_interval,memory_mb,avg_waiting,avg_turnaround,p99_response,throughput,pareto");
+            out.newLine();
+            for (Outcome outcome : outcomes) {
+                Point point = outcome.getPoint();
+                out.write(point.getAlgorithm().name());
+                out.write(',');
+                out.write(point.getQuantum() > 0 ? Integer.toString(point.getQuantum()) : "");
+                out.write(',');
+                out.write(point.getAgingInterval() > 0 ? Integer.toString(point.getAgingInterval()) : "");
+                out.write(',');
+                out.write(Integer.toString(point.getMemorySize()));
+                out.write(',');
+                out.write(Double.toString(outcome.getMeanWaiting()));
+                out.write(',');
+                out.write(Double.toString(outcome.getMeanTurnaround()));
+                out.write(',');
+                out.write(Double.toString(outcome.getP99Response()));
+                out.write(',');
+                out.write(Double.toString(outcome.getThroughput()));
+                out.write(',');
+                out.write(Boolean.toString(outcome.isParetoOptimal()));
+                out.newLine();
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        Path jobFile = Path.of("job.txt");
+        Path output = Path.of("sweep-results.csv");
+        Range quanta = new Range(1, 20, 1);
+        Range agingIntervals = new Range(1, 20, 1);
+        Range memorySizes = new Range(2048, 2048, 1);
+        int samples = 0;
+        long seed = 227L;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--jobs") && i + 1 < args.length) {
+                    jobFile = Path.of(args[++i]);
+                } else if (args[i].equals("--out") && i + 1 < args.length) {
+                    output = Path.of(args[++i]);
+                } else if (args[i].equals("--quantum") && i + 1 < args.length) {
+                    quanta = Range.parse(args[++i]);
+                } else if (args[i].equals("--aging") && i + 1 < args.length) {
+                    agingIntervals = Range.parse(args[++i]);
+                } else if (args[i].equals("--memory") && i + 1 < args.length) {
+                    memorySizes = Range.parse(args[++i]);
+                } else if (args[i].equals("--random") && i + 1 < args.length) {
+                    samples = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--seed") && i + 1 < args.length) {
+                    seed = Long.parseLong(args[++i]);
+                } else if (args[i].equals("--parallelism") && i + 1 < args.length) {
+                    parallelism = Integer.parseInt(args[++i]);
+                } else {
+                    System.err.println("Unknown argument: " + args[i]);
+                    return;
+                }
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Invalid argument: " + ex.getMessage());
+            return;
+        }
+
+        Workload workload;
+        try {
+            workload = Workload.load(jobFile);
+        } catch (IOException | RuntimeException ex) {
+            System.err.println("Failed to load " + jobFile.toAbsolutePath() + ": " + ex.getMessage());
+            return;
+        }
+        ParameterSweep sweep = new ParameterSweep(workload, parallelism);
+        try {
+            List<Point> points = samples > 0
+                    ? sweep.random(quanta, agingIntervals, memorySizes, samples, seed)
+                    : sweep.grid(quanta, agingIntervals, memorySizes);
+            long started = System.nanoTime();
+            List<Outcome> outcomes = sweep.run(points);
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+            writeCsv(output, outcomes);
+            printFrontier(outcomes, workload, elapsedMillis, parallelism, output);
+        } catch (IOException ex) {
+            System.err.println("Failed to write " + output.toAbsolutePath() + ": " + ex.getMessage());
+        } catch (RuntimeException ex) {
+            System.err.println("Sweep failed: " + ex.getMessage());
+        } finally {
+            sweep.shutdown();
+        }
+    }
+
+    private static void printFrontier(List<Outcome> outcomes, Workload workload, long elapsedMillis, int parallelism, Path output) {
+        System.out.println("Simulated " + outcomes.size() + " configurations of " + workload.size() + " jobs in "
+                + elapsedMillis + " ms on " + parallelism + " workers");
+        System.out.println("Results table: " + output.toAbsolutePath());
+        System.out.println();
+        System.out.println("Pareto frontier (mean turnaround vs p99 response):");
+        System.out.printf("  %-12s %-9s %-9s %-9s %-15s %-12s %-12s%n",
+                "Algorithm", "Quantum", "Aging", "Memory", "Avg Turnaround", "p99 Response", "Avg Waiting");
+        List<Outcome> frontier = new ArrayList<>();
+        for (Outcome outcome : outcomes) {
+            if (outcome.isParetoOptimal()) {
+                frontier.add(outcome);
+            }
+        }
+        frontier.sort(Comparator.comparingDouble(Outcome::getMeanTurnaround));
+        for (Outcome outcome : frontier) {
+            Point point = outcome.getPoint();
+            System.out.printf(Locale.ROOT, "  %-12s %-9s %-9s %-9d %-15.2f %-12.2f %-12.2f%n",
+                    point.getAlgorithm(),
+                    point.getQuantum() > 0 ? Integer.toString(point.getQuantum()) : "-",
+                    point.getAgingInterval() > 0 ? Integer.toString(point.getAgingInterval()) : "-",
+                    point.getMemorySize(),
+                    outcome.getMeanTurnaround(),
+                    outcome.getP99Response(),
+                    outcome.getMeanWaiting());
+        }
+    }
+
+    /**
+     * Splits the point list in halves until single configurations remain, then simulates each.
+     */
+    private final class SweepTask extends RecursiveTask<List<Outcome>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Point> points;
+        private final int from;
+        private final int to;
+
+        SweepTask(List<Point> points, int from, int to) {
+            this.points = points;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Outcome> compute() {
+            if (to - from == 1) {
+                List<Outcome> single = new ArrayList<>(1);
+                single.add(evaluate(points.get(from)));
+                return single;
+            }
+            int middle = (from + to) >>> 1;
+            SweepTask left = new SweepTask(points, from, middle);
+            left.fork();
+            List<Outcome> right = new SweepTask(points, middle, to).compute();
+            List<Outcome> merged = left.join();
+            merged.addAll(right);
+            return merged;
+        }
+    }
+
+    /**
+     * Inclusive integer range with a step, written {@code min:max[:step]} or as a single value.
+     */
+    public static final class Range {
+        private final int min;
+        private final int max;
+        private final int step;
+
+        public Range(int min, int max, int step) {
+            if (min <= 0 || max < min || step <= 0) {
+                throw new IllegalArgumentException("Invalid range " + min + ":" + max + ":" + step);
+            }
+            this.min = min;
+            this.max = max;
+            this.step = step;
+        }
+
+        public static Range parse(String text) {
+            String[] parts = text.split(":");
+            if (parts.length > 3) {
+                throw new IllegalArgumentException("Invalid range " + text);
+            }
+            int min = Integer.parseInt(parts[0].trim());
+            int max = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : min;
+            int step = parts.length > 2 ? Integer.parseInt(parts[2].trim()) : 1;
+            return new Range(min, max, step);
+        }
+
+        public List<Integer> values() {
+            List<Integer> values = new ArrayList<>();
+            for (int value = min; value <= max; value += step) {
+                values.add(value);
+            }
+            return values;
+        }
+    }
+
+    /**
+     * One scheduler configuration; parameters that do not apply to the algorithm are zero.
+     */
+    public static final class Point {
+        private final Algorithm algorithm;
+        private final int quantum;
+        private final int agingInterval;
+        private final int memorySize;
+
+        public Point(Algorithm algorithm, int quantum, int agingInterval, int memorySize) {
+            this.algorithm = algorithm;
+            this.quantum = quantum;
+            this.agingInterval = agingInterval;
+            this.memorySize = memorySize;
+        }
+
+        public Scheduler createScheduler() {
+            switch (algorithm) {
+                case SJF:
+                    return new SjfScheduler();
+                case ROUND_ROBIN:
+                    return new RoundRobinScheduler(quantum);
+                case PRIORITY:
+                    return new PriorityScheduler(agingInterval);
+                default:
+                    throw new IllegalStateException("Unknown algorithm " + algorithm);
+            }
+        }
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public int getQuantum() {
+            return quantum;
+        }
+
+        public int getAgingInterval() {
+            return agingInterval;
+        }
+
+        public int getMemorySize() {
+            return memorySize;
+        }
+    }
+
+    /**
+     * Metrics of one simulated configuration.
+     */
+    public static final class Outcome {
+        private final Point point;
+        private final double meanWaiting;
+        private final double meanTurnaround;
+        private final double p99Response;
+        private final double throughput;
+        private boolean paretoOptimal;
+
+        Outcome(Point point, double meanWaiting, double meanTurnaround, double p99Response, double throughput) {
+            this.point = point;
+            this.meanWaiting = meanWaiting;
+            this.meanTurnaround = meanTurnaround;
+            this.p99Response = p99Response;
+            this.throughput = throughput;
+        }
+
+        public Point getPoint() {
+            return point;
+        }
+
+        public double getMeanWaiting() {
+            return meanWaiting;
+        }
+
+        public double getMeanTurnaround() {
+            return meanTurnaround;
+        }
+
+        public double getP99Response() {
+            return p99Response;
+        }
+
+        public double getThroughput() {
+            return throughput;
+        }
+
+        public boolean isParetoOptimal() {
+            return paretoOptimal;
+        }
+    }
+}
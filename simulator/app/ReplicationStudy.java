@@ -0,0 +1,309 @@
+package simulator.app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToDoubleFunction;
+
+import simulator.core.RunningStatistics;
+import simulator.core.SchedulingResult;
+import simulator.core.SystemCallHandler;
+import simulator.io.JobReader;
+import simulator.io.Workload;
+import simulator.io.WorkloadGenerator;
+import simulator.scheduler.AgingPolicy;
+import simulator.scheduler.MemoryAwareSjfScheduler;
+import simulator.scheduler.PriorityScheduler;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.Scheduler;
+import simulator.scheduler.SjfScheduler;
+
+/**
+ * Monte Carlo replication of the schedulers over independent seeded synthetic workloads. Replications run in
+ * parallel on a fork-join pool; each one feeds the same workload to every scheduler, so differences between
+ * schedulers can be compared pairwise. Results are aggregated with streaming statistics and reported as means
+ * with 95% confidence intervals.
+ */
+public class ReplicationStudy {
+    /**
+     * Per-run metrics aggregated across replications.
+     */
+    public enum Metric {
+        WAITING("Avg waiting", SchedulingResult::getAverageWaitingTime),
+        TURNAROUND("Avg turnaround", SchedulingResult::getAverageTurnaroundTime),
+        RESPONSE("Avg response", result -> result.getResponseSummary().getMean()),
+        P99_WAITING("p99 waiting", result -> result.getWaitingSummary().getP99()),
+        P99_RESPONSE("p99 response", result -> result.getResponseSummary().getP99()),
+        // Scaled so two decimals still separate schedulers.
+        THROUGHPUT("Jobs per 1000 units", result -> result.getThroughput() * 1000.0),
+        STARVED("Starved jobs", SchedulingResult::getStarvationCount);
+
+        private final String label;
+        private final ToDoubleFunction<SchedulingResult> extractor;
+
+        Metric(String label, ToDoubleFunction<SchedulingResult> extractor) {
+            this.label = label;
+            this.extractor = extractor;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        double of(SchedulingResult result) {
+            return extractor.applyAsDouble(result);
+        }
+    }
+
+    // Spreads consecutive replication indices across the seed space.
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private final List<Scheduler> schedulers;
+    private final WorkloadGenerator generator;
+    private final SimulationOptions options;
+    private final long seed;
+
+    public ReplicationStudy(List<Scheduler> schedulers, WorkloadGenerator generator, int memorySize, long seed) {
+        this.schedulers = List.copyOf(schedulers);
+        this.generator = generator;
+        this.options = new SimulationOptions()
+                .setTraceLevel(SystemCallHandler.TraceLevel.OFF)
+                .setMemorySize(memorySize);
+        this.seed = seed;
+    }
+
+    /**
+     * Runs {@code replications} independent replications on a pool of {@code parallelism} workers.
+     */
+    public Summary run(int replications, int parallelism) {
+        if (replications <= 0) {
+            throw new IllegalArgumentException("Replication count must be positive");
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new ReplicationTask(0, replications));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Summary replicate(int replication) {
+        Workload workload = generator.generate(seed + replication * SEED_STRIDE);
+        double[][] values = new double[schedulers.size()][Metric.values().length];
+        for (int s = 0; s < schedulers.size(); s++) {
+            SchedulingResult result;
+            try {
+                result = new SimulationRunner(workload, options).execute(schedulers.get(s));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Replication interrupted", ex);
+            }
+            for (Metric metric : Metric.values()) {
+                values[s][metric.ordinal()] = metric.of(result);
+            }
+        }
+        Summary summary = new Summary(schedulers.size());
+        summary.add(values);
+        return summary;
+    }
+
+    public static void main(String[] args) {
+        int replications = 30;
+        int jobCount = 20;
+        WorkloadGenerator.Distribution distribution = WorkloadGenerator.Distribution.EXPONENTIAL;
+        int maxMemoryPerJob = 512;
+        int memorySize = JobReader.DEFAULT_MEMORY_LIMIT;
+        int quantum = RoundRobinScheduler.DEFAULT_TIME_QUANTUM;
+        int agingInterval = PriorityScheduler.DEFAULT_AGING_INTERVAL;
+        List<AgingPolicy> agingPolicies = List.of(AgingPolicy.Standard.LINEAR);
+        long seed = 227L;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        List<Scheduler> schedulers;
+        WorkloadGenerator generator;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--replications") && i + 1 < args.length) {
+                    replications = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--jobs") && i + 1 < args.length) {
+                    jobCount = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--distribution") && i + 1 < args.length) {
+                    distribution = WorkloadGenerator.Distribution.parse(args[++i]);
+                } else if (args[i].equals("--job-memory") && i + 1 < args.length) {
+                    maxMemoryPerJob = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--memory") && i + 1 < args.length) {
+                    memorySize = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--quantum") && i + 1 < args.length) {
+                    quantum = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--aging") && i + 1 < args.length) {
+                    agingInterval = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--aging-policy") && i + 1 < args.length) {
+                    agingPolicies = Main.parseAgingPolicies(args[++i]);
+                } else if (args[i].equals("--seed") && i + 1 < args.length) {
+                    seed = Long.parseLong(args[++i]);
+                } else if (args[i].equals("--parallelism") && i + 1 < args.length) {
+                    parallelism = Integer.parseInt(args[++i]);
+                } else {
+                    System.err.println("Unknown argument: " + args[i]);
+                    return;
+                }
+            }
+            if (maxMemoryPerJob > memorySize) {
+                throw new IllegalArgumentException("--job-memory exceeds --memory");
+            }
+            schedulers = new ArrayList<>(List.of(new SjfScheduler(), new MemoryAwareSjfScheduler(),
+                    new RoundRobinScheduler(quantum)));
+            for (AgingPolicy policy : agingPolicies) {
+                schedulers.add(new PriorityScheduler(agingInterval, policy));
+            }
+            generator = new WorkloadGenerator(jobCount, distribution, maxMemoryPerJob);
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Invalid argument: " + ex.getMessage());
+            return;
+        }
+
+        ReplicationStudy study = new ReplicationStudy(schedulers, generator, memorySize, seed);
+        long started = System.nanoTime();
+        Summary summary;
+        try {
+            summary = study.run(replications, parallelism);
+        } catch (RuntimeException ex) {
+            System.err.println("Replication failed: " + ex.getMessage());
+            return;
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+        System.out.println(replications + " replications of " + jobCount + " " + distribution.name().toLowerCase(Locale.ROOT)
+                + " jobs (seed " + seed + ") in " + elapsedMillis + " ms on " + parallelism + " workers");
+        study.print(summary);
+    }
+
+    private void print(Summary summary) {
+        for (Metric metric : Metric.values()) {
+            System.out.println();
+            System.out.println(metric.getLabel() + " (mean +/- 95% CI):");
+            for (int s = 0; s < schedulers.size(); s++) {
+                RunningStatistics stats = summary.get(s, metric);
+                System.out.printf(Locale.ROOT, "  %-39s %9.2f +/- %-8.2f sd %-8.2f range %.2f..%.2f%n",
+                        schedulers.get(s).getName(),
+                        stats.getMean(),
+                        stats.getConfidenceHalfWidth(),
+                        stats.getStandardDeviation(),
+                        stats.getMin(),
+                        stats.getMax());
+            }
+        }
+
+        System.out.println();
+        System.out.println("Paired differences (row minus column, same workloads):");
+        for (Metric metric : Metric.values()) {
+            System.out.println("  " + metric.getLabel() + ":");
+            for (int a = 0; a < schedulers.size(); a++) {
+                for (int b = a + 1; b < schedulers.size(); b++) {
+                    RunningStatistics difference = summary.getDifference(a, b, metric);
+                    double half = difference.getConfidenceHalfWidth();
+                    boolean significant = Math.abs(difference.getMean()) > half;
+                    System.out.printf(Locale.ROOT, "    %-39s vs %-39s %+9.2f +/- %-8.2f %s%n",
+                            schedulers.get(a).getName(),
+                            schedulers.get(b).getName(),
+                            difference.getMean(),
+                            half,
+                            significant ? "significant" : "not significant");
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the replication range in halves, runs each replication at the leaves, and merges the partial statistics.
+     */
+    private final class ReplicationTask extends RecursiveTask<Summary> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        ReplicationTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Summary compute() {
+            if (to - from == 1) {
+                return replicate(from);
+            }
+            int middle = (from + to) >>> 1;
+            ReplicationTask left = new ReplicationTask(from, middle);
+            left.fork();
+            Summary right = new ReplicationTask(middle, to).compute();
+            Summary merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+    }
+
+    /**
+     * Streaming statistics per scheduler and metric, plus per-replication differences for every scheduler pair.
+     */
+    public static final class Summary {
+        private final int schedulerCount;
+        private final RunningStatistics[][] perScheduler;
+        private final RunningStatistics[][] differences;
+
+        Summary(int schedulerCount) {
+            this.schedulerCount = schedulerCount;
+            int metrics = Metric.values().length;
+            this.perScheduler = new RunningStatistics[schedulerCount][metrics];
+            this.differences = new RunningStatistics[schedulerCount * schedulerCount][metrics];
+            for (int s = 0; s < schedulerCount; s++) {
+                for (int m = 0; m < metrics; m++) {
+                    perScheduler[s][m] = new RunningStatistics();
+                }
+            }
+            for (int p = 0; p < differences.length; p++) {
+                for (int m = 0; m < metrics; m++) {
+                    differences[p][m] = new RunningStatistics();
+                }
+            }
+        }
+
+        void add(double[][] values) {
+            for (int a = 0; a < schedulerCount; a++) {
+                for (int m = 0; m < values[a].length; m++) {
+                    perScheduler[a][m].add(values[a][m]);
+                    for (int b = a + 1; b < schedulerCount; b++) {
+                        differences[a * schedulerCount + b][m].add(values[a][m] - values[b][m]);
+                    }
+                }
+            }
+        }
+
+        void merge(Summary other) {
+            for (int s = 0; s < perScheduler.length; s++) {
+                for (int m = 0; m < perScheduler[s].length; m++) {
+                    perScheduler[s][m].merge(other.perScheduler[s][m]);
+                }
+            }
+            for (int p = 0; p < differences.length; p++) {
+                for (int m = 0; m < differences[p].length; m++) {
+                    differences[p][m].merge(other.differences[p][m]);
+                }
+            }
+        }
+
+        public RunningStatistics get(int scheduler, Metric metric) {
+            return perScheduler[scheduler][metric.ordinal()];
+        }
+
+        /**
+         * Statistics of {@code metric(a) - metric(b)} over replications, for {@code a < b}.
+         */
+        public RunningStatistics getDifference(int a, int b, Metric metric) {
+            if (a >= b) {
+                throw new IllegalArgumentException("Pairs are indexed with a < b");
+            }
+            return differences[a * schedulerCount + b][metric.ordinal()];
+        }
+    }
+}
@@ -1,16 +1,28 @@
 package simulator.app;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import simulator.core.IoDevice;
+import simulator.core.LatencyProfile;
+import simulator.core.LiveExecutor;
+import simulator.core.MetricsAccumulator;
 import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
 import simulator.core.SimulationClock;
 import simulator.core.SystemCallHandler;
 import simulator.memory.MemoryManager;
+import simulator.io.AdmissionController;
+import simulator.io.CheckpointWriter;
+import simulator.io.JobStream;
 import simulator.io.ProcessLoader;
+import simulator.io.RunRecorder;
+import simulator.io.RunRecording;
 
 /**
  * Shared view of the simulation environment that allows schedulers to cooperate with loader threads.
@@ -23,6 +35,27 @@ public class SimulationContext {
     private final ProcessLoader loader;
     private final AtomicBoolean readerFinished;
     private final AtomicInteger totalJobs;
+    private final LatencyProfile latencies;
+    private final boolean retainDetails;
+    private final ProcessTable processTable;
+    private final LiveExecutor liveExecutor;
+    // Devices are created on first use, indexed by the device number in the job file; only the scheduler thread touches them.
+    private final List<IoDevice> devices = new ArrayList<>();
+    private boolean openEnded;
+    private volatile MetricsAccumulator metrics;
+    private CheckpointWriter checkpointWriter;
+    private String checkpointScheduler;
+    private long checkpointInterval;
+    private long nextCheckpointDispatch;
+    private MetricsAccumulator restoredMetrics;
+    private int[] restoredReadySlots = new int[0];
+    private RunRecorder recorder;
+    private RunRecording replay;
+    private ClusterSimulation.Node clusterNode;
+    private AdmissionController admission;
+    private JobStream recyclingStream;
+    // Numbers every observation the scheduler thread makes of the reader and loader, so a replay can line them up.
+    private long step;
 
     public SimulationContext(BlockingQueue<ProcessControlBlock> readyQueue,
                              MemoryManager memoryManager,
@@ -30,7 +63,28 @@ public class SimulationContext {
                              SimulationClock clock,
                              ProcessLoader loader,
                              AtomicBoolean readerFinished,
-                             AtomicInteger totalJobs) {
+                             AtomicInteger totalJobs,
+                             LatencyProfile latencies,
+                             boolean retainDetails,
+                             ProcessTable processTable) {
+        this(readyQueue, memoryManager, systemCalls, clock, loader, readerFinished, totalJobs, latencies,
+                retainDetails, processTable, null);
+    }
+
+    /**
+     * Creates a context whose CPU bursts are executed as real work by {@code liveExecutor}; pass null to simulate only.
+     */
+    public SimulationContext(BlockingQueue<ProcessControlBlock> readyQueue,
+                             MemoryManager memoryManager,
+                             SystemCallHandler systemCalls,
+                             SimulationClock clock,
+                             ProcessLoader loader,
+                             AtomicBoolean readerFinished,
+                             AtomicInteger totalJobs,
+                             LatencyProfile latencies,
+                             boolean retainDetails,
+                             ProcessTable processTable,
+                             LiveExecutor liveExecutor) {
         this.readyQueue = readyQueue;
         this.memoryManager = memoryManager;
         this.systemCalls = systemCalls;
@@ -38,6 +92,10 @@ public class SimulationContext {
         this.loader = loader;
         this.readerFinished = readerFinished;
         this.totalJobs = totalJobs;
+        this.latencies = latencies;
+        this.retainDetails = retainDetails;
+        this.processTable = processTable;
+        this.liveExecutor = liveExecutor;
     }
 
     public MemoryManager getMemoryManager() {
@@ -52,18 +110,371 @@ public class SimulationContext {
         return clock;
     }
 
+    public LatencyProfile getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the table holding every PCB of this run; schedulers index it by slot.
+     */
+    public ProcessTable getProcessTable() {
+        return processTable;
+    }
+
+    /**
+     * Resolves a PCB to its slot in the run's table, rejecting PCBs created elsewhere.
+     */
+    public int slotOf(ProcessControlBlock pcb) {
+        if (pcb.getTable() != processTable) {
+            throw new IllegalStateException("Process " + pcb.getId() + " does not belong to this simulation's process table");
+        }
+        return pcb.getSlot();
+    }
+
+    /**
+     * Creates the accumulator a scheduler feeds with slices and completions; it drops the raw data in streaming mode.
+     * A resumed run gets the accumulator saved in its checkpoint.
+     */
+    public MetricsAccumulator createMetricsAccumulator() {
+        MetricsAccumulator created = restoredMetrics != null ? restoredMetrics : new MetricsAccumulator(retainDetails);
+        restoredMetrics = null;
+        metrics = created;
+        return created;
+    }
+
+    /**
+     * Returns the accumulator the scheduler is feeding, or null before it starts. Only the completed count is
+     * safe to read from other threads; the averages may be momentarily stale.
+     */
+    public MetricsAccumulator getRunningMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Marks a run whose jobs keep arriving until the source closes. Scheduling then proceeds as soon as the
+     * loader has caught up with the jobs submitted so far, instead of waiting for the reader to finish.
+     */
+    void setOpenEnded(boolean openEnded) {
+        this.openEnded = openEnded;
+    }
+
+    /**
+     * Has the scheduler thread hand a checkpoint to {@code writer} every {@code interval} dispatches.
+     */
+    void enableCheckpoints(CheckpointWriter writer, String schedulerName, long interval) {
+        this.checkpointWriter = writer;
+        this.checkpointScheduler = schedulerName;
+        this.checkpointInterval = interval;
+        this.nextCheckpointDispatch = systemCalls.getDispatchCount() + interval;
+    }
+
+    /**
+     * Logs what the scheduler thread observes of the loader at each step, for a later replay.
+     */
+    void enableRecording(RunRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Serves every observation of the loader from {@code replay} instead; the loader thread must not be started,
+     * and the recorded jobs must already be on the job queue.
+     */
+    void enableReplay(RunRecording replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Has the scheduler thread make the admission decisions of {@code admission} at each drain, once the loader
+     * has gone idle.
+     */
+    void enableAdmissionControl(AdmissionController admission) {
+        this.admission = admission;
+    }
+
+    /**
+     * Hands the rows and ids of completed processes back to {@code stream} at each drain, so they can be reused.
+     */
+    void enableRecycling(JobStream stream) {
+        this.recyclingStream = stream;
+    }
+
+    /**
+     * Makes the run one node of a cluster: the scheduler thread then waits at each decision point until the
+     * dispatcher has handed over every job arriving up to the node's current time.
+     */
+    void joinCluster(ClusterSimulation.Node clusterNode) {
+        this.clusterNode = clusterNode;
+    }
+
+    /**
+     * Takes over the devices, metrics, and scheduler ready set saved in {@code checkpoint}; the runner restores
+     * the rest before the loader starts.
+     */
+    void restore(Checkpoint checkpoint) {
+        devices.clear();
+        devices.addAll(checkpoint.getDevices());
+        restoredMetrics = checkpoint.getMetrics();
+        restoredReadySlots = checkpoint.getSchedulerSlots();
+    }
+
+    /**
+     * Returns the scheduler's ready set saved by a checkpoint, in the scheduler's own order, or an empty array
+     * for a fresh run. Schedulers seed their ready structure with it before their first iteration.
+     */
+    public int[] getRestoredReadySlots() {
+        return restoredReadySlots;
+    }
+
+    /**
+     * Reports whether a checkpoint should be taken now. Schedulers ask right after draining the ready queue,
+     * where the loader is idle; runs whose reader is still producing jobs, or that are open-ended, are skipped.
+     */
+    public boolean isCheckpointDue() {
+        return checkpointWriter != null
+                && !openEnded
+                && systemCalls.getDispatchCount() >= nextCheckpointDispatch
+                && readerFinished.get();
+    }
+
+    /**
+     * Serializes the run's state, with {@code readySlots} as the scheduler's ready set in its own order, and hands
+     * it to the background writer. Only what changed since the previous checkpoint is serialized, except when the
+     * writer asks for a new full base.
+     */
+    public void checkpoint(int[] readySlots) {
+        if (checkpointWriter.isBaseDue()) {
+            checkpointWriter.submitBase(Checkpoint.capture(checkpointScheduler, this, readySlots, true));
+        } else {
+            checkpointWriter.submitDelta(Checkpoint.capture(checkpointScheduler, this, readySlots, false));
+        }
+        nextCheckpointDispatch = systemCalls.getDispatchCount() + checkpointInterval;
+    }
+
+    List<ProcessControlBlock> getPendingJobs() {
+        return loader.getPendingJobs();
+    }
+
+    List<ProcessControlBlock> getQueuedReady() {
+        return new ArrayList<>(readyQueue);
+    }
+
+    public boolean isLive() {
+        return liveExecutor != null;
+    }
+
+    /**
+     * In live mode, runs the units just granted by {@link ProcessControlBlock#consumeCpu(int)} as real CPU work
+     * on the process's worker thread and returns once it yields; in simulated mode this does nothing.
+     */
+    public void runOnCpu(ProcessControlBlock pcb, int units) throws InterruptedException {
+        if (liveExecutor != null && units > 0) {
+            liveExecutor.run(pcb, units);
+        }
+    }
+
+    /**
+     * Returns the I/O devices used so far in this run, in index order.
+     */
+    public List<IoDevice> getDevices() {
+        return Collections.unmodifiableList(devices);
+    }
+
+    private IoDevice device(int index) {
+        while (devices.size() <= index) {
+            devices.add(new IoDevice(devices.size()));
+        }
+        return devices.get(index);
+    }
+
+    /**
+     * Blocks a process whose CPU burst just ended on its next I/O burst. The process keeps its memory while waiting.
+     */
+    public void blockForIo(ProcessControlBlock pcb) {
+        long now = clock.getTime();
+        int burst = pcb.getPendingIoBurst();
+        int index = pcb.getPendingIoDevice();
+        pcb.markWaiting();
+        systemCalls.requestIo(pcb, now, burst, index);
+        device(index).submit(pcb, now, burst);
+    }
+
+    /**
+     * Moves processes whose I/O has completed by the current time back to the ready state, earliest completion first.
+     */
+    public void collectIoCompletions(List<ProcessControlBlock> target) {
+        long now = clock.getTime();
+        while (true) {
+            IoDevice earliest = null;
+            for (IoDevice device : devices) {
+                if (device.peekCompletionTime() <= now
+                        && (earliest == null || device.peekCompletionTime() < earliest.peekCompletionTime())) {
+                    earliest = device;
+                }
+            }
+            if (earliest == null) {
+                return;
+            }
+            long completion = earliest.peekCompletionTime();
+            ProcessControlBlock pcb = earliest.pollCompleted(now);
+            pcb.completeIo(completion, getDegreeOfMultiprogramming());
+            systemCalls.completeIo(pcb, completion, earliest.getIndex());
+            target.add(pcb);
+        }
+    }
+
+    public boolean hasPendingIo() {
+        for (IoDevice device : devices) {
+            if (device.hasPending()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the simulated time the earliest outstanding I/O burst completes, or {@link Long#MAX_VALUE} if none is pending.
+     */
+    public long getNextIoCompletionTime() {
+        long next = Long.MAX_VALUE;
+        for (IoDevice device : devices) {
+            next = Math.min(next, device.peekCompletionTime());
+        }
+        return next;
+    }
+
+    /**
+     * Returns the simulated time of the next job arrival not yet handed to this run, or {@link Long#MAX_VALUE}
+     * if none is known. Only cluster nodes learn of arrivals ahead of time; schedulers that advance the clock
+     * over several events should not step past it.
+     */
+    public long getNextArrivalTime() {
+        return clusterNode == null ? Long.MAX_VALUE : clusterNode.getNextArrivalTime();
+    }
+
+    /**
+     * Leaves the CPU idle until the earliest outstanding I/O burst completes, or a cluster node's next arrival.
+     */
+    public void idleUntilNextIoCompletion() {
+        long next = Math.min(getNextIoCompletionTime(), getNextArrivalTime());
+        long now = clock.getTime();
+        if (next != Long.MAX_VALUE && next > now) {
+            clock.advance(next - now);
+        }
+    }
+
     /**
-     * Transfers any currently available ready processes into the provided collection.
+     * Transfers any currently available ready processes into the provided collection, after waiting until the
+     * loader has admitted every job that fits or is stalled on memory. Without that wait the ready set would
+     * depend on how far the loader thread had got.
      */
     public void drainReadyQueue(List<ProcessControlBlock> target) {
+        long observation = ++step;
+        if (replay != null) {
+            for (int count = replay.drainCount(observation); count > 0; count--) {
+                loader.admitRecorded(replay.nextAdmission());
+            }
+        } else {
+            if (clusterNode != null) {
+                try {
+                    clusterNode.awaitArrivals(clock);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the cluster dispatcher", ex);
+                }
+            }
+            awaitLoaderIdle();
+            if (admission != null) {
+                admission.observe(clock.getTime());
+                while (admission.decide()) {
+                    awaitLoaderIdle();
+                }
+            }
+        }
+        if (recyclingStream != null) {
+            // Schedulers finish with a completed process before their next drain, so its row can be reused.
+            recyclingStream.recycleFinished();
+        }
+        MetricsAccumulator running = metrics;
+        if (running != null) {
+            running.sampleMemory(clock.getTime(), memoryManager.getUsedMemory(),
+                    memoryManager.getAllocatedProcessCount());
+        }
+        int before = target.size();
         readyQueue.drainTo(target);
+        int after = target.size();
+        if (after > before) {
+            if (recorder != null) {
+                recorder.drain(observation, after - before);
+            }
+            long now = System.nanoTime();
+            for (int i = before; i < after; i++) {
+                latencies.getReadyHandoff().record(now - target.get(i).getReadyEnqueueNanos());
+            }
+        }
+    }
+
+    /**
+     * Waits until the loader has admitted every job that fits, so scheduling decisions do not depend on how the
+     * loader thread happens to be interleaved with the scheduler. Blocks on the loader's progress signal rather
+     * than polling; the token is read before the state so a change in between is never missed.
+     */
+    private void awaitLoaderIdle() {
+        try {
+            while (true) {
+                long seen = loader.getProgress();
+                if (loader.isIdle() || allJobsAdmitted() || (openEnded && loaderCaughtUp())) {
+                    return;
+                }
+                loader.awaitProgress(seen);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the process loader", ex);
+        }
     }
 
     /**
      * Blocks for a limited interval waiting for the next ready process.
      */
     public ProcessControlBlock takeNextReady(long timeoutMillis) throws InterruptedException {
-        return readyQueue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        long observation = ++step;
+        ProcessControlBlock pcb;
+        if (replay != null) {
+            // A replayed take returns at once; the recorded run's timeouts carry no information.
+            if (replay.take(observation)) {
+                loader.admitRecorded(replay.nextAdmission());
+            }
+            pcb = readyQueue.poll();
+        } else {
+            if (clusterNode != null && readyQueue.isEmpty() && loaderCaughtUp() && !hasPendingIo()) {
+                // An idle node has nothing to simulate until the dispatcher sends it a job.
+                clusterNode.awaitWork(clock);
+            }
+            pcb = readyQueue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        if (pcb != null) {
+            latencies.getReadyHandoff().recordSince(pcb.getReadyEnqueueNanos());
+            if (recorder != null) {
+                recorder.take(observation);
+            }
+        }
+        return pcb;
+    }
+
+    /**
+     * Returns how many processes currently hold memory. Schedulers read it through the context rather than the
+     * memory manager because the loader may change it at any moment; recorded runs log each reading for replay.
+     */
+    public int getDegreeOfMultiprogramming() {
+        long observation = ++step;
+        if (replay != null) {
+            return replay.degree(observation);
+        }
+        int degree = memoryManager.getAllocatedProcessCount();
+        if (recorder != null) {
+            recorder.degree(observation, degree);
+        }
+        return degree;
     }
 
     public int getUsedMemory() {
@@ -86,6 +497,46 @@ public class SimulationContext {
         return loader.isLoadingComplete();
     }
 
+    public int getReadyQueueDepth() {
+        return readyQueue.size();
+    }
+
+    /**
+     * Returns how many jobs the loader has admitted to the ready queue so far.
+     */
+    public int getAdmittedCount() {
+        return loader.getAdmittedCount();
+    }
+
+    /**
+     * Returns how many jobs are waiting on the job queue for memory and admission.
+     */
+    public int getJobQueueDepth() {
+        return loader.getJobQueueDepth();
+    }
+
+    /**
+     * Captures the run's counters without taking any lock, so it can be called as often as monitoring needs.
+     */
+    public SimulationSnapshot snapshot() {
+        MetricsAccumulator running = metrics;
+        return new SimulationSnapshot(
+                System.nanoTime(),
+                clock.getTime(),
+                loader.getJobQueueDepth(),
+                readyQueue.size(),
+                memoryManager.getUsedMemory(),
+                memoryManager.getTotalMemory(),
+                memoryManager.getAllocatedProcessCount(),
+                systemCalls.getDispatchCount(),
+                totalJobs.get(),
+                loader.getAdmittedCount(),
+                running == null ? 0 : running.getCompletedCount(),
+                readerFinished.get(),
+                loader.isLoadingComplete(),
+                memoryManager.isAllocationStalled());
+    }
+
     public boolean isReadyQueueEmpty() {
         return readyQueue.isEmpty();
     }
@@ -100,12 +551,27 @@ public class SimulationContext {
         if (!readerFinished.get()) {
             return false;
         }
-        if (!loader.isLoadingComplete()) {
+        if (!allJobsAdmitted()) {
             return false;
         }
         return readyQueue.isEmpty();
     }
 
+    /**
+     * True once the reader is done and every job it read has been admitted, even if the loader thread has not
+     * yet noticed that no more work will arrive.
+     */
+    private boolean allJobsAdmitted() {
+        if (loader.isLoadingComplete()) {
+            return true;
+        }
+        return readerFinished.get() && loader.getAdmittedCount() == totalJobs.get();
+    }
+
+    private boolean loaderCaughtUp() {
+        return loader.getAdmittedCount() >= totalJobs.get();
+    }
+
     /**
      * Ensures that resources are shut down cleanly after scheduling.
      */
@@ -0,0 +1,192 @@
+package simulator.app;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Standard MBean that exposes whichever run a {@link SimulationRunner} is executing, so long simulations can be
+ * watched with JConsole or any JMX client. Every attribute is served from a lock-free {@link SimulationSnapshot}.
+ */
+public class SimulationMonitor implements SimulationMonitorMBean, AutoCloseable {
+    public static final String DOMAIN = "simulator";
+
+    // Rates over shorter windows are mostly noise, and a client reading every attribute in turn would reset them.
+    private static final long MIN_RATE_WINDOW_NANOS = 200_000_000L;
+
+    private final SimulationRunner runner;
+    private ObjectName objectName;
+
+    private SimulationContext rateContext;
+    private long rateNanos;
+    private long rateDispatches;
+    private double dispatchRate;
+
+    public SimulationMonitor(SimulationRunner runner) {
+        this.runner = runner;
+    }
+
+    /**
+     * Creates a monitor for {@code runner} and registers it with the platform MBean server as
+     * {@code simulator:type=SimulationMonitor,name=<name>}.
+     */
+    public static SimulationMonitor register(SimulationRunner runner, String name) {
+        SimulationMonitor monitor = new SimulationMonitor(runner);
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=SimulationMonitor,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(monitor, objectName);
+            monitor.objectName = objectName;
+        } catch (JMException ex) {
+            throw new RuntimeException("Failed to register simulation monitor " + name, ex);
+        }
+        return monitor;
+    }
+
+    /**
+     * Returns a snapshot of the run in progress, or null between runs.
+     */
+    public SimulationSnapshot sample() {
+        SimulationContext context = runner.getActiveContext();
+        return context == null ? null : context.snapshot();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return runner.getActiveContext() != null;
+    }
+
+    @Override
+    public String getSchedulerName() {
+        String name = runner.getActiveSchedulerName();
+        return name == null ? "" : name;
+    }
+
+    @Override
+    public long getSimulatedTime() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? 0L : snapshot.getSimulatedTime();
+    }
+
+    @Override
+    public int getJobQueueDepth() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? 0 : snapshot.getJobQueueDepth();
+    }
+
+    @Override
+    public int getReadyQueueDepth() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? 0 : snapshot.getReadyQueueDepth();
+    }
+
+    @Override
+    public int getUsedMemory() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? 0 : snapshot.getUsedMemory();
+    }
+
+    @Override
+    public int getTotalMemory() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? runner.getOptions().getMemorySize() : snapshot.getTotalMemory();
+    }
+
+    @Override
+    public int getAllocatedProcessCount() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? 0 : snapshot.getAllocatedProcessCount();
+    }
+
+    @Override
+    public long getDispatchCount() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? 0L : snapshot.getDispatchCount();
+    }
+
+    @Override
+    public synchronized double getDispatchesPerSecond() {
+        SimulationContext context = runner.getActiveContext();
+        if (context == null) {
+            rateContext = null;
+            dispatchRate = 0.0;
+            return 0.0;
+        }
+        long now = System.nanoTime();
+        long dispatches = context.getSystemCalls().getDispatchCount();
+        if (context != rateContext) {
+            // A new run started since the last sample; its rate is known after one window.
+            rateContext = context;
+            rateNanos = now;
+            rateDispatches = dispatches;
+            dispatchRate = 0.0;
+        } else if (now - rateNanos >= MIN_RATE_WINDOW_NANOS) {
+            dispatchRate = (dispatches - rateDispatches) * 1_000_000_000.0 / (now - rateNanos);
+            rateNanos = now;
+            rateDispatches = dispatches;
+        }
+        return dispatchRate;
+    }
+
+    @Override
+    public int getSubmittedJobs() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? 0 : snapshot.getSubmittedJobs();
+    }
+
+    @Override
+    public int getAdmittedJobs() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? 0 : snapshot.getAdmittedJobs();
+    }
+
+    @Override
+    public int getCompletedJobs() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? 0 : snapshot.getCompletedJobs();
+    }
+
+    @Override
+    public boolean isReaderFinished() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot != null && snapshot.isReaderFinished();
+    }
+
+    @Override
+    public boolean isLoaderFinished() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot != null && snapshot.isLoaderFinished();
+    }
+
+    @Override
+    public boolean isAllocationStalled() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot != null && snapshot.isAllocationStalled();
+    }
+
+    @Override
+    public String getSnapshot() {
+        SimulationSnapshot snapshot = sample();
+        return snapshot == null ? "running=false" : "running=true scheduler=\"" + getSchedulerName() + "\" " + snapshot;
+    }
+
+    /**
+     * Unregisters the MBean if {@link #register} registered it.
+     */
+    @Override
+    public void close() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException ex) {
+            throw new RuntimeException("Failed to unregister simulation monitor " + objectName, ex);
+        }
+        objectName = null;
+    }
+}
@@ -0,0 +1,47 @@
+package simulator.app;
+
+/**
+ * Management interface of {@link SimulationMonitor}; each attribute reads the run currently executing and
+ * reports zero or false between runs.
+ */
+public interface SimulationMonitorMBean {
+    boolean isRunning();
+
+    String getSchedulerName();
+
+    long getSimulatedTime();
+
+    int getJobQueueDepth();
+
+    int getReadyQueueDepth();
+
+    int getUsedMemory();
+
+    int getTotalMemory();
+
+    int getAllocatedProcessCount();
+
+    long getDispatchCount();
+
+    /**
+     * Dispatches per wall-clock second, averaged over the interval since the previous rate sample.
+     */
+    double getDispatchesPerSecond();
+
+    int getSubmittedJobs();
+
+    int getAdmittedJobs();
+
+    int getCompletedJobs();
+
+    boolean isReaderFinished();
+
+    boolean isLoaderFinished();
+
+    boolean isAllocationStalled();
+
+    /**
+     * Returns all counters of one snapshot as a single {@code key=value} line.
+     */
+    String getSnapshot();
+}
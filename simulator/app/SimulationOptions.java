@@ -0,0 +1,201 @@
+package simulator.app;
+
+import java.nio.file.Path;
+
+import simulator.core.SystemCallHandler;
+import simulator.io.AdmissionPolicy;
+import simulator.io.JobReader;
+
+/**
+ * Run-time settings shared by every simulation a {@link SimulationRunner} executes.
+ */
+public class SimulationOptions {
+    public static final long DEFAULT_CHECKPOINT_INTERVAL = 10_000L;
+
+    private SystemCallHandler.TraceLevel traceLevel = SystemCallHandler.TraceLevel.FULL;
+    private Path traceDirectory;
+    private Path timelineDirectory;
+    private boolean retainDetails = true;
+    private long liveUnitMicros;
+    private int memorySize = JobReader.DEFAULT_MEMORY_LIMIT;
+    private int maxJobs = JobReader.DEFAULT_MAX_JOBS;
+    private Path checkpointDirectory;
+    private long checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+    private boolean resume;
+    private Path recordDirectory;
+    private Path replayDirectory;
+    private AdmissionPolicy admissionPolicy = AdmissionPolicy.NONE;
+
+    public SystemCallHandler.TraceLevel getTraceLevel() {
+        return traceLevel;
+    }
+
+    /**
+     * Selects which system calls are recorded.
+     */
+    public SimulationOptions setTraceLevel(SystemCallHandler.TraceLevel traceLevel) {
+        this.traceLevel = traceLevel;
+        return this;
+    }
+
+    public Path getTraceDirectory() {
+        return traceDirectory;
+    }
+
+    /**
+     * Streams the system call trace into rotating files in this directory instead of keeping it in memory.
+     */
+    public SimulationOptions setTraceDirectory(Path traceDirectory) {
+        this.traceDirectory = traceDirectory;
+        return this;
+    }
+
+    public Path getTimelineDirectory() {
+        return timelineDirectory;
+    }
+
+    /**
+     * Writes a Chrome trace-event timeline for each run into this directory.
+     */
+    public SimulationOptions setTimelineDirectory(Path timelineDirectory) {
+        this.timelineDirectory = timelineDirectory;
+        return this;
+    }
+
+    public boolean isRetainDetails() {
+        return retainDetails;
+    }
+
+    /**
+     * When false, schedulers keep only streaming metrics instead of every PCB and slice. The process table
+     * still holds a row per job unless the run takes its jobs from a recycling job stream.
+     */
+    public SimulationOptions setRetainDetails(boolean retainDetails) {
+        this.retainDetails = retainDetails;
+        return this;
+    }
+
+    public long getLiveUnitMicros() {
+        return liveUnitMicros;
+    }
+
+    public boolean isLive() {
+        return liveUnitMicros > 0;
+    }
+
+    /**
+     * Runs each burst as real CPU work, one simulated unit taking this many microseconds; zero keeps runs simulated.
+     */
+    public SimulationOptions setLiveUnitMicros(long liveUnitMicros) {
+        if (liveUnitMicros < 0) {
+            throw new IllegalArgumentException("Live unit must not be negative");
+        }
+        this.liveUnitMicros = liveUnitMicros;
+        return this;
+    }
+
+    public int getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * Sets the simulated main memory in MB; every job must fit in it on its own.
+     */
+    public SimulationOptions setMemorySize(int memorySize) {
+        if (memorySize <= 0) {
+            throw new IllegalArgumentException("Memory size must be positive");
+        }
+        this.memorySize = memorySize;
+        return this;
+    }
+
+    public int getMaxJobs() {
+        return maxJobs;
+    }
+
+    /**
+     * Sets how many jobs a job file may list; {@link Integer#MAX_VALUE} lifts the limit.
+     */
+    public SimulationOptions setMaxJobs(int maxJobs) {
+        if (maxJobs <= 0) {
+            throw new IllegalArgumentException("Maximum job count must be positive");
+        }
+        this.maxJobs = maxJobs;
+        return this;
+    }
+
+    public Path getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    /**
+     * Periodically checkpoints each run into this directory, one file per scheduler.
+     */
+    public SimulationOptions setCheckpointDirectory(Path checkpointDirectory) {
+        this.checkpointDirectory = checkpointDirectory;
+        return this;
+    }
+
+    public long getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Sets how many dispatches pass between checkpoints.
+     */
+    public SimulationOptions setCheckpointInterval(long checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.checkpointInterval = checkpointInterval;
+        return this;
+    }
+
+    public boolean isResume() {
+        return resume;
+    }
+
+    /**
+     * Resumes each run from its checkpoint in the checkpoint directory when one exists.
+     */
+    public SimulationOptions setResume(boolean resume) {
+        this.resume = resume;
+        return this;
+    }
+
+    public Path getRecordDirectory() {
+        return recordDirectory;
+    }
+
+    /**
+     * Records the timing-dependent inputs of each run into a run log in this directory, one file per scheduler.
+     */
+    public SimulationOptions setRecordDirectory(Path recordDirectory) {
+        this.recordDirectory = recordDirectory;
+        return this;
+    }
+
+    public Path getReplayDirectory() {
+        return replayDirectory;
+    }
+
+    /**
+     * Replays each run from its run log in this directory instead of reading jobs and admitting them on threads.
+     */
+    public SimulationOptions setReplayDirectory(Path replayDirectory) {
+        this.replayDirectory = replayDirectory;
+        return this;
+    }
+
+    public AdmissionPolicy getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    /**
+     * Limits which jobs the loader admits into memory, on top of their having to fit.
+     */
+    public SimulationOptions setAdmissionPolicy(AdmissionPolicy admissionPolicy) {
+        this.admissionPolicy = admissionPolicy;
+        return this;
+    }
+}
@@ -1,17 +1,35 @@
 package simulator.app;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import simulator.core.LatencyProfile;
+import simulator.core.LiveExecutor;
 import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
 import simulator.core.SimulationClock;
 import simulator.core.SchedulingResult;
 import simulator.core.SystemCallHandler;
+import simulator.io.AdmissionController;
+import simulator.io.AdmissionPolicy;
+import simulator.io.CheckpointWriter;
+import simulator.io.ChromeTraceExporter;
+import simulator.io.JobDefinition;
 import simulator.io.JobReader;
+import simulator.io.JobStream;
 import simulator.io.ProcessLoader;
+import simulator.io.RunRecorder;
+import simulator.io.RunRecording;
+import simulator.io.TraceFileWriter;
+import simulator.io.Workload;
 import simulator.memory.MemoryManager;
 import simulator.scheduler.Scheduler;
 
@@ -20,18 +38,160 @@ import simulator.scheduler.Scheduler;
  */
 public class SimulationRunner {
     private final Path jobFile;
+    private final Workload workload;
+    private final JobStream jobStream;
+    private final SimulationOptions options;
+    private ClusterSimulation.Node clusterNode;
+    private volatile SimulationContext activeContext;
+    private volatile String activeSchedulerName;
 
     public SimulationRunner(Path jobFile) {
+        this(jobFile, new SimulationOptions());
+    }
+
+    public SimulationRunner(Path jobFile, SystemCallHandler.TraceLevel traceLevel) {
+        this(jobFile, new SimulationOptions().setTraceLevel(traceLevel));
+    }
+
+    public SimulationRunner(Path jobFile, SimulationOptions options) {
         this.jobFile = jobFile;
+        this.workload = null;
+        this.jobStream = null;
+        this.options = options;
+    }
+
+    /**
+     * Creates a runner that replays an already parsed workload, so repeated runs skip file parsing.
+     */
+    public SimulationRunner(Workload workload, SimulationOptions options) {
+        this.jobFile = null;
+        this.workload = workload;
+        this.jobStream = null;
+        this.options = options;
+    }
+
+    /**
+     * Creates a runner whose jobs are submitted through {@code jobStream} while the run is in progress; a run
+     * keeps scheduling until the stream is closed and every submitted job has completed.
+     */
+    public SimulationRunner(JobStream jobStream, SimulationOptions options) {
+        this.jobFile = null;
+        this.workload = null;
+        this.jobStream = jobStream;
+        this.options = options;
+    }
+
+    /**
+     * Runs each of this runner's simulations as {@code node} of a cluster, whose dispatcher feeds the job stream.
+     */
+    void setClusterNode(ClusterSimulation.Node node) {
+        if (jobStream == null) {
+            throw new IllegalStateException("Only a runner fed by a job stream can be a cluster node");
+        }
+        this.clusterNode = node;
+    }
+
+    public SimulationOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Returns the context of the run currently executing, or null between runs, so callers can observe it live.
+     */
+    public SimulationContext getActiveContext() {
+        return activeContext;
+    }
+
+    /**
+     * Returns the name of the scheduler currently executing, or null between runs.
+     */
+    public String getActiveSchedulerName() {
+        return activeSchedulerName;
     }
 
     /**
      * Executes the scheduler end-to-end and returns the aggregated result.
      */
     public SchedulingResult execute(Scheduler scheduler) throws InterruptedException {
-        SystemCallHandler systemCalls = new SystemCallHandler();
+        Path checkpointFile = jobStream == null ? checkpointFile(scheduler) : null;
+        if (checkpointFile != null && options.isLive()) {
+            throw new IllegalArgumentException("Checkpoints are not supported in live mode");
+        }
+        if (checkpointFile != null && options.getAdmissionPolicy() != AdmissionPolicy.NONE) {
+            throw new IllegalArgumentException("Checkpoints are not supported with admission control");
+        }
+        Path recordFile = runLogFile(options.getRecordDirectory(), scheduler);
+        Path replayFile = runLogFile(options.getReplayDirectory(), scheduler);
+        if (recordFile != null && options.isResume()) {
+            throw new IllegalArgumentException("A resumed run cannot be recorded");
+        }
+        if (jobStream != null && jobStream.isRecycling() && options.isRetainDetails()) {
+            throw new IllegalArgumentException("A job stream that recycles finished processes requires streaming metrics");
+        }
+        if (replayFile != null && (jobStream != null || checkpointFile != null)) {
+            throw new IllegalArgumentException("Replayed runs take their jobs from the run log and cannot be checkpointed");
+        }
+        RunRecording replay = null;
+        if (replayFile != null) {
+            if (!Files.exists(replayFile)) {
+                throw new IllegalArgumentException("No run log for " + scheduler.getName() + " at " + replayFile);
+            }
+            try {
+                replay = RunRecording.load(replayFile);
+            } catch (IOException ex) {
+                throw new RuntimeException("Failed to read run log " + replayFile, ex);
+            }
+            if (!replay.getSchedulerName().equals(scheduler.getName())) {
+                throw new IllegalArgumentException("Run log " + replayFile + " was recorded by "
+                        + replay.getSchedulerName() + ", not " + scheduler.getName());
+            }
+            if (replay.getMemorySize() != options.getMemorySize()) {
+                throw new IllegalArgumentException("Run log " + replayFile + " was recorded with "
+                        + replay.getMemorySize() + "MB of memory, not " + options.getMemorySize() + "MB");
+            }
+            String admissionPolicy = options.getAdmissionPolicy().format();
+            if (!replay.getAdmissionPolicy().equals(admissionPolicy)) {
+                throw new IllegalArgumentException("Run log " + replayFile + " was recorded with admission "
+                        + replay.getAdmissionPolicy() + ", not " + admissionPolicy);
+            }
+        }
         SimulationClock clock = new SimulationClock();
-        MemoryManager memoryManager = new MemoryManager(2048, systemCalls);
+        SystemCallHandler.TraceLevel traceLevel = options.getTraceLevel();
+        Path traceDirectory = options.getTraceDirectory();
+        Path timelineDirectory = options.getTimelineDirectory();
+        boolean streamTrace = traceDirectory != null && traceLevel != SystemCallHandler.TraceLevel.OFF;
+        // When the trace goes to disk, or is off, there is no need to keep a ring in memory.
+        boolean keepTrace = !streamTrace && traceLevel != SystemCallHandler.TraceLevel.OFF;
+        SystemCallHandler systemCalls = new SystemCallHandler(clock, traceLevel,
+                keepTrace ? SystemCallHandler.DEFAULT_CAPACITY : 0);
+        LatencyProfile latencies = new LatencyProfile();
+        MemoryManager memoryManager = new MemoryManager(options.getMemorySize(), systemCalls, latencies.getAllocationWait());
+
+        Checkpoint restored = null;
+        if (checkpointFile != null && options.isResume() && Files.exists(checkpointFile)) {
+            try {
+                restored = Checkpoint.read(checkpointFile, scheduler.getName(), memoryManager, systemCalls);
+            } catch (IOException ex) {
+                throw new RuntimeException("Failed to read checkpoint " + checkpointFile, ex);
+            }
+            clock.advance(restored.getClockTime());
+        }
+        // A resumed run writes its trace and timeline next to the original ones instead of overwriting them.
+        String stem = restored == null ? fileStem(scheduler) : fileStem(scheduler) + ".resumed-t" + restored.getClockTime();
+
+        TraceFileWriter traceWriter = null;
+        if (streamTrace) {
+            traceWriter = new TraceFileWriter(traceDirectory, stem, systemCalls,
+                    TraceFileWriter.DEFAULT_MAX_FILE_BYTES, true);
+            systemCalls.attachSink(traceWriter);
+            traceWriter.start();
+        }
+        ChromeTraceExporter timeline = null;
+        if (timelineDirectory != null) {
+            timeline = openTimeline(timelineDirectory, stem, scheduler);
+            systemCalls.attachSink(timeline);
+        }
+        ProcessTable processTable = restored != null ? restored.getProcessTable() : new ProcessTable();
 
         BlockingQueue<ProcessControlBlock> jobQueue = new LinkedBlockingQueue<>();
         BlockingQueue<ProcessControlBlock> readyQueue = new LinkedBlockingQueue<>();
@@ -39,9 +199,73 @@ public class SimulationRunner {
         AtomicBoolean readerFinished = new AtomicBoolean(false);
         AtomicInteger totalJobs = new AtomicInteger(0);
 
-        JobReader jobReader = new JobReader(jobFile, jobQueue, systemCalls, totalJobs, readerFinished);
+        RunRecorder recorder = null;
+        if (recordFile != null) {
+            try {
+                recorder = new RunRecorder(recordFile, scheduler.getName(), options.getMemorySize());
+            } catch (IOException ex) {
+                throw new RuntimeException("Failed to create run log " + recordFile, ex);
+            }
+        }
+
+        JobReader jobReader = null;
+        if (replay != null) {
+            // Every recorded job is queued up front; the context admits them at the steps the recording names.
+            List<JobDefinition> jobs = replay.getJobs();
+            for (int i = 0; i < jobs.size(); i++) {
+                ProcessControlBlock pcb = jobs.get(i).createIn(processTable, i, replay.getArrivalTime(i));
+                systemCalls.createProcess(pcb);
+                pcb.markQueued();
+                jobQueue.add(pcb);
+                systemCalls.enqueueJob(pcb, replay.getQueueDepth(i));
+            }
+            totalJobs.set(jobs.size());
+            readerFinished.set(true);
+        } else if (restored != null) {
+            // Checkpoints are only taken once the reader has finished, so every job is already in the table.
+            totalJobs.set(restored.getTotalJobs());
+            readerFinished.set(true);
+            for (int slot : restored.getPendingJobSlots()) {
+                jobQueue.add(processTable.view(slot));
+            }
+            for (int slot : restored.getReadyQueueSlots()) {
+                ProcessControlBlock pcb = processTable.view(slot);
+                pcb.markReadyEnqueued(System.nanoTime());
+                readyQueue.add(pcb);
+            }
+        } else if (jobStream != null) {
+            jobStream.setRecorder(recorder);
+            jobStream.attach(processTable, jobQueue, systemCalls, clock, totalJobs, readerFinished, options.getMemorySize());
+        } else if (workload != null) {
+            jobReader = new JobReader(workload, jobQueue, systemCalls, totalJobs, readerFinished,
+                    latencies.getJobParse(), processTable, options.getMemorySize());
+        } else {
+            jobReader = new JobReader(jobFile, jobQueue, systemCalls, totalJobs, readerFinished,
+                    latencies.getJobParse(), processTable, options.getMemorySize());
+        }
+        if (jobReader != null) {
+            jobReader.setMaxJobs(options.getMaxJobs());
+            jobReader.setRecorder(recorder);
+        }
         ProcessLoader loader = new ProcessLoader(jobQueue, readyQueue, memoryManager, systemCalls, clock, readerFinished);
+        loader.setRecorder(recorder);
+        memoryManager.setStallListener(loader::signalProgress);
+        if (jobReader != null) {
+            jobReader.setFinishListener(loader::signalProgress);
+        }
+        AdmissionController admission = options.getAdmissionPolicy()
+                .newController(memoryManager, scheduler.getCpuCount());
+        loader.setAdmissionController(admission);
+        Comparator<ProcessControlBlock> admissionOrder = scheduler.getAdmissionOrder();
+        if (admissionOrder != null) {
+            // A bounded run lets the reader finish before the loader chooses, so the choice is deterministic.
+            loader.setAdmissionOrder(admissionOrder, jobStream == null);
+        }
+        if (restored != null) {
+            loader.setAdmittedCount(restored.getAdmittedCount());
+        }
 
+        LiveExecutor liveExecutor = options.isLive() ? new LiveExecutor(options.getLiveUnitMicros()) : null;
         SimulationContext context = new SimulationContext(
                 readyQueue,
                 memoryManager,
@@ -49,36 +273,182 @@ public class SimulationRunner {
                 clock,
                 loader,
                 readerFinished,
-                totalJobs
+                totalJobs,
+                latencies,
+                options.isRetainDetails(),
+                processTable,
+                liveExecutor
         );
+        if (jobStream != null) {
+            context.setOpenEnded(true);
+            if (jobStream.isRecycling()) {
+                context.enableRecycling(jobStream);
+            }
+        }
+        if (clusterNode != null) {
+            context.joinCluster(clusterNode);
+        }
+        if (admission != null) {
+            context.enableAdmissionControl(admission);
+        }
+        if (restored != null) {
+            context.restore(restored);
+        }
+        if (recorder != null) {
+            context.enableRecording(recorder);
+        }
+        if (replay != null) {
+            context.enableReplay(replay);
+        }
+        CheckpointWriter checkpointWriter = null;
+        if (checkpointFile != null) {
+            checkpointWriter = new CheckpointWriter(checkpointFile);
+            context.enableCheckpoints(checkpointWriter, scheduler.getName(), options.getCheckpointInterval());
+            checkpointWriter.start();
+        }
 
         // Spin up the supporting threads before invoking the scheduler.
-        jobReader.start();
-        loader.start();
-
-        awaitInitialAdmission(readyQueue, loader, readerFinished, totalJobs);
+        if (jobReader != null) {
+            jobReader.start();
+        }
+        if (replay == null) {
+            loader.start();
+        }
 
-        SchedulingResult result = scheduler.run(context);
+        SchedulingResult result = null;
+        activeSchedulerName = scheduler.getName();
+        activeContext = context;
+        try {
+            result = scheduler.run(context);
+        } finally {
+            activeContext = null;
+            activeSchedulerName = null;
+            if (liveExecutor != null) {
+                liveExecutor.shutdown();
+            }
+            if (result == null) {
+                // The run failed: stop the loader and reader, which may be blocked waiting for memory or queue
+                // space, and flush the output written so far, without masking the failure. Joining needs a clear
+                // interrupt flag, so an interrupted run has it restored afterwards.
+                boolean interrupted = Thread.interrupted();
+                context.shutdownLoader();
+                if (jobReader != null) {
+                    jobReader.interrupt();
+                }
+                interrupted |= closeAfterFailure(loader::join);
+                if (jobReader != null) {
+                    interrupted |= closeAfterFailure(jobReader::join);
+                }
+                if (recorder != null) {
+                    interrupted |= closeAfterFailure(recorder::close);
+                }
+                if (checkpointWriter != null) {
+                    interrupted |= closeAfterFailure(checkpointWriter::close);
+                }
+                if (traceWriter != null) {
+                    interrupted |= closeAfterFailure(traceWriter::close);
+                }
+                if (timeline != null) {
+                    interrupted |= closeAfterFailure(timeline::close);
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
 
+        if (admission != null) {
+            // A replay admits from the run log without consulting the controller, so the log holds the outcome.
+            int held = replay != null ? replay.getAdmissionHolds() : admission.getHeldCount();
+            int limit = replay != null ? replay.getAdmissionLimit() : admission.getCurrentLimit();
+            result.getMetrics().recordAdmission(admission.getPolicy().format(), held, limit);
+            if (recorder != null) {
+                recorder.admission(admission.getPolicy().format(), held, limit);
+            }
+        }
         context.shutdownLoader();
         loader.join();
-        jobReader.join();
+        if (jobReader != null) {
+            jobReader.join();
+        }
 
+        if (recorder != null) {
+            try {
+                recorder.close();
+            } catch (IOException ex) {
+                throw new RuntimeException("Failed to write run log " + recordFile, ex);
+            }
+        }
+        if (checkpointWriter != null) {
+            try {
+                checkpointWriter.close();
+            } catch (IOException ex) {
+                throw new RuntimeException("Failed to write checkpoint " + checkpointFile, ex);
+            }
+        }
+        if (traceWriter != null) {
+            try {
+                traceWriter.close();
+            } catch (IOException ex) {
+                throw new RuntimeException("Failed to write trace files to " + traceDirectory, ex);
+            }
+        }
+        if (timeline != null) {
+            try {
+                timeline.close();
+            } catch (IOException ex) {
+                throw new RuntimeException("Failed to write timeline to " + timelineDirectory, ex);
+            }
+        }
+        if (jobReader != null && jobReader.getFailure() != null) {
+            throw new RuntimeException("Failed to read job file: " + jobReader.getFailure().getMessage(), jobReader.getFailure());
+        }
         return result;
     }
 
-    private void awaitInitialAdmission(BlockingQueue<ProcessControlBlock> readyQueue,
-                                        ProcessLoader loader,
-                                        AtomicBoolean readerFinished,
-                                        AtomicInteger totalJobs) throws InterruptedException {
-        while (readyQueue.isEmpty()) {
-            if (readerFinished.get() && loader.isLoadingComplete()) {
-                break;
-            }
-            if (readerFinished.get() && totalJobs.get() == 0) {
-                break;
-            }
-            Thread.sleep(5);
+    /**
+     * Runs one shutdown step of a failed run, swallowing its errors so the run's own failure is the one reported.
+     * Returns true if the step was interrupted.
+     */
+    private static boolean closeAfterFailure(ShutdownStep step) {
+        try {
+            step.run();
+        } catch (IOException | RuntimeException ex) {
+            // The run's own failure is the one reported.
+        } catch (InterruptedException ex) {
+            return true;
+        }
+        return false;
+    }
+
+    private static ChromeTraceExporter openTimeline(Path directory, String stem, Scheduler scheduler) {
+        try {
+            Files.createDirectories(directory);
+            return new ChromeTraceExporter(directory.resolve(stem + ".trace.json"), scheduler.getName(),
+                    scheduler.getCpuCount());
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to create timeline in " + directory, ex);
         }
     }
+
+    private Path checkpointFile(Scheduler scheduler) {
+        Path directory = options.getCheckpointDirectory();
+        return directory == null ? null : directory.resolve(fileStem(scheduler) + ".ckpt");
+    }
+
+    private static Path runLogFile(Path directory, Scheduler scheduler) {
+        return directory == null ? null : directory.resolve(fileStem(scheduler) + ".runlog");
+    }
+
+    private static String fileStem(Scheduler scheduler) {
+        String stem = scheduler.getName().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        return stem.replaceAll("(^-+)|(-+$)", "");
+    }
+
+    /**
+     * Closing or joining one of a run's helper threads or outputs.
+     */
+    private interface ShutdownStep {
+        void run() throws IOException, InterruptedException;
+    }
 }
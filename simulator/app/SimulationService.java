@@ -0,0 +1,277 @@
+package simulator.app;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import simulator.core.MetricsAccumulator;
+import simulator.core.SchedulingResult;
+import simulator.core.SystemCallHandler;
+import simulator.io.JobDefinition;
+import simulator.io.JobStream;
+import simulator.scheduler.MemoryAwareSjfScheduler;
+import simulator.scheduler.PriorityScheduler;
+import simulator.scheduler.RoundRobinScheduler;
+import simulator.scheduler.Scheduler;
+import simulator.scheduler.SjfScheduler;
+
+/**
+ * Long-running simulator that accepts job submissions over a loopback TCP socket and keeps one scheduler
+ * running on them. The protocol is line based: a job line ({@code id:burst:priority;memory}, optionally prefixed
+ * by {@code SUBMIT}) is answered with {@code OK} or {@code ERR}; {@code STATS} returns live metrics on one line;
+ * {@code SHUTDOWN} stops accepting jobs and lets the run drain; {@code QUIT} closes the connection.
+ */
+public class SimulationService {
+    public static final int DEFAULT_PORT = 7227;
+
+    private final ServerSocket serverSocket;
+    private final Scheduler scheduler;
+    private final JobStream jobStream = new JobStream();
+    private final SimulationRunner runner;
+    private final List<Socket> clients = new ArrayList<>();
+
+    public SimulationService(ServerSocket serverSocket, Scheduler scheduler, SimulationOptions options) {
+        this.serverSocket = serverSocket;
+        this.scheduler = scheduler;
+        // Completed jobs give back their process table rows and ids, so memory stays flat however long it runs.
+        jobStream.setRecycling(true);
+        this.runner = new SimulationRunner(jobStream, options);
+    }
+
+    /**
+     * Serves clients and schedules their jobs until {@code SHUTDOWN} is received and every job has completed.
+     */
+    public SchedulingResult run() throws InterruptedException {
+        Thread acceptor = new Thread(this::acceptClients, "service-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        try {
+            return runner.execute(scheduler);
+        } finally {
+            jobStream.close();
+            closeQuietly(serverSocket);
+            synchronized (clients) {
+                for (Socket client : clients) {
+                    closeQuietly(client);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting submissions; the run ends once the jobs already submitted have completed.
+     */
+    public void shutdown() {
+        jobStream.close();
+    }
+
+    private void acceptClients() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                synchronized (clients) {
+                    clients.add(client);
+                }
+                Thread handler = new Thread(() -> serve(client), "service-client-" + client.getPort());
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException ex) {
+                // The socket is closed during shutdown.
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client;
+             BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.equalsIgnoreCase("QUIT")) {
+                    break;
+                }
+                out.write(handle(line));
+                out.write('\n');
+                out.flush();
+            }
+        } catch (IOException ex) {
+            // The client went away or the service is shutting down.
+        } finally {
+            synchronized (clients) {
+                clients.remove(client);
+            }
+        }
+    }
+
+    /**
+     * Executes one protocol command and returns the single-line response.
+     */
+    String handle(String line) {
+        String command = line.toUpperCase(Locale.ROOT);
+        if (command.equals("STATS")) {
+            return describeStatus();
+        }
+        if (command.equals("SHUTDOWN")) {
+            jobStream.close();
+            return "OK draining " + jobStream.getSubmittedCount() + " submitted jobs";
+        }
+        String jobLine = command.startsWith("SUBMIT ") ? line.substring("SUBMIT ".length()).trim() : line;
+        try {
+            JobDefinition job = JobDefinition.parse(jobLine);
+            long arrivalTime = jobStream.submitForArrivalTime(job);
+            return "OK " + job.getId() + " t=" + arrivalTime;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return "ERR interrupted";
+        } catch (RuntimeException ex) {
+            return "ERR " + ex.getMessage();
+        }
+    }
+
+    /**
+     * Summarizes the in-flight run as space-separated {@code key=value} pairs.
+     */
+    String describeStatus() {
+        SimulationContext context = runner.getActiveContext();
+        if (context == null) {
+            return "STATS running=false submitted=" + jobStream.getSubmittedCount();
+        }
+        MetricsAccumulator metrics = context.getRunningMetrics();
+        StringBuilder builder = new StringBuilder("STATS running=true");
+        builder.append(" accepting=").append(!jobStream.isClosed());
+        builder.append(' ').append(context.snapshot());
+        if (metrics != null) {
+            builder.append(String.format(Locale.ROOT, " avg_waiting=%.2f avg_turnaround=%.2f throughput=%.4f",
+                    metrics.getAverageWaitingTime(),
+                    metrics.getAverageTurnaroundTime(),
+                    metrics.getThroughput()));
+        }
+        return builder.toString();
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ex) {
+            // Nothing more to do while shutting down.
+        }
+    }
+
+    /**
+     * Returns the runner driving the service's scheduler, for attaching a {@link SimulationMonitor}.
+     */
+    public SimulationRunner getRunner() {
+        return runner;
+    }
+
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        boolean jmx = false;
+        String schedulerName = "rr";
+        int timeQuantum = RoundRobinScheduler.DEFAULT_TIME_QUANTUM;
+        int agingInterval = PriorityScheduler.DEFAULT_AGING_INTERVAL;
+        // An open-ended run keeps constant-memory metrics and no in-memory trace.
+        SimulationOptions options = new SimulationOptions()
+                .setRetainDetails(false)
+                .setTraceLevel(SystemCallHandler.TraceLevel.OFF);
+        Scheduler scheduler;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--port") && i + 1 < args.length) {
+                    port = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--scheduler") && i + 1 < args.length) {
+                    schedulerName = args[++i].trim().toLowerCase(Locale.ROOT);
+                } else if (args[i].equals("--quantum") && i + 1 < args.length) {
+                    timeQuantum = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--aging") && i + 1 < args.length) {
+                    agingInterval = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--memory") && i + 1 < args.length) {
+                    options.setMemorySize(Integer.parseInt(args[++i]));
+                } else if (args[i].equals("--trace-dir") && i + 1 < args.length) {
+                    options.setTraceDirectory(Path.of(args[++i])).setTraceLevel(SystemCallHandler.TraceLevel.FULL);
+                } else if (args[i].equals("--record-dir") && i + 1 < args.length) {
+                    options.setRecordDirectory(Path.of(args[++i]));
+                } else if (args[i].equals("--jmx")) {
+                    jmx = true;
+                } else {
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.exit(Main.EXIT_USAGE);
+                    return;
+                }
+            }
+            switch (schedulerName) {
+                case "sjf":
+                    scheduler = new SjfScheduler();
+                    break;
+                case "msjf":
+                case "memory-sjf":
+                    scheduler = new MemoryAwareSjfScheduler();
+                    break;
+                case "rr":
+                case "round-robin":
+                    scheduler = new RoundRobinScheduler(timeQuantum);
+                    break;
+                case "priority":
+                    scheduler = new PriorityScheduler(agingInterval);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown scheduler: " + schedulerName);
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Invalid argument: " + ex.getMessage());
+            System.exit(Main.EXIT_USAGE);
+            return;
+        }
+
+        ServerSocket serverSocket;
+        try {
+            serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException ex) {
+            System.err.println("Cannot listen on port " + port + ": " + ex.getMessage());
+            System.exit(Main.EXIT_FAILURE);
+            return;
+        }
+        SimulationService service = new SimulationService(serverSocket, scheduler, options);
+        System.out.println(scheduler.getName() + " accepting jobs on " + serverSocket.getLocalSocketAddress()
+                + " (send SHUTDOWN to finish)");
+        SimulationMonitor monitor = jmx ? SimulationMonitor.register(service.getRunner(), "service") : null;
+        try {
+            SchedulingResult result = service.run();
+            System.out.println("Completed " + result.getMetrics().getCompletedCount() + " jobs (makespan "
+                    + result.getMetrics().getMakespan() + ")");
+            System.out.printf(Locale.ROOT, "  - Average waiting time   : %.2f%n", result.getAverageWaitingTime());
+            System.out.printf(Locale.ROOT, "  - Average turnaround time: %.2f%n", result.getAverageTurnaroundTime());
+            System.out.printf(Locale.ROOT, "  - p99 response time      : %.2f%n", result.getResponseSummary().getP99());
+            System.out.printf(Locale.ROOT, "  - Throughput (jobs/unit) : %.4f%n", result.getThroughput());
+            System.out.printf(Locale.ROOT, "  - CPU utilization        : %.2f%%%n", result.getCpuUtilization() * 100.0);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            System.err.println("Service interrupted");
+            System.exit(Main.EXIT_FAILURE);
+        } catch (RuntimeException ex) {
+            System.err.println("Service failed: " + ex.getMessage());
+            System.exit(Main.EXIT_FAILURE);
+        } finally {
+            if (monitor != null) {
+                monitor.close();
+            }
+        }
+    }
+}
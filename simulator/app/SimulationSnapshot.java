@@ -0,0 +1,133 @@
+package simulator.app;
+
+/**
+ * Point-in-time reading of an in-flight run. Every field is read from a volatile or lock-free counter, so taking a
+ * snapshot never blocks the scheduler or loader; the fields are individually current but not mutually atomic.
+ */
+public final class SimulationSnapshot {
+    private final long capturedNanos;
+    private final long simulatedTime;
+    private final int jobQueueDepth;
+    private final int readyQueueDepth;
+    private final int usedMemory;
+    private final int totalMemory;
+    private final int allocatedProcessCount;
+    private final long dispatchCount;
+    private final int submittedJobs;
+    private final int admittedJobs;
+    private final int completedJobs;
+    private final boolean readerFinished;
+    private final boolean loaderFinished;
+    private final boolean allocationStalled;
+
+    SimulationSnapshot(long capturedNanos,
+                       long simulatedTime,
+                       int jobQueueDepth,
+                       int readyQueueDepth,
+                       int usedMemory,
+                       int totalMemory,
+                       int allocatedProcessCount,
+                       long dispatchCount,
+                       int submittedJobs,
+                       int admittedJobs,
+                       int completedJobs,
+                       boolean readerFinished,
+                       boolean loaderFinished,
+                       boolean allocationStalled) {
+        this.capturedNanos = capturedNanos;
+        this.simulatedTime = simulatedTime;
+        this.jobQueueDepth = jobQueueDepth;
+        this.readyQueueDepth = readyQueueDepth;
+        this.usedMemory = usedMemory;
+        this.totalMemory = totalMemory;
+        this.allocatedProcessCount = allocatedProcessCount;
+        this.dispatchCount = dispatchCount;
+        this.submittedJobs = submittedJobs;
+        this.admittedJobs = admittedJobs;
+        this.completedJobs = completedJobs;
+        this.readerFinished = readerFinished;
+        this.loaderFinished = loaderFinished;
+        this.allocationStalled = allocationStalled;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the snapshot was taken, for computing rates between snapshots.
+     */
+    public long getCapturedNanos() {
+        return capturedNanos;
+    }
+
+    public long getSimulatedTime() {
+        return simulatedTime;
+    }
+
+    public int getJobQueueDepth() {
+        return jobQueueDepth;
+    }
+
+    public int getReadyQueueDepth() {
+        return readyQueueDepth;
+    }
+
+    public int getUsedMemory() {
+        return usedMemory;
+    }
+
+    public int getTotalMemory() {
+        return totalMemory;
+    }
+
+    public int getAllocatedProcessCount() {
+        return allocatedProcessCount;
+    }
+
+    public long getDispatchCount() {
+        return dispatchCount;
+    }
+
+    public int getSubmittedJobs() {
+        return submittedJobs;
+    }
+
+    public int getAdmittedJobs() {
+        return admittedJobs;
+    }
+
+    public int getCompletedJobs() {
+        return completedJobs;
+    }
+
+    public boolean isReaderFinished() {
+        return readerFinished;
+    }
+
+    public boolean isLoaderFinished() {
+        return loaderFinished;
+    }
+
+    /**
+     * True while the loader is blocked waiting for memory that only a terminating process can free.
+     */
+    public boolean isAllocationStalled() {
+        return allocationStalled;
+    }
+
+    /**
+     * Formats the snapshot as space-separated {@code key=value} pairs for line-oriented scrapers.
+     */
+    @Override
+    public String toString() {
+        return "time=" + simulatedTime
+                + " submitted=" + submittedJobs
+                + " job_queue=" + jobQueueDepth
+                + " admitted=" + admittedJobs
+                + " ready_queue=" + readyQueueDepth
+                + " completed=" + completedJobs
+                + " dispatches=" + dispatchCount
+                + " memory=" + usedMemory + '/' + totalMemory
+                + " allocated=" + allocatedProcessCount
+                + " reader_finished=" + readerFinished
+                + " loader_finished=" + loaderFinished
+                + " allocation_stalled=" + allocationStalled;
+    }
+}
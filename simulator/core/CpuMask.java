@@ -0,0 +1,103 @@
+package simulator.core;
+
+/**
+ * Sets of CPUs encoded as 64-bit masks, bit {@code n} standing for CPU {@code n}, with the {@code 0-3,6} list
+ * syntax used in job files and traces.
+ */
+public final class CpuMask {
+    public static final int MAX_CPUS = Long.SIZE;
+    /**
+     * Mask of a process that may run on any CPU.
+     */
+    public static final long ANY = -1L;
+
+    private CpuMask() {
+    }
+
+    /**
+     * Returns the mask of CPUs {@code 0} to {@code cpuCount - 1}.
+     */
+    public static long first(int cpuCount) {
+        if (cpuCount < 1 || cpuCount > MAX_CPUS) {
+            throw new IllegalArgumentException("CPU count must be between 1 and " + MAX_CPUS);
+        }
+        return cpuCount == MAX_CPUS ? ANY : (1L << cpuCount) - 1;
+    }
+
+    /**
+     * Parses a comma-separated list of CPUs and inclusive ranges such as {@code 0-3,6}.
+     */
+    public static long parse(String list) {
+        long mask = 0;
+        for (String token : list.split(",")) {
+            token = token.trim();
+            int dash = token.indexOf('-');
+            int from = cpu(dash < 0 ? token : token.substring(0, dash), list);
+            int to = dash < 0 ? from : cpu(token.substring(dash + 1), list);
+            if (to < from) {
+                throw new IllegalArgumentException("Invalid CPU range in " + list);
+            }
+            for (int cpu = from; cpu <= to; cpu++) {
+                mask |= 1L << cpu;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Formats a mask in the list syntax accepted by {@link #parse}, collapsing runs into ranges.
+     */
+    public static String format(long mask) {
+        StringBuilder out = new StringBuilder();
+        int cpu = 0;
+        while (cpu < MAX_CPUS) {
+            if ((mask & (1L << cpu)) == 0) {
+                cpu++;
+                continue;
+            }
+            int end = cpu;
+            while (end + 1 < MAX_CPUS && (mask & (1L << (end + 1))) != 0) {
+                end++;
+            }
+            if (out.length() > 0) {
+                out.append(',');
+            }
+            out.append(cpu);
+            if (end > cpu) {
+                out.append('-').append(end);
+            }
+            cpu = end + 1;
+        }
+        return out.toString();
+    }
+
+    /**
+     * Picks the {@code count} lowest CPUs of {@code allowed}, taking those in {@code preferred} first; returns 0
+     * if fewer than {@code count} are allowed.
+     */
+    public static long choose(long allowed, long preferred, int count) {
+        if (Long.bitCount(allowed) < count) {
+            return 0;
+        }
+        long chosen = lowest(allowed & preferred, count);
+        return chosen | lowest(allowed & ~chosen, count - Long.bitCount(chosen));
+    }
+
+    private static long lowest(long mask, int count) {
+        long chosen = 0;
+        for (int i = 0; i < count && mask != 0; i++) {
+            long bit = Long.lowestOneBit(mask);
+            chosen |= bit;
+            mask &= ~bit;
+        }
+        return chosen;
+    }
+
+    private static int cpu(String token, String list) {
+        int cpu = Integer.parseInt(token.trim());
+        if (cpu < 0 || cpu >= MAX_CPUS) {
+            throw new IllegalArgumentException("CPU " + cpu + " in " + list + " is outside 0-" + (MAX_CPUS - 1));
+        }
+        return cpu;
+    }
+}
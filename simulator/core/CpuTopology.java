@@ -0,0 +1,165 @@
+package simulator.core;
+
+import java.util.Arrays;
+
+/**
+ * The simulated CPUs of a multicore run and their relative speeds. A CPU of speed {@code s} completes {@code s}
+ * units of burst work per time unit, so a mixed machine such as big.LITTLE is a topology with two speed classes.
+ * Classes are numbered from the fastest; instances are immutable.
+ */
+public final class CpuTopology {
+    public static final double MAX_SPEED = 16.0;
+
+    private final double[] speeds;
+    private final double[] classSpeeds;
+    private final long[] classMasks;
+
+    private CpuTopology(double[] speeds) {
+        if (speeds.length < 1 || speeds.length > CpuMask.MAX_CPUS) {
+            throw new IllegalArgumentException("CPU count must be between 1 and " + CpuMask.MAX_CPUS);
+        }
+        for (double speed : speeds) {
+            if (!(speed > 0.0 && speed <= MAX_SPEED)) {
+                throw new IllegalArgumentException("CPU speed " + speed + " is outside (0, " + MAX_SPEED + "]");
+            }
+        }
+        this.speeds = speeds;
+        this.classSpeeds = Arrays.stream(speeds).boxed().distinct()
+                .sorted((a, b) -> Double.compare(b, a)).mapToDouble(Double::doubleValue).toArray();
+        this.classMasks = new long[classSpeeds.length];
+        for (int cpu = 0; cpu < speeds.length; cpu++) {
+            classMasks[classOf(cpu)] |= 1L << cpu;
+        }
+    }
+
+    /**
+     * Returns {@code cpuCount} CPUs of speed 1.
+     */
+    public static CpuTopology uniform(int cpuCount) {
+        if (cpuCount < 1 || cpuCount > CpuMask.MAX_CPUS) {
+            throw new IllegalArgumentException("CPU count must be between 1 and " + CpuMask.MAX_CPUS);
+        }
+        double[] speeds = new double[cpuCount];
+        Arrays.fill(speeds, 1.0);
+        return new CpuTopology(speeds);
+    }
+
+    /**
+     * Returns CPUs with the given speeds, CPU {@code n} having {@code speeds[n]}.
+     */
+    public static CpuTopology of(double... speeds) {
+        return new CpuTopology(speeds.clone());
+    }
+
+    /**
+     * Parses a comma-separated list of CPU speeds in CPU order, where {@code Nx} repeats a speed, so
+     * {@code 2x2.0,4x1.0} is two CPUs of speed 2 followed by four of speed 1.
+     */
+    public static CpuTopology parse(String list) {
+        double[] speeds = new double[0];
+        for (String token : list.split(",")) {
+            token = token.trim();
+            int times = token.indexOf('x');
+            int count = times < 0 ? 1 : Integer.parseInt(token.substring(0, times).trim());
+            if (count < 1 || speeds.length + count > CpuMask.MAX_CPUS) {
+                throw new IllegalArgumentException("Invalid CPU count in " + list);
+            }
+            double speed = Double.parseDouble(times < 0 ? token : token.substring(times + 1).trim());
+            int start = speeds.length;
+            speeds = Arrays.copyOf(speeds, start + count);
+            Arrays.fill(speeds, start, start + count, speed);
+        }
+        return new CpuTopology(speeds);
+    }
+
+    /**
+     * Formats the topology in the syntax accepted by {@link #parse}, grouping runs of equal speed.
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        int cpu = 0;
+        while (cpu < speeds.length) {
+            int end = cpu;
+            while (end + 1 < speeds.length && speeds[end + 1] == speeds[cpu]) {
+                end++;
+            }
+            if (out.length() > 0) {
+                out.append(',');
+            }
+            if (end > cpu) {
+                out.append(end - cpu + 1).append('x');
+            }
+            out.append(speeds[cpu]);
+            cpu = end + 1;
+        }
+        return out.toString();
+    }
+
+    public int getCpuCount() {
+        return speeds.length;
+    }
+
+    public double getSpeed(int cpu) {
+        return speeds[cpu];
+    }
+
+    /**
+     * Reports whether the CPUs run at more than one speed.
+     */
+    public boolean isHeterogeneous() {
+        return classSpeeds.length > 1;
+    }
+
+    public int getClassCount() {
+        return classSpeeds.length;
+    }
+
+    public double getClassSpeed(int speedClass) {
+        return classSpeeds[speedClass];
+    }
+
+    /**
+     * Returns the CPUs of a speed class as a mask.
+     */
+    public long getClassMask(int speedClass) {
+        return classMasks[speedClass];
+    }
+
+    public int classOf(int cpu) {
+        for (int speedClass = 0; speedClass < classSpeeds.length; speedClass++) {
+            if (classSpeeds[speedClass] == speeds[cpu]) {
+                return speedClass;
+            }
+        }
+        throw new IllegalArgumentException("Unknown CPU " + cpu);
+    }
+
+    /**
+     * Returns the speed of the slowest CPU in {@code mask}, which paces a gang running in lockstep across it.
+     */
+    public double slowest(long mask) {
+        double slowest = MAX_SPEED;
+        for (; mask != 0; mask &= mask - 1) {
+            slowest = Math.min(slowest, speeds[Long.numberOfTrailingZeros(mask)]);
+        }
+        return slowest;
+    }
+
+    /**
+     * Picks the {@code count} fastest CPUs of {@code allowed}, preferring those in {@code preferred} and then the
+     * lowest within a speed class; returns 0 if fewer than {@code count} are allowed.
+     */
+    public long fastest(long allowed, long preferred, int count) {
+        if (Long.bitCount(allowed) < count) {
+            return 0;
+        }
+        long chosen = 0;
+        for (int speedClass = 0; speedClass < classMasks.length && count > 0; speedClass++) {
+            long candidates = allowed & classMasks[speedClass];
+            int take = Math.min(count, Long.bitCount(candidates));
+            chosen |= CpuMask.choose(candidates, preferred, take);
+            count -= take;
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,40 @@
+package simulator.core;
+
+/**
+ * Mean and tail percentiles of one per-process metric across a scheduler run.
+ */
+public class DistributionSummary {
+    private final double mean;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final double max;
+
+    public DistributionSummary(double mean, double p50, double p90, double p99, double max) {
+        this.mean = mean;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getMax() {
+        return max;
+    }
+}
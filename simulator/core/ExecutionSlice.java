@@ -1,32 +1,45 @@
 package simulator.core;
 
 /**
- * Represents a contiguous execution window for a process on the simulated CPU.
+ * Represents a contiguous execution window for a process on one simulated CPU.
  */
 public class ExecutionSlice {
     private final int processId;
-    private final int startTime;
-    private final int endTime;
+    private final long startTime;
+    private final long endTime;
+    private final int cpu;
 
-    public ExecutionSlice(int processId, int startTime, int endTime) {
+    public ExecutionSlice(int processId, long startTime, long endTime) {
+        this(processId, startTime, endTime, 0);
+    }
+
+    public ExecutionSlice(int processId, long startTime, long endTime, int cpu) {
         this.processId = processId;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.cpu = cpu;
     }
 
     public int getProcessId() {
         return processId;
     }
 
-    public int getStartTime() {
+    public long getStartTime() {
         return startTime;
     }
 
-    public int getEndTime() {
+    public long getEndTime() {
         return endTime;
     }
 
-    public int getDuration() {
+    /**
+     * Returns the CPU the slice ran on; always 0 on a single-CPU scheduler.
+     */
+    public int getCpu() {
+        return cpu;
+    }
+
+    public long getDuration() {
         return endTime - startTime;
     }
 }
@@ -0,0 +1,175 @@
+package simulator.core;
+
+import java.util.List;
+
+/**
+ * Renders execution slices as an ASCII Gantt chart without format calls, reusing its row buffers between renders.
+ * A renderer can clip the chart to a time window, wrap it into pages no wider than a character limit, and
+ * downsample long timelines by merging consecutive slices into cells that span a minimum duration.
+ * Instances are not thread-safe.
+ */
+public class GanttChartRenderer {
+    private static final int CELL_WIDTH = 8;
+    private static final int LABEL_WIDTH = CELL_WIDTH - 3;
+
+    private final long fromTime;
+    private final long toTime;
+    private final int cellsPerPage;
+    private final long minCellDuration;
+
+    private final StringBuilder border = new StringBuilder();
+    private final StringBuilder labels = new StringBuilder();
+    private final StringBuilder times = new StringBuilder();
+    private int cellsInPage;
+    private int pages;
+
+    private boolean cellOpen;
+    // End of the last cell drawn, so a later slice starting after it shows the idle time in between.
+    private long drawnEnd;
+    private long cellStart;
+    private long cellEnd;
+    private int cellPid;
+    private long cellPidDuration;
+    private boolean cellMixed;
+
+    /**
+     * Creates a renderer that draws every slice on a single line, matching the classic chart.
+     */
+    public GanttChartRenderer() {
+        this(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * Creates a renderer for the window {@code [fromTime, toTime)} that wraps at {@code maxWidth} characters and
+     * merges consecutive slices until a cell covers at least {@code minCellDuration} time units (0 disables merging).
+     */
+    public GanttChartRenderer(long fromTime, long toTime, int maxWidth, long minCellDuration) {
+        if (toTime <= fromTime) {
+            throw new IllegalArgumentException("Time window must not be empty");
+        }
+        if (maxWidth <= CELL_WIDTH) {
+            throw new IllegalArgumentException("Maximum width must exceed " + CELL_WIDTH + " characters");
+        }
+        this.fromTime = fromTime;
+        this.toTime = toTime;
+        this.cellsPerPage = (maxWidth - 1) / CELL_WIDTH;
+        this.minCellDuration = minCellDuration;
+    }
+
+    /**
+     * Renders the chart into a new string.
+     */
+    public String render(List<ExecutionSlice> slices) {
+        StringBuilder out = new StringBuilder();
+        render(slices, out);
+        return out.toString();
+    }
+
+    /**
+     * Appends the chart to {@code out}. Idle time between slices gets an {@code IDLE} cell, or is merged into a
+     * neighbouring cell when shorter than the minimum cell duration. A cell labelled with {@code ~} merges several
+     * processes or idle time and names the process with the longest slice.
+     */
+    public void render(List<ExecutionSlice> slices, StringBuilder out) {
+        cellsInPage = 0;
+        pages = 0;
+        cellOpen = false;
+        drawnEnd = Long.MIN_VALUE;
+        for (ExecutionSlice slice : slices) {
+            long start = Math.max(slice.getStartTime(), fromTime);
+            long end = Math.min(slice.getEndTime(), toTime);
+            if (end <= start) {
+                continue;
+            }
+            long idleStart = cellOpen ? cellEnd : drawnEnd;
+            boolean idleMerged = false;
+            if (idleStart != Long.MIN_VALUE && start > idleStart) {
+                if (start - idleStart >= minCellDuration) {
+                    if (cellOpen) {
+                        closeCell(out);
+                    }
+                    appendCell(out, idleStart, start, true, false, 0);
+                } else {
+                    idleMerged = true;
+                }
+            }
+            if (!cellOpen) {
+                cellOpen = true;
+                cellStart = idleMerged ? idleStart : start;
+                cellPid = slice.getProcessId();
+                cellPidDuration = end - start;
+                cellMixed = idleMerged;
+            } else {
+                cellMixed |= idleMerged;
+                cellMixed |= slice.getProcessId() != cellPid;
+                if (end - start > cellPidDuration) {
+                    cellPid = slice.getProcessId();
+                    cellPidDuration = end - start;
+                }
+            }
+            cellEnd = end;
+            if (cellEnd - cellStart >= minCellDuration) {
+                closeCell(out);
+            }
+        }
+        if (cellOpen) {
+            closeCell(out);
+        }
+        if (cellsInPage > 0) {
+            emitPage(out);
+        }
+        if (pages == 0) {
+            out.append("(no execution)");
+        }
+    }
+
+    private void closeCell(StringBuilder out) {
+        cellOpen = false;
+        appendCell(out, cellStart, cellEnd, false, cellMixed, cellPid);
+    }
+
+    private void appendCell(StringBuilder out, long start, long end, boolean idle, boolean mixed, int pid) {
+        if (cellsInPage == cellsPerPage) {
+            emitPage(out);
+        }
+        if (cellsInPage == 0) {
+            border.setLength(0);
+            labels.setLength(0);
+            times.setLength(0);
+            border.append('+');
+            labels.append('|');
+            appendPadded(times, start, CELL_WIDTH);
+        }
+        border.append("-------+");
+        if (idle) {
+            labels.append(" IDLE  ");
+        } else {
+            labels.append(mixed ? '~' : ' ').append('P');
+            appendPadded(labels, pid, LABEL_WIDTH);
+        }
+        labels.append('|');
+        appendPadded(times, end, CELL_WIDTH);
+        cellsInPage++;
+        drawnEnd = end;
+    }
+
+    private void emitPage(StringBuilder out) {
+        if (pages > 0) {
+            out.append(System.lineSeparator()).append(System.lineSeparator());
+        }
+        out.append(border).append(System.lineSeparator());
+        out.append(labels).append(System.lineSeparator());
+        out.append(border).append(System.lineSeparator());
+        out.append(times);
+        pages++;
+        cellsInPage = 0;
+    }
+
+    private static void appendPadded(StringBuilder target, long value, int width) {
+        int begin = target.length();
+        target.append(value);
+        while (target.length() - begin < width) {
+            target.append(' ');
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package simulator.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayDeque;
+
+/**
+ * First-come, first-served I/O device. A request starts once the device has finished every earlier request,
+ * so its completion time is fixed on submission and completions leave in submission order.
+ */
+public class IoDevice {
+    private final int index;
+    private final ArrayDeque<Request> pending = new ArrayDeque<>();
+    private long freeAt;
+    private long busyTime;
+    private long servedCount;
+
+    public IoDevice(int index) {
+        this.index = index;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Queues an I/O burst issued at {@code now} and returns when it will complete.
+     */
+    public long submit(ProcessControlBlock pcb, long now, int burst) {
+        long completion = Math.max(now, freeAt) + burst;
+        freeAt = completion;
+        busyTime += burst;
+        pending.addLast(new Request(pcb, completion));
+        return completion;
+    }
+
+    /**
+     * Returns the completion time of the oldest outstanding request, or {@link Long#MAX_VALUE} when idle.
+     */
+    public long peekCompletionTime() {
+        Request head = pending.peekFirst();
+        return head == null ? Long.MAX_VALUE : head.completionTime;
+    }
+
+    /**
+     * Removes and returns the oldest request's process if it has completed by {@code now}, otherwise null.
+     */
+    public ProcessControlBlock pollCompleted(long now) {
+        Request head = pending.peekFirst();
+        if (head == null || head.completionTime > now) {
+            return null;
+        }
+        pending.pollFirst();
+        servedCount++;
+        return head.pcb;
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    public int getQueueLength() {
+        return pending.size();
+    }
+
+    /**
+     * Total simulated time the device has spent, or is committed to spend, serving requests.
+     */
+    public long getBusyTime() {
+        return busyTime;
+    }
+
+    public long getServedCount() {
+        return servedCount;
+    }
+
+    /**
+     * Writes the device counters and its outstanding requests, identified by process table slot.
+     */
+    public void writeCheckpoint(DataOutput out) throws IOException {
+        out.writeLong(freeAt);
+        out.writeLong(busyTime);
+        out.writeLong(servedCount);
+        out.writeInt(pending.size());
+        for (Request request : pending) {
+            out.writeInt(request.pcb.getSlot());
+            out.writeLong(request.completionTime);
+        }
+    }
+
+    /**
+     * Rebuilds device {@code index} from {@link #writeCheckpoint}, resolving its requests in {@code table}.
+     */
+    public static IoDevice readCheckpoint(DataInput in, int index, ProcessTable table) throws IOException {
+        IoDevice device = new IoDevice(index);
+        device.freeAt = in.readLong();
+        device.busyTime = in.readLong();
+        device.servedCount = in.readLong();
+        int requests = in.readInt();
+        for (int i = 0; i < requests; i++) {
+            ProcessControlBlock pcb = table.view(in.readInt());
+            device.pending.addLast(new Request(pcb, in.readLong()));
+        }
+        return device;
+    }
+
+    private static final class Request {
+        private final ProcessControlBlock pcb;
+        private final long completionTime;
+
+        Request(ProcessControlBlock pcb, long completionTime) {
+            this.pcb = pcb;
+            this.completionTime = completionTime;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package simulator.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Log-bucketed histogram of non-negative durations with eight sub-buckets per power of two.
+ * Internal latencies are recorded in nanoseconds; scheduling metrics in simulated time units.
+ * Recording is a handful of arithmetic operations on a preallocated array; each histogram is
+ * expected to have a single writer thread and be read after that thread has finished.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKETS * (64 - SUB_BUCKET_BITS);
+
+    private final String name;
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long max;
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a single sample; negative samples are clamped to zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, as obtained from {@link System#nanoTime()}.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns an approximation of the requested quantile (0.0 - 1.0), accurate to the width of one sub-bucket.
+     */
+    public long getValueAtQuantile(double quantile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketMidpoint(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Writes the non-empty buckets as index/count pairs followed by the totals.
+     */
+    public void writeCheckpoint(DataOutput out) throws IOException {
+        int used = 0;
+        for (long count : counts) {
+            if (count != 0) {
+                used++;
+            }
+        }
+        out.writeInt(used);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                out.writeShort(i);
+                out.writeLong(counts[i]);
+            }
+        }
+        out.writeLong(totalCount);
+        out.writeLong(max);
+    }
+
+    /**
+     * Replaces this histogram's samples with those saved by {@link #writeCheckpoint}.
+     */
+    public void restoreCheckpoint(DataInput in) throws IOException {
+        Arrays.fill(counts, 0L);
+        int used = in.readInt();
+        for (int i = 0; i < used; i++) {
+            int index = in.readUnsignedShort();
+            if (index >= counts.length) {
+                throw new IOException("Corrupt checkpoint: histogram bucket " + index + " out of range");
+            }
+            counts[index] = in.readLong();
+        }
+        totalCount = in.readLong();
+        max = in.readLong();
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return SUB_BUCKETS * (shift + 1) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    private static long bucketMidpoint(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >>> 1);
+    }
+}
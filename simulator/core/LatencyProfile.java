@@ -0,0 +1,45 @@
+package simulator.core;
+
+import java.util.List;
+
+/**
+ * Groups the latency histograms collected for the simulator's own code paths during one run.
+ */
+public class LatencyProfile {
+    private final LatencyHistogram dispatchDecision = new LatencyHistogram("Dispatch decision");
+    private final LatencyHistogram allocationWait = new LatencyHistogram("Memory allocation wait");
+    private final LatencyHistogram readyHandoff = new LatencyHistogram("Loader-to-scheduler handoff");
+    private final LatencyHistogram jobParse = new LatencyHistogram("Job record parse");
+
+    /**
+     * Time the scheduler spends choosing the next process, recorded on the scheduler thread.
+     */
+    public LatencyHistogram getDispatchDecision() {
+        return dispatchDecision;
+    }
+
+    /**
+     * Time the loader spends inside {@code MemoryManager.allocateBlocking}, recorded on the loader thread.
+     */
+    public LatencyHistogram getAllocationWait() {
+        return allocationWait;
+    }
+
+    /**
+     * Time between the loader enqueuing a PCB and the scheduler taking it, recorded on the scheduler thread.
+     */
+    public LatencyHistogram getReadyHandoff() {
+        return readyHandoff;
+    }
+
+    /**
+     * Time the reader spends parsing one job record, recorded on the reader thread.
+     */
+    public LatencyHistogram getJobParse() {
+        return jobParse;
+    }
+
+    public List<LatencyHistogram> getHistograms() {
+        return List.of(dispatchDecision, allocationWait, readyHandoff, jobParse);
+    }
+}
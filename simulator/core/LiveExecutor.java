@@ -0,0 +1,150 @@
+package simulator.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Backs each dispatched process with a worker thread that burns calibrated CPU-bound work for the
+ * units the scheduler grants it. The scheduler stays in control: it unparks exactly one worker, parks
+ * until that worker has finished its grant, and only then picks the next process. Wall-clock waiting
+ * and turnaround are written back to each PCB when it completes.
+ */
+public class LiveExecutor {
+    private static final long CALIBRATION_NANOS = 20_000_000L;
+
+    private final long unitMicros;
+    private final long iterationsPerUnit;
+    private final Map<ProcessControlBlock, Worker> workers = new HashMap<>();
+    private volatile long sink;
+
+    /**
+     * Calibrates the work kernel so that one simulated unit takes roughly {@code unitMicros} of CPU time.
+     */
+    public LiveExecutor(long unitMicros) {
+        if (unitMicros <= 0) {
+            throw new IllegalArgumentException("Live unit must be positive");
+        }
+        this.unitMicros = unitMicros;
+        this.iterationsPerUnit = calibrate(unitMicros);
+    }
+
+    public long getUnitMicros() {
+        return unitMicros;
+    }
+
+    public long getIterationsPerUnit() {
+        return iterationsPerUnit;
+    }
+
+    /**
+     * Hands {@code units} of real work to the process's worker and blocks until it yields the CPU back.
+     * Called by the scheduler thread after {@link ProcessControlBlock#consumeCpu(int)}. I/O bursts are not
+     * executed for real, so their simulated duration does not appear in the wall-clock timings.
+     */
+    public void run(ProcessControlBlock pcb, int units) throws InterruptedException {
+        Worker worker = workers.computeIfAbsent(pcb, this::spawn);
+        worker.grant(units, Thread.currentThread());
+        while (worker.granted != 0) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while process " + pcb.getId() + " was running");
+            }
+        }
+        if (pcb.getRemainingTime() == 0 && !pcb.hasPendingIo()) {
+            workers.remove(pcb);
+            worker.retire();
+            long turnaround = System.nanoTime() - pcb.getReadyEnqueueNanos();
+            pcb.recordWallTimes(Math.max(0, turnaround - worker.cpuNanos), turnaround);
+        }
+    }
+
+    /**
+     * Stops any workers whose processes did not complete, for example after an interrupted run.
+     */
+    public void shutdown() throws InterruptedException {
+        for (Worker worker : workers.values()) {
+            worker.retire();
+        }
+        workers.clear();
+    }
+
+    private Worker spawn(ProcessControlBlock pcb) {
+        Worker worker = new Worker();
+        worker.thread = new Thread(worker, "live-pid-" + pcb.getId());
+        worker.thread.setDaemon(true);
+        worker.thread.start();
+        return worker;
+    }
+
+    private long calibrate(long micros) {
+        // Warm the kernel up first so the measurement sees compiled code.
+        sink = burn(1L << 20, sink);
+        long iterations = 0;
+        long batch = 1L << 16;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            sink = burn(batch, sink);
+            iterations += batch;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < CALIBRATION_NANOS);
+        return Math.max(1, iterations * micros * 1_000L / elapsed);
+    }
+
+    /**
+     * Xorshift kernel whose result feeds the next call, so the JIT cannot drop the loop.
+     */
+    private static long burn(long iterations, long seed) {
+        long x = seed | 1;
+        for (long i = 0; i < iterations; i++) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+        }
+        return x;
+    }
+
+    private final class Worker implements Runnable {
+        private Thread thread;
+        private volatile int granted;
+        private volatile boolean retired;
+        private volatile Thread waiter;
+        // Written by the worker before it clears the grant, so the scheduler sees it after the handoff.
+        private long cpuNanos;
+
+        void grant(int units, Thread scheduler) {
+            waiter = scheduler;
+            granted = units;
+            LockSupport.unpark(thread);
+        }
+
+        void retire() throws InterruptedException {
+            retired = true;
+            LockSupport.unpark(thread);
+            thread.join();
+        }
+
+        @Override
+        public void run() {
+            long local = sink;
+            while (true) {
+                int units;
+                while ((units = granted) == 0 && !retired) {
+                    LockSupport.park(this);
+                }
+                if (units == 0) {
+                    break;
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < units; i++) {
+                    local = burn(iterationsPerUnit, local);
+                }
+                cpuNanos += System.nanoTime() - start;
+                granted = 0;
+                LockSupport.unpark(waiter);
+            }
+            sink = local;
+        }
+    }
+}
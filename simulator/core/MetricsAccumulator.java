@@ -0,0 +1,669 @@
+package simulator.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Collects scheduling outcomes as jobs complete, keeping running sums and quantile sketches.
+ * In streaming mode the per-process PCBs and execution slices are not retained, so the accumulator's
+ * memory stays constant regardless of how many jobs a run processes. The run as a whole is only that
+ * lean when its {@code ProcessTable} recycles rows, which a recycling {@code JobStream} does; a job
+ * file or workload queues every job at the start and keeps one row per job.
+ */
+public class MetricsAccumulator {
+    private static final double SLOWDOWN_SCALE = 1000.0;
+
+    private final boolean retainDetails;
+    private final List<ExecutionSlice> slices = new ArrayList<>();
+    private final List<ProcessControlBlock> completedProcesses = new ArrayList<>();
+
+    private final LatencyHistogram waitingDistribution = new LatencyHistogram("Waiting time");
+    private final LatencyHistogram turnaroundDistribution = new LatencyHistogram("Turnaround time");
+    private final LatencyHistogram responseDistribution = new LatencyHistogram("Response time");
+    // Slowdown is a ratio, so the sketch stores it in thousandths.
+    private final LatencyHistogram slowdownDistribution = new LatencyHistogram("Slowdown (x1000)");
+
+    // Volatile so observers on other threads see progress; only the scheduler thread writes it.
+    private volatile int completedCount;
+    private final WideSum totalWaitingTime = new WideSum();
+    private final WideSum totalTurnaroundTime = new WideSum();
+    private final WideSum totalResponseTime = new WideSum();
+    private final WideSum totalWallWaitingNanos = new WideSum();
+    private final WideSum totalWallTurnaroundNanos = new WideSum();
+    private int wallTimedCount;
+    private double totalSlowdown;
+    private double totalSlowdownSquared;
+    private long firstArrivalTime = Long.MAX_VALUE;
+    private long lastCompletionTime;
+    private long sliceCount;
+    private long busyTime;
+    private long[] deviceBusyTime = new long[0];
+    // Per-CPU busy time and slice merge state; a single-CPU scheduler only uses index 0.
+    private CpuTopology topology = CpuTopology.uniform(1);
+    private long[] cpuBusyTime = new long[1];
+    private int[] lastSlicePid = new int[1];
+    private long[] lastSliceEnd = {Long.MIN_VALUE};
+    private int[] lastSliceIndex = new int[1];
+    private long fragmentedCpuTime;
+    private long migrationCount;
+    private long migrationPenaltyTime;
+    // Memory and multiprogramming integrated over simulated time from the samples taken at each decision point.
+    private long memoryTime;
+    private long degreeTime;
+    private long lastSampleTime;
+    private int lastUsedMemory;
+    private int lastDegree;
+    private int peakMemory;
+    private int peakDegree;
+    private String admissionPolicy;
+    private int admissionHolds;
+    private int admissionLimit = -1;
+    // Retained details already saved by the previous checkpoint; only the slices and completions after them change.
+    private int checkpointedSlices;
+    private int checkpointedCompletions;
+
+    /**
+     * Creates an accumulator that keeps PCBs and slices when {@code retainDetails} is true.
+     */
+    public MetricsAccumulator(boolean retainDetails) {
+        this.retainDetails = retainDetails;
+    }
+
+    /**
+     * Builds a detailed accumulator from already collected lists.
+     */
+    public static MetricsAccumulator of(List<ExecutionSlice> slices, List<ProcessControlBlock> completedProcesses) {
+        MetricsAccumulator metrics = new MetricsAccumulator(true);
+        for (ExecutionSlice slice : slices) {
+            metrics.recordSlice(slice.getProcessId(), slice.getStartTime(), slice.getEndTime());
+        }
+        for (ProcessControlBlock pcb : completedProcesses) {
+            metrics.recordCompletion(pcb);
+        }
+        return metrics;
+    }
+
+    /**
+     * Declares the CPUs the scheduler runs, so utilization is measured against all of them and reported per speed
+     * class; call before the first slice.
+     */
+    public void setCpuTopology(CpuTopology topology) {
+        this.topology = topology;
+        int cpuCount = topology.getCpuCount();
+        cpuBusyTime = new long[cpuCount];
+        lastSlicePid = new int[cpuCount];
+        lastSliceEnd = new long[cpuCount];
+        Arrays.fill(lastSliceEnd, Long.MIN_VALUE);
+        lastSliceIndex = new int[cpuCount];
+    }
+
+    /**
+     * Records a contiguous execution window on the CPU, merging it into the previous slice when the same
+     * process simply continues running.
+     */
+    public void recordSlice(int processId, long startTime, long endTime) {
+        recordSlice(0, processId, startTime, endTime);
+    }
+
+    /**
+     * Records an execution window on one CPU of a multicore scheduler; each thread of a gang is a slice on its own CPU.
+     */
+    public void recordSlice(int cpu, int processId, long startTime, long endTime) {
+        busyTime += endTime - startTime;
+        cpuBusyTime[cpu] += endTime - startTime;
+        boolean continues = lastSlicePid[cpu] == processId && lastSliceEnd[cpu] == startTime;
+        lastSlicePid[cpu] = processId;
+        lastSliceEnd[cpu] = endTime;
+        if (continues) {
+            if (retainDetails) {
+                int last = lastSliceIndex[cpu];
+                slices.set(last, new ExecutionSlice(processId, slices.get(last).getStartTime(), endTime, cpu));
+            }
+            return;
+        }
+        sliceCount++;
+        if (retainDetails) {
+            lastSliceIndex[cpu] = slices.size();
+            slices.add(new ExecutionSlice(processId, startTime, endTime, cpu));
+        }
+    }
+
+    /**
+     * Adds CPU time left idle while ready gangs were waiting for enough CPUs at once.
+     */
+    public void recordFragmentation(long idleCpuTime) {
+        fragmentedCpuTime += idleCpuTime;
+    }
+
+    /**
+     * Counts a dispatch onto other CPUs than last time and the CPU time lost refilling caches.
+     */
+    public void recordMigration(long penaltyCpuTime) {
+        migrationCount++;
+        migrationPenaltyTime += penaltyCpuTime;
+    }
+
+    /**
+     * Records the memory in use and the degree of multiprogramming at {@code time}; both are taken to hold until
+     * the next sample.
+     */
+    public void sampleMemory(long time, int usedMemory, int degree) {
+        if (time > lastSampleTime) {
+            memoryTime += (long) lastUsedMemory * (time - lastSampleTime);
+            degreeTime += (long) lastDegree * (time - lastSampleTime);
+            lastSampleTime = time;
+        }
+        lastUsedMemory = usedMemory;
+        lastDegree = degree;
+        peakMemory = Math.max(peakMemory, usedMemory);
+        peakDegree = Math.max(peakDegree, degree);
+    }
+
+    /**
+     * Records the admission policy of the run, how many jobs it held back, and the cap in force at the end
+     * (-1 if the policy has none).
+     */
+    public void recordAdmission(String policy, int heldJobs, int finalLimit) {
+        admissionPolicy = policy;
+        admissionHolds = heldJobs;
+        admissionLimit = finalLimit;
+    }
+
+    /**
+     * Folds a terminated process into the running statistics.
+     */
+    public void recordCompletion(ProcessControlBlock pcb) {
+        completedCount++;
+        totalWaitingTime.add(pcb.getWaitingTime());
+        totalTurnaroundTime.add(pcb.getTurnaroundTime());
+        totalResponseTime.add(pcb.getResponseTime());
+        waitingDistribution.record(pcb.getWaitingTime());
+        turnaroundDistribution.record(pcb.getTurnaroundTime());
+        responseDistribution.record(pcb.getResponseTime());
+        double slowdown = slowdown(pcb);
+        totalSlowdown += slowdown;
+        totalSlowdownSquared += slowdown * slowdown;
+        slowdownDistribution.record(Math.round(slowdown * SLOWDOWN_SCALE));
+        if (pcb.getWallTurnaroundNanos() > 0) {
+            wallTimedCount++;
+            totalWallWaitingNanos.add(pcb.getWallWaitingNanos());
+            totalWallTurnaroundNanos.add(pcb.getWallTurnaroundNanos());
+        }
+        firstArrivalTime = Math.min(firstArrivalTime, pcb.getArrivalTime());
+        lastCompletionTime = Math.max(lastCompletionTime, pcb.getCompletionTime());
+        if (retainDetails) {
+            completedProcesses.add(pcb);
+        }
+    }
+
+    /**
+     * Captures how long each I/O device was busy during the run.
+     */
+    public void recordDevices(List<IoDevice> devices) {
+        deviceBusyTime = new long[devices.size()];
+        for (IoDevice device : devices) {
+            deviceBusyTime[device.getIndex()] = device.getBusyTime();
+        }
+    }
+
+    public int getDeviceCount() {
+        return deviceBusyTime.length;
+    }
+
+    /**
+     * Fraction of the makespan during which the given I/O device was serving requests.
+     */
+    public double getDeviceUtilization(int device) {
+        long makespan = getMakespan();
+        return makespan == 0 ? 0.0 : (double) deviceBusyTime[device] / makespan;
+    }
+
+    public boolean isRetainingDetails() {
+        return retainDetails;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    /**
+     * Returns the number of slices after merging consecutive windows of the same process.
+     */
+    public long getSliceCount() {
+        return sliceCount;
+    }
+
+    public long getBusyTime() {
+        return busyTime;
+    }
+
+    public double getAverageWaitingTime() {
+        return totalWaitingTime.mean(completedCount);
+    }
+
+    public double getAverageTurnaroundTime() {
+        return totalTurnaroundTime.mean(completedCount);
+    }
+
+    public double getAverageResponseTime() {
+        return totalResponseTime.mean(completedCount);
+    }
+
+    /**
+     * Indicates whether completed jobs carried wall-clock timings from a live run.
+     */
+    public boolean hasWallClockTimes() {
+        return wallTimedCount > 0;
+    }
+
+    public double getAverageWallWaitingMillis() {
+        return totalWallWaitingNanos.mean(wallTimedCount) / 1_000_000.0;
+    }
+
+    public double getAverageWallTurnaroundMillis() {
+        return totalWallTurnaroundNanos.mean(wallTimedCount) / 1_000_000.0;
+    }
+
+    public LatencyHistogram getWaitingDistribution() {
+        return waitingDistribution;
+    }
+
+    public LatencyHistogram getTurnaroundDistribution() {
+        return turnaroundDistribution;
+    }
+
+    public LatencyHistogram getResponseDistribution() {
+        return responseDistribution;
+    }
+
+    /**
+     * Returns the earliest arrival among completed jobs, or {@link Long#MAX_VALUE} before the first completion.
+     */
+    public long getFirstArrivalTime() {
+        return firstArrivalTime;
+    }
+
+    public long getLastCompletionTime() {
+        return lastCompletionTime;
+    }
+
+    /**
+     * Elapsed simulated time from the first arrival to the last completion.
+     */
+    public long getMakespan() {
+        return completedCount == 0 ? 0 : lastCompletionTime - firstArrivalTime;
+    }
+
+    /**
+     * Completed jobs per simulated time unit over the makespan.
+     */
+    public double getThroughput() {
+        long makespan = getMakespan();
+        return makespan == 0 ? 0.0 : (double) completedCount / makespan;
+    }
+
+    /**
+     * Fraction of the makespan during which the CPUs were busy, averaged over all CPUs, so idle gaps lower the value.
+     */
+    public double getCpuUtilization() {
+        long makespan = getMakespan();
+        return makespan == 0 ? 0.0 : (double) busyTime / makespan / topology.getCpuCount();
+    }
+
+    public int getCpuCount() {
+        return topology.getCpuCount();
+    }
+
+    public CpuTopology getCpuTopology() {
+        return topology;
+    }
+
+    /**
+     * Fraction of the makespan during which the given CPU was busy.
+     */
+    public double getCpuUtilization(int cpu) {
+        long makespan = getMakespan();
+        return makespan == 0 ? 0.0 : (double) cpuBusyTime[cpu] / makespan;
+    }
+
+    /**
+     * Fraction of the makespan during which the CPUs of a speed class were busy, averaged over the class.
+     */
+    public double getClassUtilization(int speedClass) {
+        long makespan = getMakespan();
+        long mask = topology.getClassMask(speedClass);
+        long classBusy = 0;
+        for (long cpus = mask; cpus != 0; cpus &= cpus - 1) {
+            classBusy += cpuBusyTime[Long.numberOfTrailingZeros(cpus)];
+        }
+        return makespan == 0 ? 0.0 : (double) classBusy / makespan / Long.bitCount(mask);
+    }
+
+    /**
+     * Fraction of total CPU capacity left idle while gangs waited for CPUs, the cost of co-scheduling them.
+     */
+    public double getFragmentation() {
+        long makespan = getMakespan();
+        return makespan == 0 ? 0.0 : (double) fragmentedCpuTime / makespan / topology.getCpuCount();
+    }
+
+    public long getFragmentedCpuTime() {
+        return fragmentedCpuTime;
+    }
+
+    public long getMigrationCount() {
+        return migrationCount;
+    }
+
+    public long getMigrationPenaltyTime() {
+        return migrationPenaltyTime;
+    }
+
+    /**
+     * Memory in use averaged over the makespan, in MB.
+     */
+    public double getAverageMemoryUsed() {
+        long makespan = getMakespan();
+        return makespan == 0 ? 0.0 : (double) memoryTime / makespan;
+    }
+
+    public int getPeakMemoryUsed() {
+        return peakMemory;
+    }
+
+    /**
+     * Number of processes holding memory, averaged over the makespan.
+     */
+    public double getAverageDegree() {
+        long makespan = getMakespan();
+        return makespan == 0 ? 0.0 : (double) degreeTime / makespan;
+    }
+
+    public int getPeakDegree() {
+        return peakDegree;
+    }
+
+    /**
+     * Returns the admission policy of the run, or null if jobs were admitted whenever memory fit.
+     */
+    public String getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    public int getAdmissionHolds() {
+        return admissionHolds;
+    }
+
+    public int getAdmissionLimit() {
+        return admissionLimit;
+    }
+
+    /**
+     * Jain's fairness index over per-process slowdown: 1.0 when every job is slowed equally, approaching 1/n otherwise.
+     */
+    public double getFairnessIndex() {
+        if (completedCount == 0 || totalSlowdownSquared == 0.0) {
+            return 1.0;
+        }
+        return (totalSlowdown * totalSlowdown) / (completedCount * totalSlowdownSquared);
+    }
+
+    public DistributionSummary getWaitingSummary() {
+        return summarize(waitingDistribution, getAverageWaitingTime(), ProcessControlBlock::getWaitingTime, 1.0);
+    }
+
+    public DistributionSummary getTurnaroundSummary() {
+        return summarize(turnaroundDistribution, getAverageTurnaroundTime(), ProcessControlBlock::getTurnaroundTime, 1.0);
+    }
+
+    public DistributionSummary getResponseSummary() {
+        return summarize(responseDistribution, getAverageResponseTime(), ProcessControlBlock::getResponseTime, 1.0);
+    }
+
+    /**
+     * Summarizes slowdown, defined as turnaround time divided by burst time.
+     */
+    public DistributionSummary getSlowdownSummary() {
+        return summarize(slowdownDistribution, completedCount == 0 ? 0.0 : totalSlowdown / completedCount, MetricsAccumulator::slowdown, SLOWDOWN_SCALE);
+    }
+
+    /**
+     * Uses exact nearest-rank percentiles when PCBs are retained and the quantile sketch otherwise.
+     */
+    private DistributionSummary summarize(LatencyHistogram sketch,
+                                          double mean,
+                                          ToDoubleFunction<ProcessControlBlock> metric,
+                                          double scale) {
+        if (completedCount == 0) {
+            return new DistributionSummary(0.0, 0.0, 0.0, 0.0, 0.0);
+        }
+        if (retainDetails) {
+            double[] values = completedProcesses.stream().mapToDouble(metric).toArray();
+            Arrays.sort(values);
+            return new DistributionSummary(mean,
+                    nearestRank(values, 0.50),
+                    nearestRank(values, 0.90),
+                    nearestRank(values, 0.99),
+                    values[values.length - 1]);
+        }
+        return new DistributionSummary(mean,
+                sketch.getValueAtQuantile(0.50) / scale,
+                sketch.getValueAtQuantile(0.90) / scale,
+                sketch.getValueAtQuantile(0.99) / scale,
+                sketch.getMax() / scale);
+    }
+
+    private static double nearestRank(double[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double slowdown(ProcessControlBlock pcb) {
+        return (double) pcb.getTurnaroundTime() / Math.max(1, pcb.getBurstTime());
+    }
+
+    /**
+     * Writes the running sums, sketches, and the slice merge state, plus the retained slices and completed
+     * processes (by process table slot) in detailed mode. Unless {@code full} is set, only the slices and
+     * completions added or merged since the previous call are written.
+     */
+    public void writeCheckpoint(DataOutput out, boolean full) throws IOException {
+        out.writeBoolean(retainDetails);
+        int firstSlice = full ? 0 : checkpointedSlices;
+        for (int cpu = 0; cpu < lastSliceIndex.length; cpu++) {
+            // The last slice on each CPU may have been extended by a merge since it was saved.
+            if (lastSliceEnd[cpu] != Long.MIN_VALUE) {
+                firstSlice = Math.min(firstSlice, lastSliceIndex[cpu]);
+            }
+        }
+        out.writeInt(firstSlice);
+        out.writeInt(slices.size() - firstSlice);
+        for (ExecutionSlice slice : slices.subList(firstSlice, slices.size())) {
+            out.writeInt(slice.getProcessId());
+            out.writeLong(slice.getStartTime());
+            out.writeLong(slice.getEndTime());
+            out.writeInt(slice.getCpu());
+        }
+        int firstCompleted = full ? 0 : checkpointedCompletions;
+        out.writeInt(firstCompleted);
+        out.writeInt(completedProcesses.size() - firstCompleted);
+        for (ProcessControlBlock pcb : completedProcesses.subList(firstCompleted, completedProcesses.size())) {
+            out.writeInt(pcb.getSlot());
+        }
+        checkpointedSlices = slices.size();
+        checkpointedCompletions = completedProcesses.size();
+        waitingDistribution.writeCheckpoint(out);
+        turnaroundDistribution.writeCheckpoint(out);
+        responseDistribution.writeCheckpoint(out);
+        slowdownDistribution.writeCheckpoint(out);
+        out.writeInt(completedCount);
+        for (WideSum sum : new WideSum[] {
+                totalWaitingTime, totalTurnaroundTime, totalResponseTime, totalWallWaitingNanos, totalWallTurnaroundNanos}) {
+            out.writeLong(sum.high);
+            out.writeLong(sum.low);
+        }
+        out.writeInt(wallTimedCount);
+        out.writeDouble(totalSlowdown);
+        out.writeDouble(totalSlowdownSquared);
+        out.writeLong(firstArrivalTime);
+        out.writeLong(lastCompletionTime);
+        out.writeLong(sliceCount);
+        out.writeLong(busyTime);
+        out.writeInt(topology.getCpuCount());
+        for (int cpu = 0; cpu < topology.getCpuCount(); cpu++) {
+            out.writeDouble(topology.getSpeed(cpu));
+        }
+        for (int cpu = 0; cpu < topology.getCpuCount(); cpu++) {
+            out.writeLong(cpuBusyTime[cpu]);
+            out.writeInt(lastSlicePid[cpu]);
+            out.writeLong(lastSliceEnd[cpu]);
+            out.writeInt(lastSliceIndex[cpu]);
+        }
+        out.writeLong(fragmentedCpuTime);
+        out.writeLong(migrationCount);
+        out.writeLong(migrationPenaltyTime);
+        out.writeLong(memoryTime);
+        out.writeLong(degreeTime);
+        out.writeLong(lastSampleTime);
+        out.writeInt(lastUsedMemory);
+        out.writeInt(lastDegree);
+        out.writeInt(peakMemory);
+        out.writeInt(peakDegree);
+    }
+
+    /**
+     * Rebuilds an accumulator from a full {@link #writeCheckpoint}, resolving completed processes in {@code table}.
+     */
+    public static MetricsAccumulator readCheckpoint(DataInput in, ProcessTable table) throws IOException {
+        MetricsAccumulator metrics = new MetricsAccumulator(in.readBoolean());
+        metrics.restoreCheckpoint(in, table);
+        return metrics;
+    }
+
+    /**
+     * Brings an accumulator rebuilt from the previous checkpoint up to date with a later {@link #writeCheckpoint}.
+     */
+    public void applyCheckpoint(DataInput in, ProcessTable table) throws IOException {
+        if (in.readBoolean() != retainDetails) {
+            throw new IOException("Corrupt checkpoint: detail retention changed between checkpoints");
+        }
+        restoreCheckpoint(in, table);
+    }
+
+    private void restoreCheckpoint(DataInput in, ProcessTable table) throws IOException {
+        int firstSlice = in.readInt();
+        if (firstSlice < 0 || firstSlice > slices.size()) {
+            throw new IOException("Corrupt checkpoint: slices resume at " + firstSlice + " of " + slices.size());
+        }
+        slices.subList(firstSlice, slices.size()).clear();
+        int sliceTotal = in.readInt();
+        for (int i = 0; i < sliceTotal; i++) {
+            slices.add(new ExecutionSlice(in.readInt(), in.readLong(), in.readLong(), in.readInt()));
+        }
+        int firstCompleted = in.readInt();
+        if (firstCompleted < 0 || firstCompleted > completedProcesses.size()) {
+            throw new IOException("Corrupt checkpoint: completions resume at " + firstCompleted
+                    + " of " + completedProcesses.size());
+        }
+        completedProcesses.subList(firstCompleted, completedProcesses.size()).clear();
+        int completedTotal = in.readInt();
+        for (int i = 0; i < completedTotal; i++) {
+            completedProcesses.add(table.view(in.readInt()));
+        }
+        waitingDistribution.restoreCheckpoint(in);
+        turnaroundDistribution.restoreCheckpoint(in);
+        responseDistribution.restoreCheckpoint(in);
+        slowdownDistribution.restoreCheckpoint(in);
+        completedCount = in.readInt();
+        for (WideSum sum : new WideSum[] {
+                totalWaitingTime, totalTurnaroundTime, totalResponseTime,
+                totalWallWaitingNanos, totalWallTurnaroundNanos}) {
+            sum.high = in.readLong();
+            sum.low = in.readLong();
+        }
+        wallTimedCount = in.readInt();
+        totalSlowdown = in.readDouble();
+        totalSlowdownSquared = in.readDouble();
+        firstArrivalTime = in.readLong();
+        lastCompletionTime = in.readLong();
+        sliceCount = in.readLong();
+        busyTime = in.readLong();
+        int cpus = in.readInt();
+        if (cpus < 1 || cpus > CpuMask.MAX_CPUS) {
+            throw new IOException("Corrupt checkpoint: " + cpus + " CPUs");
+        }
+        double[] speeds = new double[cpus];
+        for (int cpu = 0; cpu < cpus; cpu++) {
+            speeds[cpu] = in.readDouble();
+        }
+        try {
+            setCpuTopology(CpuTopology.of(speeds));
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("Corrupt checkpoint: " + ex.getMessage(), ex);
+        }
+        for (int cpu = 0; cpu < cpus; cpu++) {
+            cpuBusyTime[cpu] = in.readLong();
+            lastSlicePid[cpu] = in.readInt();
+            lastSliceEnd[cpu] = in.readLong();
+            lastSliceIndex[cpu] = in.readInt();
+        }
+        fragmentedCpuTime = in.readLong();
+        migrationCount = in.readLong();
+        migrationPenaltyTime = in.readLong();
+        memoryTime = in.readLong();
+        degreeTime = in.readLong();
+        lastSampleTime = in.readLong();
+        lastUsedMemory = in.readInt();
+        lastDegree = in.readInt();
+        peakMemory = in.readInt();
+        peakDegree = in.readInt();
+    }
+
+    /**
+     * Returns the retained slices, or an empty list in streaming mode.
+     */
+    public List<ExecutionSlice> getSlices() {
+        return Collections.unmodifiableList(slices);
+    }
+
+    /**
+     * Returns the retained PCBs, or an empty list in streaming mode.
+     */
+    public List<ProcessControlBlock> getCompletedProcesses() {
+        return Collections.unmodifiableList(completedProcesses);
+    }
+
+    /**
+     * 128-bit running sum, so per-process times totalled over any number of jobs cannot overflow.
+     */
+    private static final class WideSum {
+        private static final double TWO_POW_64 = 18446744073709551616.0;
+
+        private long high;
+        private long low;
+
+        void add(long value) {
+            long sum = low + value;
+            // Sign-extend the addend into the high word and carry when the low word wraps as unsigned.
+            high += (value >> 63) + (Long.compareUnsigned(sum, low) < 0 ? 1 : 0);
+            low = sum;
+        }
+
+        double mean(int count) {
+            if (count == 0) {
+                return 0.0;
+            }
+            if (high == 0 && low >= 0) {
+                return (double) low / count;
+            }
+            double unsignedLow = (double) (low >>> 1) * 2.0 + (low & 1);
+            return (high * TWO_POW_64 + unsignedLow) / count;
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package simulator.core;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents a process control block (PCB) that tracks the lifecycle and statistics of a job.
+ * A PCB is a lightweight view over one slot of a {@link ProcessTable}; all state lives in the table's columns.
  */
 public class ProcessControlBlock {
     /**
@@ -16,219 +15,277 @@ public class ProcessControlBlock {
         JOB_QUEUED,
         READY,
         RUNNING,
+        WAITING,
         TERMINATED
     }
 
-    private final int id;
-    private final int burstTime;
-    private final int basePriority;
-    private final int memoryRequired;
-    private final int arrivalTime;
-    private final int arrivalOrder;
+    private final ProcessTable table;
+    private final int slot;
 
-    private ProcessState state = ProcessState.NEW;
-    private int dynamicPriority;
-    private int remainingTime;
-    private int executedTime;
-
-    private int waitingTime;
-    private int turnaroundTime;
-    private int responseTime = -1;
-
-    private int startTime = -1;
-    private int completionTime = -1;
-    private int readyAdmissionTime = -1;
-    private int admissionDegree;
-    private int lastReadyTimestamp;
-    private int priorityBoostCount;
-
-    private boolean sufferedStarvation;
-    private final List<String> starvationEvents = new ArrayList<>();
+    /**
+     * Builds a standalone PCB with immutable workload details, backed by its own single-row table.
+     */
+    public ProcessControlBlock(int id, int burstTime, int basePriority, int memoryRequired, long arrivalTime, int arrivalOrder) {
+        this.table = new ProcessTable(1);
+        this.slot = table.add(id, burstTime, basePriority, memoryRequired, arrivalTime, arrivalOrder);
+    }
 
     /**
-     * Builds a PCB with immutable workload details.
+     * Builds a view over an existing table slot.
      */
-    public ProcessControlBlock(int id, int burstTime, int basePriority, int memoryRequired, int arrivalTime, int arrivalOrder) {
-        this.id = id;
-        this.burstTime = burstTime;
-        this.basePriority = basePriority;
-        this.memoryRequired = memoryRequired;
-        this.arrivalTime = arrivalTime;
-        this.arrivalOrder = arrivalOrder;
-        this.dynamicPriority = basePriority;
-        this.remainingTime = burstTime;
+    ProcessControlBlock(ProcessTable table, int slot) {
+        this.table = table;
+        this.slot = slot;
+    }
+
+    public ProcessTable getTable() {
+        return table;
+    }
+
+    public int getSlot() {
+        return slot;
     }
 
     /**
      * Marks the process as queued in the job list.
      */
     public void markQueued() {
-        this.state = ProcessState.JOB_QUEUED;
+        table.markQueued(slot);
     }
 
     /**
      * Marks the process as ready and records timing metadata.
      */
-    public void markReady(int currentTime, int degreeOfMultiprogramming, boolean initialAdmission) {
-        this.state = ProcessState.READY;
-        this.lastReadyTimestamp = currentTime;
-        if (initialAdmission && this.readyAdmissionTime < 0) {
-            this.readyAdmissionTime = currentTime;
-            this.admissionDegree = degreeOfMultiprogramming;
-        }
+    public void markReady(long currentTime, int degreeOfMultiprogramming, boolean initialAdmission) {
+        table.markReady(slot, currentTime, degreeOfMultiprogramming, initialAdmission);
     }
 
     /**
      * Records the transition to running and the experienced wait time.
      */
-    public void markDispatched(int currentTime) {
-        this.state = ProcessState.RUNNING;
-        if (this.startTime < 0) {
-            this.startTime = currentTime;
-        }
-        if (this.responseTime < 0) {
-            this.responseTime = currentTime - this.arrivalTime;
-        }
-        this.waitingTime += currentTime - this.lastReadyTimestamp;
+    public void markDispatched(long currentTime) {
+        table.markDispatched(slot, currentTime);
     }
 
     /**
      * Consumes CPU time and returns how many units were actually executed.
      */
     public int consumeCpu(int requested) {
-        int granted = Math.min(requested, this.remainingTime);
-        this.remainingTime -= granted;
-        this.executedTime += granted;
-        return granted;
+        return table.consumeCpu(slot, requested);
     }
 
     /**
      * Marks a process as re-queued after partial execution.
      */
-    public void markRequeued(int currentTime, int degreeOfMultiprogramming) {
+    public void markRequeued(long currentTime, int degreeOfMultiprogramming) {
         markReady(currentTime, degreeOfMultiprogramming, false);
     }
 
+    /**
+     * Returns true when the current CPU burst is finished and an I/O burst follows it.
+     */
+    public boolean hasPendingIo() {
+        return table.hasPendingIo(slot);
+    }
+
+    public int getPendingIoBurst() {
+        return table.getPendingIoBurst(slot);
+    }
+
+    public int getPendingIoDevice() {
+        return table.getPendingIoDevice(slot);
+    }
+
+    public int getIoBurstCount() {
+        return table.getIoBurstCount(slot);
+    }
+
+    /**
+     * Blocks the process on its pending I/O burst.
+     */
+    public void markWaiting() {
+        table.markWaiting(slot);
+    }
+
+    /**
+     * Finishes the pending I/O burst and returns the process to the ready state with its next CPU burst.
+     */
+    public void completeIo(long currentTime, int degreeOfMultiprogramming) {
+        table.completeIo(slot, currentTime, degreeOfMultiprogramming);
+    }
+
     /**
      * Finalizes bookkeeping for a completed job.
      */
-    public void markCompleted(int currentTime) {
-        this.state = ProcessState.TERMINATED;
-        this.completionTime = currentTime;
-        this.turnaroundTime = this.completionTime - this.arrivalTime;
+    public void markCompleted(long currentTime) {
+        table.markCompleted(slot, currentTime);
     }
 
     /**
      * Flags a starvation incident for later reporting.
      */
-    public void markStarvation(int waitingDuration) {
-        if (!this.sufferedStarvation) {
-            this.sufferedStarvation = true;
-        }
-        this.starvationEvents.add("Process " + id + " waited " + waitingDuration + " units before aging");
+    public void markStarvation(long waitingDuration) {
+        table.markStarvation(slot, waitingDuration);
     }
 
     /**
-     * Applies an aging boost to the dynamic priority, respecting the upper bound.
+     * Applies an aging boost to the dynamic priority, respecting the upper bound, and returns the levels applied.
      */
-    public void boostPriority(int delta) {
-        if (delta <= 0) {
-            return;
-        }
-        for (int i = 0; i < delta; i++) {
-            if (this.dynamicPriority < 128) {
-                this.dynamicPriority++;
-                this.priorityBoostCount++;
-            }
-        }
+    public int boostPriority(int delta) {
+        return table.boostPriority(slot, delta);
+    }
+
+    /**
+     * Stamps the wall-clock instant at which the loader placed the PCB on the ready queue.
+     */
+    public void markReadyEnqueued(long nanos) {
+        table.markReadyEnqueued(slot, nanos);
+    }
+
+    public long getReadyEnqueueNanos() {
+        return table.getReadyEnqueueNanos(slot);
+    }
+
+    /**
+     * Records wall-clock waiting and turnaround measured in live mode.
+     */
+    public void recordWallTimes(long waitingNanos, long turnaroundNanos) {
+        table.recordWallTimes(slot, waitingNanos, turnaroundNanos);
+    }
+
+    /**
+     * Returns the measured wall-clock waiting time, or zero when the run was not live.
+     */
+    public long getWallWaitingNanos() {
+        return table.getWallWaitingNanos(slot);
+    }
+
+    public long getWallTurnaroundNanos() {
+        return table.getWallTurnaroundNanos(slot);
     }
 
     public int getId() {
-        return id;
+        return table.getId(slot);
     }
 
+    /**
+     * Returns the total CPU demand across all CPU bursts.
+     */
     public int getBurstTime() {
-        return burstTime;
+        return table.getBurstTime(slot);
     }
 
     public int getBasePriority() {
-        return basePriority;
+        return table.getBasePriority(slot);
     }
 
     public int getMemoryRequired() {
-        return memoryRequired;
+        return table.getMemoryRequired(slot);
+    }
+
+    /**
+     * Returns how many threads the process runs; multicore schedulers dispatch them together as a gang.
+     */
+    public int getThreadCount() {
+        return table.getThreadCount(slot);
+    }
+
+    /**
+     * Returns the CPUs the process may run on as a {@link CpuMask}.
+     */
+    public long getAffinityMask() {
+        return table.getAffinityMask(slot);
     }
 
-    public int getArrivalTime() {
-        return arrivalTime;
+    public long getArrivalTime() {
+        return table.getArrivalTime(slot);
     }
 
     public int getArrivalOrder() {
-        return arrivalOrder;
+        return table.getArrivalOrder(slot);
     }
 
     public ProcessState getState() {
-        return state;
+        return table.getState(slot);
     }
 
     public int getDynamicPriority() {
-        return dynamicPriority;
+        return table.getDynamicPriority(slot);
     }
 
+    /**
+     * Returns the CPU time left in the current burst; for single-burst jobs this is the whole remaining demand.
+     */
     public int getRemainingTime() {
-        return remainingTime;
+        return table.getRemainingTime(slot);
     }
 
-    public int getWaitingTime() {
-        return waitingTime;
+    public long getWaitingTime() {
+        return table.getWaitingTime(slot);
     }
 
-    public int getTurnaroundTime() {
-        return turnaroundTime;
+    public long getTurnaroundTime() {
+        return table.getTurnaroundTime(slot);
     }
 
-    public int getResponseTime() {
-        return responseTime;
+    public long getResponseTime() {
+        return table.getResponseTime(slot);
     }
 
-    public int getStartTime() {
-        return startTime;
+    public long getStartTime() {
+        return table.getStartTime(slot);
     }
 
-    public int getCompletionTime() {
-        return completionTime;
+    public long getCompletionTime() {
+        return table.getCompletionTime(slot);
     }
 
-    public int getReadyAdmissionTime() {
-        return readyAdmissionTime;
+    public long getReadyAdmissionTime() {
+        return table.getReadyAdmissionTime(slot);
     }
 
     public int getAdmissionDegree() {
-        return admissionDegree;
+        return table.getAdmissionDegree(slot);
     }
 
-    public int getLastReadyTimestamp() {
-        return lastReadyTimestamp;
+    public long getLastReadyTimestamp() {
+        return table.getLastReadyTimestamp(slot);
     }
 
     public int getExecutedTime() {
-        return executedTime;
+        return table.getExecutedTime(slot);
     }
 
     public boolean hasSufferedStarvation() {
-        return sufferedStarvation;
+        return table.hasSufferedStarvation(slot);
     }
 
     public List<String> getStarvationEvents() {
-        return Collections.unmodifiableList(starvationEvents);
+        return table.getStarvationEvents(slot);
     }
 
     public int getPriorityBoostCount() {
-        return priorityBoostCount;
+        return table.getPriorityBoostCount(slot);
     }
 
     public void resetDynamicPriority() {
-        this.dynamicPriority = this.basePriority;
-        this.priorityBoostCount = 0;
+        table.resetDynamicPriority(slot);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ProcessControlBlock)) {
+            return false;
+        }
+        ProcessControlBlock view = (ProcessControlBlock) other;
+        return table == view.table && slot == view.slot;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(table) * 31 + slot;
     }
 }
@@ -5,30 +5,54 @@ package simulator.core;
  */
 public class ProcessReport {
     private final int processId;
-    private final int waitingTime;
-    private final int turnaroundTime;
-    private final int responseTime;
+    private final long waitingTime;
+    private final long turnaroundTime;
+    private final long responseTime;
+    private final double wallWaitingMillis;
+    private final double wallTurnaroundMillis;
 
-    public ProcessReport(int processId, int waitingTime, int turnaroundTime, int responseTime) {
+    public ProcessReport(int processId, long waitingTime, long turnaroundTime, long responseTime) {
+        this(processId, waitingTime, turnaroundTime, responseTime, 0.0, 0.0);
+    }
+
+    /**
+     * Also carries the wall-clock waiting and turnaround measured in live mode.
+     */
+    public ProcessReport(int processId,
+                         long waitingTime,
+                         long turnaroundTime,
+                         long responseTime,
+                         double wallWaitingMillis,
+                         double wallTurnaroundMillis) {
         this.processId = processId;
         this.waitingTime = waitingTime;
         this.turnaroundTime = turnaroundTime;
         this.responseTime = responseTime;
+        this.wallWaitingMillis = wallWaitingMillis;
+        this.wallTurnaroundMillis = wallTurnaroundMillis;
     }
 
     public int getProcessId() {
         return processId;
     }
 
-    public int getWaitingTime() {
+    public long getWaitingTime() {
         return waitingTime;
     }
 
-    public int getTurnaroundTime() {
+    public long getTurnaroundTime() {
         return turnaroundTime;
     }
 
-    public int getResponseTime() {
+    public long getResponseTime() {
         return responseTime;
     }
+
+    public double getWallWaitingMillis() {
+        return wallWaitingMillis;
+    }
+
+    public double getWallTurnaroundMillis() {
+        return wallTurnaroundMillis;
+    }
 }
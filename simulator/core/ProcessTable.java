@@ -0,0 +1,735 @@
+package simulator.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Struct-of-arrays storage for process control blocks. Every PCB field lives in a primitive column
+ * indexed by an integer slot, so large simulations avoid one heap object per process.
+ * Columns grow in fixed-size chunks that never move once allocated, which lets the reader thread
+ * append rows while the loader and scheduler update existing ones. Rows are published to other
+ * threads through the job and ready queues.
+ */
+public class ProcessTable {
+    /**
+     * Highest dynamic priority aging can raise a process to.
+     */
+    public static final int MAX_DYNAMIC_PRIORITY = 128;
+
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final int ID = 0;
+    private static final int BURST = 1;
+    private static final int BASE_PRIORITY = 2;
+    private static final int MEMORY = 3;
+    private static final int ARRIVAL_ORDER = 4;
+    private static final int STATE = 5;
+    private static final int DYNAMIC_PRIORITY = 6;
+    private static final int REMAINING = 7;
+    private static final int EXECUTED = 8;
+    private static final int ADMISSION_DEGREE = 9;
+    private static final int BOOST_COUNT = 10;
+    private static final int STARVED = 11;
+    private static final int IO_DONE = 12;
+    private static final int THREADS = 13;
+    private static final int INT_COLUMNS = 14;
+
+    // Simulated timestamps and durations are 64-bit so long-horizon runs cannot overflow.
+    private static final int ARRIVAL = 0;
+    private static final int WAITING = 1;
+    private static final int TURNAROUND = 2;
+    private static final int RESPONSE = 3;
+    private static final int START = 4;
+    private static final int COMPLETION = 5;
+    private static final int READY_ADMISSION = 6;
+    private static final int LAST_READY = 7;
+    private static final int ENQUEUE_NANOS = 8;
+    private static final int WALL_WAITING = 9;
+    private static final int WALL_TURNAROUND = 10;
+    private static final int AFFINITY = 11;
+    private static final int LAST_CPUS = 12;
+    private static final int LONG_COLUMNS = 13;
+
+    private static final ProcessControlBlock.ProcessState[] STATES = ProcessControlBlock.ProcessState.values();
+
+    private volatile int[][][] ints = new int[INT_COLUMNS][0][];
+    private volatile long[][][] longs = new long[LONG_COLUMNS][0][];
+    // Burst plans of multi-burst processes, encoded as cpu0, io0, device0, cpu1, ...; null for a single CPU burst.
+    private volatile int[][][] plans = new int[0][][];
+    // Set by every column write so a checkpoint can save only the chunks changed since the previous one. Each flag
+    // sits in its own per-chunk cell that, like the columns, is shared when the table grows, so no mark is lost.
+    private volatile boolean[][] dirty = new boolean[0][];
+    private final int firstChunkRows;
+    private int size;
+
+    // With recycling enabled, rows of completed processes wait in finishedSlots until the scheduler is done with
+    // them, then move to freeSlots for add to overwrite. The flag is set before the run starts; the rest is
+    // guarded by this.
+    private boolean recycling;
+    private int[] finishedSlots = new int[0];
+    private int finishedCount;
+    private int[] freeSlots = new int[0];
+    private int freeCount;
+
+    // Only the few processes that starve carry event text, so it is kept out of the columns.
+    private final Map<Integer, List<String>> starvationEvents = new HashMap<>();
+
+    public ProcessTable() {
+        this(CHUNK_SIZE);
+    }
+
+    /**
+     * Builds a table whose first chunk holds only {@code firstChunkRows} rows, for tables that stay tiny such as
+     * the one behind a standalone {@link ProcessControlBlock}. Unlike the other chunks, that first one is copied
+     * once when the table outgrows it, so a small table must not be appended to while other threads update it.
+     */
+    ProcessTable(int firstChunkRows) {
+        if (firstChunkRows < 1 || firstChunkRows > CHUNK_SIZE) {
+            throw new IllegalArgumentException("First chunk must hold between 1 and " + CHUNK_SIZE + " rows");
+        }
+        this.firstChunkRows = firstChunkRows;
+    }
+
+    /**
+     * Appends a row with immutable workload details and returns its slot, reusing a recycled row if one is free.
+     */
+    public synchronized int add(int id, int burstTime, int basePriority, int memoryRequired, long arrivalTime, int arrivalOrder) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+            clearRow(slot);
+        } else {
+            slot = size;
+            ensureCapacity(slot);
+            size = slot + 1;
+        }
+        set(ID, slot, id);
+        set(BURST, slot, burstTime);
+        set(BASE_PRIORITY, slot, basePriority);
+        set(MEMORY, slot, memoryRequired);
+        setLong(ARRIVAL, slot, arrivalTime);
+        set(ARRIVAL_ORDER, slot, arrivalOrder);
+        set(STATE, slot, ProcessControlBlock.ProcessState.NEW.ordinal());
+        set(DYNAMIC_PRIORITY, slot, basePriority);
+        set(REMAINING, slot, burstTime);
+        setLong(RESPONSE, slot, -1);
+        setLong(START, slot, -1);
+        setLong(COMPLETION, slot, -1);
+        setLong(READY_ADMISSION, slot, -1);
+        set(THREADS, slot, 1);
+        setLong(AFFINITY, slot, CpuMask.ANY);
+        return slot;
+    }
+
+    private void clearRow(int slot) {
+        for (int column = 0; column < INT_COLUMNS; column++) {
+            set(column, slot, 0);
+        }
+        for (int column = 0; column < LONG_COLUMNS; column++) {
+            setLong(column, slot, 0);
+        }
+        plans[slot >>> CHUNK_BITS][slot & CHUNK_MASK] = null;
+    }
+
+    /**
+     * Lets {@link #add} reuse the rows of completed processes once {@link #recycleFinished} releases them, so a
+     * long-lived run holds only the processes in flight. A view of a completed process is then only valid until
+     * the next release. Must be called before the run starts.
+     */
+    public synchronized void enableRecycling() {
+        recycling = true;
+    }
+
+    /**
+     * Releases the rows of the processes completed since the last call for reuse, passing each process id to
+     * {@code releasedIds}. Called by the scheduler thread at a decision point, once it no longer holds views of
+     * those processes.
+     */
+    public synchronized void recycleFinished(IntConsumer releasedIds) {
+        for (int i = 0; i < finishedCount; i++) {
+            int slot = finishedSlots[i];
+            releasedIds.accept(get(ID, slot));
+            synchronized (starvationEvents) {
+                starvationEvents.remove(slot);
+            }
+            dirty[slot >>> CHUNK_BITS][0] = true;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, Math.max(16, freeCount * 2));
+            }
+            freeSlots[freeCount++] = slot;
+        }
+        finishedCount = 0;
+    }
+
+    /**
+     * Appends a row whose CPU bursts alternate with I/O bursts; {@code cpuBursts} holds one more entry than
+     * {@code ioBursts}, and each I/O burst is served by the device at the same index of {@code ioDevices}.
+     * The burst time recorded for the process is its total CPU demand.
+     */
+    public synchronized int add(int id,
+                                int[] cpuBursts,
+                                int[] ioBursts,
+                                int[] ioDevices,
+                                int basePriority,
+                                int memoryRequired,
+                                long arrivalTime,
+                                int arrivalOrder) {
+        if (cpuBursts.length != ioBursts.length + 1 || ioDevices.length != ioBursts.length) {
+            throw new IllegalArgumentException("Process " + id + " must alternate CPU and I/O bursts, starting and ending with CPU");
+        }
+        int totalCpu = 0;
+        int[] plan = new int[cpuBursts.length + 2 * ioBursts.length];
+        for (int i = 0; i < cpuBursts.length; i++) {
+            totalCpu = Math.addExact(totalCpu, cpuBursts[i]);
+            plan[3 * i] = cpuBursts[i];
+            if (i < ioBursts.length) {
+                plan[3 * i + 1] = ioBursts[i];
+                plan[3 * i + 2] = ioDevices[i];
+            }
+        }
+        int slot = add(id, totalCpu, basePriority, memoryRequired, arrivalTime, arrivalOrder);
+        if (ioBursts.length > 0) {
+            plans[slot >>> CHUNK_BITS][slot & CHUNK_MASK] = plan;
+            set(REMAINING, slot, cpuBursts[0]);
+        }
+        return slot;
+    }
+
+    /**
+     * Sets how many threads the process runs as a gang and which CPUs they may use; rows default to one thread
+     * on any CPU.
+     */
+    public void setPlacement(int slot, int threads, long affinityMask) {
+        set(THREADS, slot, threads);
+        setLong(AFFINITY, slot, affinityMask);
+    }
+
+    /**
+     * Appends a row and returns the object view over it.
+     */
+    public ProcessControlBlock create(int id, int burstTime, int basePriority, int memoryRequired, long arrivalTime, int arrivalOrder) {
+        return view(add(id, burstTime, basePriority, memoryRequired, arrivalTime, arrivalOrder));
+    }
+
+    /**
+     * Appends a multi-burst row and returns the object view over it.
+     */
+    public ProcessControlBlock create(int id,
+                                      int[] cpuBursts,
+                                      int[] ioBursts,
+                                      int[] ioDevices,
+                                      int basePriority,
+                                      int memoryRequired,
+                                      long arrivalTime,
+                                      int arrivalOrder) {
+        return view(add(id, cpuBursts, ioBursts, ioDevices, basePriority, memoryRequired, arrivalTime, arrivalOrder));
+    }
+
+    /**
+     * Returns a lightweight object view over an existing slot.
+     */
+    public ProcessControlBlock view(int slot) {
+        return new ProcessControlBlock(this, slot);
+    }
+
+    /**
+     * Returns how many rows have been allocated, including free recycled ones.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Writes the row count and the chunks of rows changed since the previous call, or every chunk when
+     * {@code full} is set. Each chunk is written column by column, followed by its burst plans and starvation
+     * events. Callers must ensure that no other thread is updating rows while the checkpoint is taken.
+     */
+    public synchronized void writeCheckpoint(DataOutput out, boolean full) throws IOException {
+        boolean[][] flags = dirty;
+        int chunks = (size + CHUNK_MASK) >>> CHUNK_BITS;
+        int changed = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            if (full || flags[chunk][0]) {
+                changed++;
+            }
+        }
+        out.writeInt(size);
+        out.writeInt(changed);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            if (full || flags[chunk][0]) {
+                flags[chunk][0] = false;
+                out.writeInt(chunk);
+                writeChunk(out, chunk);
+            }
+        }
+    }
+
+    private void writeChunk(DataOutput out, int chunk) throws IOException {
+        int first = chunk << CHUNK_BITS;
+        int end = Math.min(size, first + CHUNK_SIZE);
+        int rows = end - first;
+        // Columns are copied in bulk, in the same big-endian layout DataOutput uses for single values.
+        ByteBuffer buffer = ByteBuffer.allocate(rows * Long.BYTES);
+        for (int column = 0; column < INT_COLUMNS; column++) {
+            buffer.clear();
+            buffer.asIntBuffer().put(ints[column][chunk], 0, rows);
+            out.write(buffer.array(), 0, rows * Integer.BYTES);
+        }
+        for (int column = 0; column < LONG_COLUMNS; column++) {
+            buffer.clear();
+            buffer.asLongBuffer().put(longs[column][chunk], 0, rows);
+            out.write(buffer.array(), 0, rows * Long.BYTES);
+        }
+        synchronized (starvationEvents) {
+            for (int slot = first; slot < end; slot++) {
+                int[] plan = plan(slot);
+                out.writeInt(plan == null ? 0 : plan.length);
+                if (plan != null) {
+                    for (int value : plan) {
+                        out.writeInt(value);
+                    }
+                }
+                List<String> events = get(STARVED, slot) == 0
+                        ? Collections.emptyList()
+                        : starvationEvents.getOrDefault(slot, Collections.emptyList());
+                out.writeInt(events.size());
+                for (String event : events) {
+                    out.writeUTF(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds a table from a full {@link #writeCheckpoint}, keeping every row in its original slot.
+     */
+    public static ProcessTable readCheckpoint(DataInput in) throws IOException {
+        ProcessTable table = new ProcessTable();
+        table.applyCheckpoint(in);
+        return table;
+    }
+
+    /**
+     * Overwrites the chunks saved by a later {@link #writeCheckpoint}, bringing a table rebuilt from the previous
+     * checkpoint up to date.
+     */
+    public synchronized void applyCheckpoint(DataInput in) throws IOException {
+        int rows = in.readInt();
+        if (rows < size) {
+            throw new IOException("Corrupt checkpoint: process count went from " + size + " to " + rows);
+        }
+        // Columns grow one chunk at a time, so allocate every chunk the rows span.
+        for (int slot = 0; slot < rows; slot += CHUNK_SIZE) {
+            ensureCapacity(slot);
+        }
+        if (rows > 0) {
+            ensureCapacity(rows - 1);
+        }
+        size = rows;
+        int changed = in.readInt();
+        for (int i = 0; i < changed; i++) {
+            int chunk = in.readInt();
+            if (chunk < 0 || chunk << CHUNK_BITS >= rows) {
+                throw new IOException("Corrupt checkpoint: chunk " + chunk + " beyond " + rows + " processes");
+            }
+            readChunk(in, chunk);
+        }
+    }
+
+    private void readChunk(DataInput in, int chunk) throws IOException {
+        int first = chunk << CHUNK_BITS;
+        int end = Math.min(size, first + CHUNK_SIZE);
+        int rows = end - first;
+        byte[] bytes = new byte[rows * Long.BYTES];
+        for (int column = 0; column < INT_COLUMNS; column++) {
+            in.readFully(bytes, 0, rows * Integer.BYTES);
+            ByteBuffer.wrap(bytes).asIntBuffer().get(ints[column][chunk], 0, rows);
+        }
+        for (int column = 0; column < LONG_COLUMNS; column++) {
+            in.readFully(bytes, 0, rows * Long.BYTES);
+            ByteBuffer.wrap(bytes).asLongBuffer().get(longs[column][chunk], 0, rows);
+        }
+        dirty[chunk][0] = true;
+        synchronized (starvationEvents) {
+            for (int slot = first; slot < end; slot++) {
+                int length = in.readInt();
+                int[] plan = null;
+                if (length > 0) {
+                    plan = new int[length];
+                    for (int i = 0; i < length; i++) {
+                        plan[i] = in.readInt();
+                    }
+                }
+                plans[chunk][slot & CHUNK_MASK] = plan;
+                int count = in.readInt();
+                starvationEvents.remove(slot);
+                if (count > 0) {
+                    List<String> events = new ArrayList<>(count);
+                    for (int e = 0; e < count; e++) {
+                        events.add(in.readUTF());
+                    }
+                    starvationEvents.put(slot, events);
+                }
+            }
+        }
+    }
+
+    private void ensureCapacity(int slot) {
+        int chunk = slot >>> CHUNK_BITS;
+        int[][][] current = ints;
+        if (current[0].length > 0 && slot >= current[0][0].length && current[0][0].length < CHUNK_SIZE) {
+            growFirstChunk();
+            current = ints;
+        }
+        if (chunk < current[0].length) {
+            return;
+        }
+        // Existing chunks are shared with the new arrays, so concurrent readers of old rows are unaffected.
+        int[][][] grown = new int[INT_COLUMNS][][];
+        for (int column = 0; column < INT_COLUMNS; column++) {
+            int[][] chunks = Arrays.copyOf(current[column], chunk + 1);
+            chunks[chunk] = new int[chunk == 0 ? firstChunkRows : CHUNK_SIZE];
+            grown[column] = chunks;
+        }
+        long[][][] currentLongs = longs;
+        long[][][] grownLongs = new long[LONG_COLUMNS][][];
+        for (int column = 0; column < LONG_COLUMNS; column++) {
+            long[][] chunks = Arrays.copyOf(currentLongs[column], chunk + 1);
+            chunks[chunk] = new long[chunk == 0 ? firstChunkRows : CHUNK_SIZE];
+            grownLongs[column] = chunks;
+        }
+        longs = grownLongs;
+        int[][][] grownPlans = Arrays.copyOf(plans, chunk + 1);
+        grownPlans[chunk] = new int[chunk == 0 ? firstChunkRows : CHUNK_SIZE][];
+        plans = grownPlans;
+        boolean[][] grownDirty = Arrays.copyOf(dirty, chunk + 1);
+        grownDirty[chunk] = new boolean[1];
+        dirty = grownDirty;
+        ints = grown;
+    }
+
+    private void growFirstChunk() {
+        // The dirty cell stays the same; only the row arrays of chunk 0 are widened to a full chunk.
+        int[][][] grown = new int[INT_COLUMNS][][];
+        for (int column = 0; column < INT_COLUMNS; column++) {
+            grown[column] = ints[column].clone();
+            grown[column][0] = Arrays.copyOf(grown[column][0], CHUNK_SIZE);
+        }
+        long[][][] grownLongs = new long[LONG_COLUMNS][][];
+        for (int column = 0; column < LONG_COLUMNS; column++) {
+            grownLongs[column] = longs[column].clone();
+            grownLongs[column][0] = Arrays.copyOf(grownLongs[column][0], CHUNK_SIZE);
+        }
+        longs = grownLongs;
+        int[][][] grownPlans = plans.clone();
+        grownPlans[0] = Arrays.copyOf(grownPlans[0], CHUNK_SIZE);
+        plans = grownPlans;
+        ints = grown;
+    }
+
+    private int get(int column, int slot) {
+        return ints[column][slot >>> CHUNK_BITS][slot & CHUNK_MASK];
+    }
+
+    private void set(int column, int slot, int value) {
+        ints[column][slot >>> CHUNK_BITS][slot & CHUNK_MASK] = value;
+        dirty[slot >>> CHUNK_BITS][0] = true;
+    }
+
+    private long getLong(int column, int slot) {
+        return longs[column][slot >>> CHUNK_BITS][slot & CHUNK_MASK];
+    }
+
+    private void setLong(int column, int slot, long value) {
+        longs[column][slot >>> CHUNK_BITS][slot & CHUNK_MASK] = value;
+        dirty[slot >>> CHUNK_BITS][0] = true;
+    }
+
+    /**
+     * Marks the process as queued in the job list.
+     */
+    public void markQueued(int slot) {
+        set(STATE, slot, ProcessControlBlock.ProcessState.JOB_QUEUED.ordinal());
+    }
+
+    /**
+     * Marks the process as ready and records timing metadata.
+     */
+    public void markReady(int slot, long currentTime, int degreeOfMultiprogramming, boolean initialAdmission) {
+        set(STATE, slot, ProcessControlBlock.ProcessState.READY.ordinal());
+        setLong(LAST_READY, slot, currentTime);
+        if (initialAdmission && getLong(READY_ADMISSION, slot) < 0) {
+            setLong(READY_ADMISSION, slot, currentTime);
+            set(ADMISSION_DEGREE, slot, degreeOfMultiprogramming);
+        }
+    }
+
+    /**
+     * Records the transition to running and the experienced wait time.
+     */
+    public void markDispatched(int slot, long currentTime) {
+        set(STATE, slot, ProcessControlBlock.ProcessState.RUNNING.ordinal());
+        if (getLong(START, slot) < 0) {
+            setLong(START, slot, currentTime);
+        }
+        if (getLong(RESPONSE, slot) < 0) {
+            setLong(RESPONSE, slot, currentTime - getLong(ARRIVAL, slot));
+        }
+        setLong(WAITING, slot, getLong(WAITING, slot) + currentTime - getLong(LAST_READY, slot));
+    }
+
+    /**
+     * Consumes CPU time and returns how many units were actually executed.
+     */
+    public int consumeCpu(int slot, int requested) {
+        int granted = Math.min(requested, get(REMAINING, slot));
+        set(REMAINING, slot, get(REMAINING, slot) - granted);
+        set(EXECUTED, slot, get(EXECUTED, slot) + granted);
+        return granted;
+    }
+
+    /**
+     * Returns true when the current CPU burst is finished and an I/O burst follows it.
+     */
+    public boolean hasPendingIo(int slot) {
+        int[] plan = plan(slot);
+        return plan != null && get(REMAINING, slot) == 0 && 3 * get(IO_DONE, slot) + 1 < plan.length;
+    }
+
+    public int getPendingIoBurst(int slot) {
+        return plan(slot)[3 * get(IO_DONE, slot) + 1];
+    }
+
+    public int getPendingIoDevice(int slot) {
+        return plan(slot)[3 * get(IO_DONE, slot) + 2];
+    }
+
+    /**
+     * Returns how many I/O bursts the process issues over its lifetime.
+     */
+    public int getIoBurstCount(int slot) {
+        int[] plan = plan(slot);
+        return plan == null ? 0 : plan.length / 3;
+    }
+
+    /**
+     * Blocks the process on its pending I/O burst.
+     */
+    public void markWaiting(int slot) {
+        set(STATE, slot, ProcessControlBlock.ProcessState.WAITING.ordinal());
+    }
+
+    /**
+     * Finishes the pending I/O burst, loads the next CPU burst, and makes the process ready again.
+     */
+    public void completeIo(int slot, long currentTime, int degreeOfMultiprogramming) {
+        int done = get(IO_DONE, slot) + 1;
+        set(IO_DONE, slot, done);
+        set(REMAINING, slot, plan(slot)[3 * done]);
+        markReady(slot, currentTime, degreeOfMultiprogramming, false);
+    }
+
+    private int[] plan(int slot) {
+        return plans[slot >>> CHUNK_BITS][slot & CHUNK_MASK];
+    }
+
+    /**
+     * Finalizes bookkeeping for a completed job.
+     */
+    public void markCompleted(int slot, long currentTime) {
+        set(STATE, slot, ProcessControlBlock.ProcessState.TERMINATED.ordinal());
+        setLong(COMPLETION, slot, currentTime);
+        setLong(TURNAROUND, slot, currentTime - getLong(ARRIVAL, slot));
+        if (recycling) {
+            synchronized (this) {
+                if (finishedCount == finishedSlots.length) {
+                    finishedSlots = Arrays.copyOf(finishedSlots, Math.max(16, finishedCount * 2));
+                }
+                finishedSlots[finishedCount++] = slot;
+            }
+        }
+    }
+
+    /**
+     * Flags a starvation incident for later reporting.
+     */
+    public void markStarvation(int slot, long waitingDuration) {
+        set(STARVED, slot, 1);
+        synchronized (starvationEvents) {
+            starvationEvents.computeIfAbsent(slot, key -> new ArrayList<>())
+                    .add("Process " + get(ID, slot) + " waited " + waitingDuration + " units before aging");
+        }
+    }
+
+    /**
+     * Applies an aging boost to the dynamic priority, respecting the upper bound, and returns how many levels were
+     * applied; zero once the process is at {@link #MAX_DYNAMIC_PRIORITY}.
+     */
+    public int boostPriority(int slot, int delta) {
+        if (delta <= 0) {
+            return 0;
+        }
+        int priority = get(DYNAMIC_PRIORITY, slot);
+        int applied = Math.max(0, Math.min(delta, MAX_DYNAMIC_PRIORITY - priority));
+        set(DYNAMIC_PRIORITY, slot, priority + applied);
+        set(BOOST_COUNT, slot, get(BOOST_COUNT, slot) + applied);
+        return applied;
+    }
+
+    /**
+     * Lowers the aging boost to {@code boost} levels above the base priority, as when a boost decays after a burst.
+     */
+    public void lowerPriorityBoost(int slot, int boost) {
+        if (boost < 0 || boost > get(BOOST_COUNT, slot)) {
+            throw new IllegalArgumentException("Boost must be between 0 and the current boost");
+        }
+        set(DYNAMIC_PRIORITY, slot, get(BASE_PRIORITY, slot) + boost);
+        set(BOOST_COUNT, slot, boost);
+    }
+
+    public void resetDynamicPriority(int slot) {
+        set(DYNAMIC_PRIORITY, slot, get(BASE_PRIORITY, slot));
+        set(BOOST_COUNT, slot, 0);
+    }
+
+    public void markReadyEnqueued(int slot, long nanos) {
+        setLong(ENQUEUE_NANOS, slot, nanos);
+    }
+
+    public long getReadyEnqueueNanos(int slot) {
+        return getLong(ENQUEUE_NANOS, slot);
+    }
+
+    /**
+     * Stores the wall-clock waiting and turnaround measured by a {@link LiveExecutor}.
+     */
+    public void recordWallTimes(int slot, long waitingNanos, long turnaroundNanos) {
+        setLong(WALL_WAITING, slot, waitingNanos);
+        setLong(WALL_TURNAROUND, slot, turnaroundNanos);
+    }
+
+    public long getWallWaitingNanos(int slot) {
+        return getLong(WALL_WAITING, slot);
+    }
+
+    public long getWallTurnaroundNanos(int slot) {
+        return getLong(WALL_TURNAROUND, slot);
+    }
+
+    public int getId(int slot) {
+        return get(ID, slot);
+    }
+
+    public int getBurstTime(int slot) {
+        return get(BURST, slot);
+    }
+
+    public int getThreadCount(int slot) {
+        return get(THREADS, slot);
+    }
+
+    public long getAffinityMask(int slot) {
+        return getLong(AFFINITY, slot);
+    }
+
+    /**
+     * Returns the CPUs the process last ran on, or 0 before its first dispatch on a multicore scheduler.
+     */
+    public long getLastCpuMask(int slot) {
+        return getLong(LAST_CPUS, slot);
+    }
+
+    public void setLastCpuMask(int slot, long cpus) {
+        setLong(LAST_CPUS, slot, cpus);
+    }
+
+    public int getBasePriority(int slot) {
+        return get(BASE_PRIORITY, slot);
+    }
+
+    public int getMemoryRequired(int slot) {
+        return get(MEMORY, slot);
+    }
+
+    public long getArrivalTime(int slot) {
+        return getLong(ARRIVAL, slot);
+    }
+
+    public int getArrivalOrder(int slot) {
+        return get(ARRIVAL_ORDER, slot);
+    }
+
+    public ProcessControlBlock.ProcessState getState(int slot) {
+        return STATES[get(STATE, slot)];
+    }
+
+    public int getDynamicPriority(int slot) {
+        return get(DYNAMIC_PRIORITY, slot);
+    }
+
+    public int getRemainingTime(int slot) {
+        return get(REMAINING, slot);
+    }
+
+    public int getExecutedTime(int slot) {
+        return get(EXECUTED, slot);
+    }
+
+    public long getWaitingTime(int slot) {
+        return getLong(WAITING, slot);
+    }
+
+    public long getTurnaroundTime(int slot) {
+        return getLong(TURNAROUND, slot);
+    }
+
+    public long getResponseTime(int slot) {
+        return getLong(RESPONSE, slot);
+    }
+
+    public long getStartTime(int slot) {
+        return getLong(START, slot);
+    }
+
+    public long getCompletionTime(int slot) {
+        return getLong(COMPLETION, slot);
+    }
+
+    public long getReadyAdmissionTime(int slot) {
+        return getLong(READY_ADMISSION, slot);
+    }
+
+    public int getAdmissionDegree(int slot) {
+        return get(ADMISSION_DEGREE, slot);
+    }
+
+    public long getLastReadyTimestamp(int slot) {
+        return getLong(LAST_READY, slot);
+    }
+
+    public int getPriorityBoostCount(int slot) {
+        return get(BOOST_COUNT, slot);
+    }
+
+    public boolean hasSufferedStarvation(int slot) {
+        return get(STARVED, slot) != 0;
+    }
+
+    public List<String> getStarvationEvents(int slot) {
+        synchronized (starvationEvents) {
+            List<String> events = starvationEvents.get(slot);
+            return events == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(events));
+        }
+    }
+}
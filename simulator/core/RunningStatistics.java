@@ -0,0 +1,109 @@
+package simulator.core;
+
+/**
+ * Streaming mean and variance using Welford's update, mergeable across threads with Chan's pairwise formula.
+ * Reports Student-t confidence intervals for the mean.
+ */
+public class RunningStatistics {
+    // Two-sided 95% Student-t critical values for 1..30 degrees of freedom.
+    private static final double[] T_95 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_95 = 1.959964;
+
+    private long count;
+    private double mean;
+    private double sumSquaredDeviations;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumSquaredDeviations += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Folds another partial aggregate into this one, as if its values had been added here.
+     */
+    public void merge(RunningStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            sumSquaredDeviations = other.sumSquaredDeviations;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+        long combined = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / combined;
+        sumSquaredDeviations += other.sumSquaredDeviations + delta * delta * ((double) count * other.count / combined);
+        count = combined;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Unbiased sample variance; zero with fewer than two values.
+     */
+    public double getVariance() {
+        return count < 2 ? 0.0 : sumSquaredDeviations / (count - 1);
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getStandardError() {
+        return count == 0 ? 0.0 : Math.sqrt(getVariance() / count);
+    }
+
+    /**
+     * Half-width of the two-sided 95% confidence interval for the mean.
+     */
+    public double getConfidenceHalfWidth() {
+        if (count < 2) {
+            return Double.NaN;
+        }
+        return tCritical95(count - 1) * getStandardError();
+    }
+
+    public double getMin() {
+        return count == 0 ? 0.0 : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? 0.0 : max;
+    }
+
+    /**
+     * Looks up small degrees of freedom and uses the Cornish-Fisher expansion around the normal quantile beyond.
+     */
+    static double tCritical95(long degreesOfFreedom) {
+        if (degreesOfFreedom <= T_95.length) {
+            return T_95[(int) degreesOfFreedom - 1];
+        }
+        double z = Z_95;
+        double df = degreesOfFreedom;
+        double z3 = z * z * z;
+        double z5 = z3 * z * z;
+        return z + (z3 + z) / (4.0 * df) + (5.0 * z5 + 16.0 * z3 + 3.0 * z) / (96.0 * df * df);
+    }
+}
@@ -10,21 +10,41 @@ import java.util.stream.Collectors;
  */
 public class SchedulingResult {
     private final String schedulerName;
-    private final List<ExecutionSlice> slices;
-    private final List<ProcessControlBlock> completedProcesses;
+    private final MetricsAccumulator metrics;
     private final List<String> starvationNotices;
     private final List<String> systemCallLog;
+    private final LatencyProfile latencies;
 
     public SchedulingResult(String schedulerName,
                             List<ExecutionSlice> slices,
                             List<ProcessControlBlock> completedProcesses,
                             List<String> starvationNotices,
                             List<String> systemCallLog) {
+        this(schedulerName, slices, completedProcesses, starvationNotices, systemCallLog, new LatencyProfile());
+    }
+
+    public SchedulingResult(String schedulerName,
+                            List<ExecutionSlice> slices,
+                            List<ProcessControlBlock> completedProcesses,
+                            List<String> starvationNotices,
+                            List<String> systemCallLog,
+                            LatencyProfile latencies) {
+        this(schedulerName, MetricsAccumulator.of(slices, completedProcesses), starvationNotices, systemCallLog, latencies);
+    }
+
+    /**
+     * Wraps metrics accumulated during the run; in streaming mode slices and PCBs are not available.
+     */
+    public SchedulingResult(String schedulerName,
+                            MetricsAccumulator metrics,
+                            List<String> starvationNotices,
+                            List<String> systemCallLog,
+                            LatencyProfile latencies) {
         this.schedulerName = schedulerName;
-        this.slices = List.copyOf(slices);
-        this.completedProcesses = List.copyOf(completedProcesses);
+        this.metrics = metrics;
         this.starvationNotices = List.copyOf(starvationNotices);
         this.systemCallLog = List.copyOf(systemCallLog);
+        this.latencies = latencies;
     }
 
     public String getSchedulerName() {
@@ -32,43 +52,155 @@ public class SchedulingResult {
     }
 
     public List<ExecutionSlice> getSlices() {
-        return slices;
+        return metrics.getSlices();
     }
 
     public List<ProcessControlBlock> getCompletedProcesses() {
-        return completedProcesses;
+        return metrics.getCompletedProcesses();
     }
 
     public List<String> getStarvationNotices() {
         return starvationNotices;
     }
 
+    /**
+     * Number of processes flagged as starved; each is reported once.
+     */
+    public int getStarvationCount() {
+        return starvationNotices.size();
+    }
+
     public List<String> getSystemCallLog() {
         return systemCallLog;
     }
 
+    public LatencyProfile getLatencies() {
+        return latencies;
+    }
+
+    public MetricsAccumulator getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Indicates whether per-process PCBs and execution slices were kept for detailed reporting.
+     */
+    public boolean hasDetails() {
+        return metrics.isRetainingDetails();
+    }
+
     public double getAverageWaitingTime() {
-        return completedProcesses.stream()
-                .mapToInt(ProcessControlBlock::getWaitingTime)
-                .average()
-                .orElse(0.0);
+        return metrics.getAverageWaitingTime();
     }
 
     public double getAverageTurnaroundTime() {
-        return completedProcesses.stream()
-                .mapToInt(ProcessControlBlock::getTurnaroundTime)
-                .average()
-                .orElse(0.0);
+        return metrics.getAverageTurnaroundTime();
+    }
+
+    /**
+     * Indicates whether the run executed real CPU work, so wall-clock averages are available.
+     */
+    public boolean isLive() {
+        return metrics.hasWallClockTimes();
+    }
+
+    public double getAverageWallWaitingMillis() {
+        return metrics.getAverageWallWaitingMillis();
+    }
+
+    public double getAverageWallTurnaroundMillis() {
+        return metrics.getAverageWallTurnaroundMillis();
+    }
+
+    public DistributionSummary getWaitingSummary() {
+        return metrics.getWaitingSummary();
+    }
+
+    public DistributionSummary getTurnaroundSummary() {
+        return metrics.getTurnaroundSummary();
+    }
+
+    public DistributionSummary getResponseSummary() {
+        return metrics.getResponseSummary();
+    }
+
+    public DistributionSummary getSlowdownSummary() {
+        return metrics.getSlowdownSummary();
+    }
+
+    public double getThroughput() {
+        return metrics.getThroughput();
+    }
+
+    public double getCpuUtilization() {
+        return metrics.getCpuUtilization();
+    }
+
+    public int getCpuCount() {
+        return metrics.getCpuCount();
+    }
+
+    public double getCpuUtilization(int cpu) {
+        return metrics.getCpuUtilization(cpu);
+    }
+
+    /**
+     * Utilization of one speed class of the CPU topology; classes are numbered from the fastest.
+     */
+    public double getClassUtilization(int speedClass) {
+        return metrics.getClassUtilization(speedClass);
+    }
+
+    public double getFragmentation() {
+        return metrics.getFragmentation();
+    }
+
+    public long getMigrationCount() {
+        return metrics.getMigrationCount();
+    }
+
+    public long getMigrationPenaltyTime() {
+        return metrics.getMigrationPenaltyTime();
+    }
+
+    public double getAverageMemoryUsed() {
+        return metrics.getAverageMemoryUsed();
+    }
+
+    public int getPeakMemoryUsed() {
+        return metrics.getPeakMemoryUsed();
+    }
+
+    public double getAverageDegree() {
+        return metrics.getAverageDegree();
+    }
+
+    public int getPeakDegree() {
+        return metrics.getPeakDegree();
+    }
+
+    public double getFairnessIndex() {
+        return metrics.getFairnessIndex();
+    }
+
+    public int getDeviceCount() {
+        return metrics.getDeviceCount();
+    }
+
+    public double getDeviceUtilization(int device) {
+        return metrics.getDeviceUtilization(device);
     }
 
     public List<ProcessReport> buildProcessReports() {
         List<ProcessReport> reports = new ArrayList<>();
-        for (ProcessControlBlock pcb : completedProcesses) {
+        for (ProcessControlBlock pcb : metrics.getCompletedProcesses()) {
             reports.add(new ProcessReport(
                     pcb.getId(),
                     pcb.getWaitingTime(),
                     pcb.getTurnaroundTime(),
-                    pcb.getResponseTime()
+                    pcb.getResponseTime(),
+                    pcb.getWallWaitingNanos() / 1_000_000.0,
+                    pcb.getWallTurnaroundNanos() / 1_000_000.0
             ));
         }
         return reports;
@@ -78,32 +210,38 @@ public class SchedulingResult {
      * Formats a simple ASCII Gantt chart for the execution timeline.
      */
     public String buildGanttChart() {
-        if (slices.isEmpty()) {
-            return "(no execution)";
-        }
-        StringBuilder border = new StringBuilder("+");
-        StringBuilder labels = new StringBuilder("|");
-        StringBuilder times = new StringBuilder();
-
-        int start = slices.get(0).getStartTime();
-        times.append(String.format("%-8d", start));
+        return buildGanttChart(new GanttChartRenderer());
+    }
 
-        for (ExecutionSlice slice : slices) {
-            border.append("-------+");
-            labels.append(String.format(" P%-5d|", slice.getProcessId()));
-            times.append(String.format("%-8d", slice.getEndTime()));
+    /**
+     * Formats the execution timeline using the window, width, and downsampling options of the given renderer,
+     * with one chart per CPU on a multicore run.
+     */
+    public String buildGanttChart(GanttChartRenderer renderer) {
+        int cpuCount = metrics.getCpuCount();
+        if (cpuCount == 1) {
+            return renderer.render(metrics.getSlices());
         }
-
-        StringBuilder chart = new StringBuilder();
-        chart.append(border).append(System.lineSeparator());
-        chart.append(labels).append(System.lineSeparator());
-        chart.append(border).append(System.lineSeparator());
-        chart.append(times);
-        return chart.toString();
+        StringBuilder out = new StringBuilder();
+        List<ExecutionSlice> cpuSlices = new ArrayList<>();
+        for (int cpu = 0; cpu < cpuCount; cpu++) {
+            cpuSlices.clear();
+            for (ExecutionSlice slice : metrics.getSlices()) {
+                if (slice.getCpu() == cpu) {
+                    cpuSlices.add(slice);
+                }
+            }
+            if (cpu > 0) {
+                out.append(System.lineSeparator()).append(System.lineSeparator());
+            }
+            out.append("CPU ").append(cpu).append(':').append(System.lineSeparator());
+            renderer.render(cpuSlices, out);
+        }
+        return out.toString();
     }
 
     public Map<Integer, List<String>> getStarvationEventsByProcess() {
-        return completedProcesses.stream()
+        return metrics.getCompletedProcesses().stream()
                 .filter(ProcessControlBlock::hasSufferedStarvation)
                 .collect(Collectors.toMap(ProcessControlBlock::getId, ProcessControlBlock::getStarvationEvents));
     }
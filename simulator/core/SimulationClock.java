@@ -1,27 +1,29 @@
 package simulator.core;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 /**
  * Maintains the simulated CPU time that all components consult.
+ * Time is kept in 64 bits so long-horizon runs at fine resolution cannot overflow. Only the scheduler
+ * thread advances the clock; other threads merely read it, so a volatile field is sufficient.
  */
 public class SimulationClock {
-    private final AtomicInteger time = new AtomicInteger(0);
+    private volatile long time;
 
     /**
      * Returns the current logical time.
      */
-    public int getTime() {
-        return time.get();
+    public long getTime() {
+        return time;
     }
 
     /**
-     * Advances the logical clock by the specified delta.
+     * Advances the logical clock by the specified delta. Must only be called from the scheduler thread.
      */
-    public int advance(int delta) {
+    public long advance(long delta) {
         if (delta < 0) {
             throw new IllegalArgumentException("Delta must be non-negative");
         }
-        return time.addAndGet(delta);
+        long updated = time + delta;
+        time = updated;
+        return updated;
     }
 }
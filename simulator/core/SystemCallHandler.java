@@ -1,111 +1,445 @@
 package simulator.core;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Collects simulated system call invocations to narrate the scheduling workflow.
+ * Events are stored as fixed-size binary records in a preallocated ring buffer and only
+ * formatted into text when the log is requested, so recording never allocates.
  */
 public class SystemCallHandler {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+    // Initial size of the starvation log, which grows instead of wrapping: each process is reported at most once.
+    private static final int STARVATION_CAPACITY = 1 << 10;
 
-    private final List<String> systemCallLog = Collections.synchronizedList(new ArrayList<>());
-    private final List<String> starvationLog = Collections.synchronizedList(new ArrayList<>());
+    /**
+     * Controls which events are captured in the system call trace.
+     */
+    public enum TraceLevel {
+        OFF,
+        SCHEDULING,
+        FULL
+    }
+
+    /**
+     * Kinds of system calls that can be recorded, together with the minimum trace level that captures them.
+     */
+    public enum Opcode {
+        CREATE(TraceLevel.FULL),
+        ENQUEUE_JOB(TraceLevel.FULL),
+        ALLOC_MEM(TraceLevel.FULL),
+        ADMIT_READY(TraceLevel.FULL),
+        DISPATCH(TraceLevel.SCHEDULING),
+        YIELD(TraceLevel.SCHEDULING),
+        COMPLETE(TraceLevel.SCHEDULING),
+        RELEASE_MEM(TraceLevel.FULL),
+        STARVATION(TraceLevel.SCHEDULING),
+        AGE(TraceLevel.SCHEDULING),
+        IO_REQUEST(TraceLevel.SCHEDULING),
+        IO_COMPLETE(TraceLevel.SCHEDULING);
+
+        private static final Opcode[] VALUES = values();
+
+        private final TraceLevel minimumLevel;
+
+        Opcode(TraceLevel minimumLevel) {
+            this.minimumLevel = minimumLevel;
+        }
+
+        public TraceLevel getMinimumLevel() {
+            return minimumLevel;
+        }
+
+        public static Opcode fromOrdinal(int ordinal) {
+            return VALUES[ordinal];
+        }
+    }
+
+    /**
+     * Receives trace records as primitives so that they can be persisted outside the in-memory ring.
+     */
+    public interface TraceSink {
+        void accept(Opcode opcode, int pid, long simTime, long arg0, int arg1, long nanos);
+    }
+
+    private final SimulationClock clock;
+    private final TraceLevel level;
+    private final RecordBuffer trace;
+    private final RecordBuffer starvation;
+
+    private final long baseEpochMillis = System.currentTimeMillis();
+    private final long baseNanos = System.nanoTime();
+    private volatile int memoryCapacity;
+    // Counted regardless of trace level so monitors can derive a dispatch rate; only the scheduler thread writes it.
+    private volatile long dispatchCount;
+    private volatile TraceSink[] sinks = new TraceSink[0];
+
+    public SystemCallHandler(SimulationClock clock) {
+        this(clock, TraceLevel.FULL, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Builds a handler that captures events up to the given level in a ring of the given capacity.
+     * A capacity of zero keeps no trace in memory, leaving attached sinks as the only consumers.
+     */
+    public SystemCallHandler(SimulationClock clock, TraceLevel level, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Trace capacity must not be negative");
+        }
+        this.clock = clock;
+        this.level = level;
+        this.trace = capacity > 0 ? new RecordBuffer(capacity, false) : null;
+        this.starvation = new RecordBuffer(STARVATION_CAPACITY, true);
+    }
+
+    public TraceLevel getTraceLevel() {
+        return level;
+    }
+
+    /**
+     * Adds a sink that receives every trace record in addition to the in-memory ring.
+     */
+    public synchronized void attachSink(TraceSink sink) {
+        TraceSink[] current = sinks;
+        TraceSink[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = sink;
+        sinks = updated;
+    }
+
+    private boolean enabled(Opcode opcode) {
+        return level.ordinal() >= opcode.minimumLevel.ordinal();
+    }
 
-    private String timestamp() {
-        return LocalDateTime.now().format(FORMATTER);
+    private void record(Opcode opcode, int pid, long simTime, long arg0, int arg1) {
+        if (enabled(opcode)) {
+            emit(opcode, pid, simTime, arg0, arg1, System.nanoTime());
+        }
     }
 
-    private void record(String message) {
-        systemCallLog.add("[" + timestamp() + "] " + message);
+    private void emit(Opcode opcode, int pid, long simTime, long arg0, int arg1, long nanos) {
+        for (TraceSink target : sinks) {
+            target.accept(opcode, pid, simTime, arg0, arg1, nanos);
+        }
+        if (trace != null) {
+            trace.append(opcode, pid, simTime, arg0, arg1, nanos);
+        }
+    }
+
+    private long now() {
+        return clock != null ? clock.getTime() : -1;
     }
 
     /**
      * Simulates the creation of a PCB by the operating system.
      */
     public void createProcess(ProcessControlBlock pcb) {
-        record("sys_create: PCB " + pcb.getId() + " created with burst " + pcb.getBurstTime() + " and priority " + pcb.getBasePriority());
+        record(Opcode.CREATE, pcb.getId(), now(), pcb.getBurstTime(), pcb.getBasePriority());
     }
 
     /**
      * Simulates placing the PCB into the job queue.
      */
     public void enqueueJob(ProcessControlBlock pcb, int queueSize) {
-        record("sys_enqueue_job: PCB " + pcb.getId() + " added to job queue (size=" + queueSize + ")");
+        record(Opcode.ENQUEUE_JOB, pcb.getId(), now(), queueSize, 0);
     }
 
     /**
      * Simulates reserving memory for the process in main memory.
      */
     public void allocateMemory(ProcessControlBlock pcb, int usedMemory, int totalMemory) {
-        record("sys_alloc_mem: PCB " + pcb.getId() + " allocated " + pcb.getMemoryRequired() + "MB (used=" + usedMemory + "/" + totalMemory + "MB)");
+        memoryCapacity = totalMemory;
+        record(Opcode.ALLOC_MEM, pcb.getId(), now(), pcb.getMemoryRequired(), usedMemory);
     }
 
     /**
      * Simulates moving a job from the job queue into the ready queue.
      */
-    public void admitToReady(ProcessControlBlock pcb, int readyTime, int degree) {
-        record("sys_admit_ready: PCB " + pcb.getId() + " admitted to ready queue at t=" + readyTime + " (degree=" + degree + ")");
+    public void admitToReady(ProcessControlBlock pcb, long readyTime, int degree) {
+        record(Opcode.ADMIT_READY, pcb.getId(), readyTime, degree, 0);
     }
 
     /**
      * Simulates dispatching a process onto the CPU.
      */
-    public void dispatch(ProcessControlBlock pcb, int dispatchTime) {
-        record("sys_dispatch: PCB " + pcb.getId() + " dispatched at t=" + dispatchTime);
+    public void dispatch(ProcessControlBlock pcb, long dispatchTime) {
+        dispatch(pcb, dispatchTime, 0);
+    }
+
+    /**
+     * Simulates dispatching a process's threads onto the CPUs in {@code cpuMask}; a mask of 0 means the single CPU.
+     */
+    public void dispatch(ProcessControlBlock pcb, long dispatchTime, long cpuMask) {
+        dispatchCount++;
+        record(Opcode.DISPATCH, pcb.getId(), dispatchTime, cpuMask, 0);
+    }
+
+    /**
+     * Returns how many dispatches have been issued so far.
+     */
+    public long getDispatchCount() {
+        return dispatchCount;
     }
 
     /**
      * Simulates a context switch after a time slice expires.
      */
-    public void yield(ProcessControlBlock pcb, int currentTime, int remainingTime) {
-        record("sys_yield: PCB " + pcb.getId() + " yielded at t=" + currentTime + " (remaining=" + remainingTime + ")");
+    public void yield(ProcessControlBlock pcb, long currentTime, int remainingTime) {
+        record(Opcode.YIELD, pcb.getId(), currentTime, remainingTime, 0);
+    }
+
+    /**
+     * Simulates a process blocking on an I/O burst served by the given device.
+     */
+    public void requestIo(ProcessControlBlock pcb, long requestTime, int burst, int device) {
+        record(Opcode.IO_REQUEST, pcb.getId(), requestTime, burst, device);
+    }
+
+    /**
+     * Simulates an I/O completion interrupt that wakes the process back into the ready state.
+     */
+    public void completeIo(ProcessControlBlock pcb, long completionTime, int device) {
+        record(Opcode.IO_COMPLETE, pcb.getId(), completionTime, 0, device);
     }
 
     /**
      * Logs the completion of a process and releases its resources.
      */
-    public void complete(ProcessControlBlock pcb, int completionTime) {
-        record("sys_complete: PCB " + pcb.getId() + " completed at t=" + completionTime);
+    public void complete(ProcessControlBlock pcb, long completionTime) {
+        record(Opcode.COMPLETE, pcb.getId(), completionTime, 0, 0);
     }
 
     /**
      * Simulates freeing memory after a process terminates.
      */
     public void releaseMemory(ProcessControlBlock pcb, int usedMemory, int totalMemory) {
-        record("sys_release_mem: PCB " + pcb.getId() + " memory released (used=" + usedMemory + "/" + totalMemory + "MB)");
+        memoryCapacity = totalMemory;
+        record(Opcode.RELEASE_MEM, pcb.getId(), now(), usedMemory, 0);
     }
 
     /**
      * Records a detected starvation event for later reporting.
      */
-    public void reportStarvation(ProcessControlBlock pcb, int waitingTime, int degree) {
-        String message = "starvation_detected: PCB " + pcb.getId() + " waited " + waitingTime + " units (degree=" + degree + ")";
-        starvationLog.add(message);
-        record(message + " -> applying aging");
+    public void reportStarvation(ProcessControlBlock pcb, long waitingTime, int degree) {
+        long nanos = System.nanoTime();
+        long simTime = now();
+        // Starvation notices feed the result report, so they are kept regardless of the trace level.
+        starvation.append(Opcode.STARVATION, pcb.getId(), simTime, waitingTime, degree, nanos);
+        if (enabled(Opcode.STARVATION)) {
+            emit(Opcode.STARVATION, pcb.getId(), simTime, waitingTime, degree, nanos);
+        }
     }
 
     /**
      * Logs an aging boost applied to a process.
      */
     public void boostPriority(ProcessControlBlock pcb) {
-        record("sys_age: PCB " + pcb.getId() + " boosted to priority " + pcb.getDynamicPriority());
+        record(Opcode.AGE, pcb.getId(), now(), pcb.getDynamicPriority(), 0);
+    }
+
+    /**
+     * Returns how many trace records were overwritten because the ring buffer wrapped.
+     */
+    public long getDroppedRecordCount() {
+        return trace != null ? trace.dropped() : 0;
+    }
+
+    /**
+     * Writes the trace position: the dispatch count, the number of records ever traced, and the records still
+     * held in the in-memory trace and starvation rings. Record timestamps are saved as wall-clock time. Unless
+     * {@code full} is set, only records traced since the previous call are written.
+     */
+    public void writeCheckpoint(DataOutput out, boolean full) throws IOException {
+        out.writeLong(dispatchCount);
+        out.writeInt(memoryCapacity);
+        out.writeBoolean(trace != null);
+        if (trace != null) {
+            trace.writeCheckpoint(out, this, full);
+        }
+        starvation.writeCheckpoint(out, this, full);
+    }
+
+    /**
+     * Continues from a position saved by {@link #writeCheckpoint}; later checkpoints are restored in the order
+     * they were written. Restored records go straight into the rings; attached sinks only receive records traced
+     * from now on.
+     */
+    public void restoreCheckpoint(DataInput in) throws IOException {
+        dispatchCount = in.readLong();
+        memoryCapacity = in.readInt();
+        if (in.readBoolean()) {
+            // A run restored with tracing off still has to consume the saved trace.
+            (trace != null ? trace : new RecordBuffer(1, false)).restoreCheckpoint(in, this);
+        }
+        starvation.restoreCheckpoint(in, this);
+    }
+
+    private long toEpochNanos(long nanos) {
+        return baseEpochMillis * 1_000_000L + (nanos - baseNanos);
+    }
+
+    private long fromEpochNanos(long epochNanos) {
+        return baseNanos + (epochNanos - baseEpochMillis * 1_000_000L);
     }
 
     /**
-     * Retrieves an immutable view of the system call trace.
+     * Formats a single trace record exactly as it appears in the system call log.
+     */
+    public String formatRecord(Opcode opcode, int pid, long simTime, long arg0, int arg1, long nanos) {
+        return "[" + timestamp(nanos) + "] " + formatMessage(opcode, pid, simTime, arg0, arg1, true);
+    }
+
+    /**
+     * Retrieves an immutable, formatted view of the system call trace.
      */
     public List<String> getSystemCallLog() {
-        return List.copyOf(systemCallLog);
+        return trace != null ? trace.format(this, true) : List.of();
     }
 
     /**
      * Retrieves starvation observations for reporting.
      */
     public List<String> getStarvationLog() {
-        return List.copyOf(starvationLog);
+        return starvation.format(this, false);
+    }
+
+    private String formatMessage(Opcode opcode, int pid, long simTime, long arg0, int arg1, boolean inTrace) {
+        switch (opcode) {
+            case CREATE:
+                return "sys_create: PCB " + pid + " created with burst " + arg0 + " and priority " + arg1;
+            case ENQUEUE_JOB:
+                return "sys_enqueue_job: PCB " + pid + " added to job queue (size=" + arg0 + ")";
+            case ALLOC_MEM:
+                return "sys_alloc_mem: PCB " + pid + " allocated " + arg0 + "MB (used=" + arg1 + "/" + memoryCapacity + "MB)";
+            case ADMIT_READY:
+                return "sys_admit_ready: PCB " + pid + " admitted to ready queue at t=" + simTime + " (degree=" + arg0 + ")";
+            case DISPATCH:
+                return "sys_dispatch: PCB " + pid + " dispatched at t=" + simTime
+                        + (arg0 == 0 ? "" : " on CPUs " + CpuMask.format(arg0));
+            case YIELD:
+                return "sys_yield: PCB " + pid + " yielded at t=" + simTime + " (remaining=" + arg0 + ")";
+            case COMPLETE:
+                return "sys_complete: PCB " + pid + " completed at t=" + simTime;
+            case RELEASE_MEM:
+                return "sys_release_mem: PCB " + pid + " memory released (used=" + arg0 + "/" + memoryCapacity + "MB)";
+            case STARVATION:
+                String message = "starvation_detected: PCB " + pid + " waited " + arg0 + " units (degree=" + arg1 + ")";
+                return inTrace ? message + " -> applying aging" : message;
+            case AGE:
+                return "sys_age: PCB " + pid + " boosted to priority " + arg0;
+            case IO_REQUEST:
+                return "sys_io_request: PCB " + pid + " blocked on device " + arg1 + " at t=" + simTime + " (burst=" + arg0 + ")";
+            case IO_COMPLETE:
+                return "sys_io_complete: PCB " + pid + " finished I/O on device " + arg1 + " at t=" + simTime;
+            default:
+                throw new IllegalStateException("Unknown opcode " + opcode);
+        }
+    }
+
+    private String timestamp(long nanos) {
+        long epochMillis = baseEpochMillis + (nanos - baseNanos) / 1_000_000L;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()).format(FORMATTER);
+    }
+
+    /**
+     * Preallocated ring of binary records stored column-wise in primitive arrays. A growable buffer doubles when
+     * full instead of overwriting its oldest records.
+     */
+    private static final class RecordBuffer {
+        private final boolean growable;
+        private byte[] opcodes;
+        private int[] pids;
+        private long[] simTimes;
+        private long[] args0;
+        private int[] args1;
+        private long[] nanos;
+        private long written;
+        private long checkpointed;
+
+        RecordBuffer(int capacity, boolean growable) {
+            this.growable = growable;
+            this.opcodes = new byte[capacity];
+            this.pids = new int[capacity];
+            this.simTimes = new long[capacity];
+            this.args0 = new long[capacity];
+            this.args1 = new int[capacity];
+            this.nanos = new long[capacity];
+        }
+
+        synchronized void append(Opcode opcode, int pid, long simTime, long arg0, int arg1, long stamp) {
+            if (growable && written == opcodes.length) {
+                // A growable buffer never wraps, so its records already sit in order from index 0.
+                int capacity = opcodes.length * 2;
+                opcodes = Arrays.copyOf(opcodes, capacity);
+                pids = Arrays.copyOf(pids, capacity);
+                simTimes = Arrays.copyOf(simTimes, capacity);
+                args0 = Arrays.copyOf(args0, capacity);
+                args1 = Arrays.copyOf(args1, capacity);
+                nanos = Arrays.copyOf(nanos, capacity);
+            }
+            int slot = (int) (written % opcodes.length);
+            opcodes[slot] = (byte) opcode.ordinal();
+            pids[slot] = pid;
+            simTimes[slot] = simTime;
+            args0[slot] = arg0;
+            args1[slot] = arg1;
+            nanos[slot] = stamp;
+            written++;
+        }
+
+        synchronized void writeCheckpoint(DataOutput out, SystemCallHandler owner, boolean full) throws IOException {
+            int capacity = opcodes.length;
+            long first = Math.max(full ? 0 : checkpointed, written - capacity);
+            checkpointed = written;
+            out.writeLong(written);
+            out.writeInt((int) (written - first));
+            for (long seq = first; seq < written; seq++) {
+                int slot = (int) (seq % capacity);
+                out.writeByte(opcodes[slot]);
+                out.writeInt(pids[slot]);
+                out.writeLong(simTimes[slot]);
+                out.writeLong(args0[slot]);
+                out.writeInt(args1[slot]);
+                out.writeLong(owner.toEpochNanos(nanos[slot]));
+            }
+        }
+
+        synchronized void restoreCheckpoint(DataInput in, SystemCallHandler owner) throws IOException {
+            long total = in.readLong();
+            int retained = in.readInt();
+            // Records that had already been overwritten still count as dropped.
+            written = total - retained;
+            for (int i = 0; i < retained; i++) {
+                append(Opcode.fromOrdinal(in.readByte()), in.readInt(), in.readLong(), in.readLong(), in.readInt(),
+                        owner.fromEpochNanos(in.readLong()));
+            }
+        }
+
+        synchronized long dropped() {
+            return Math.max(0, written - opcodes.length);
+        }
+
+        synchronized List<String> format(SystemCallHandler owner, boolean withTimestamp) {
+            int capacity = opcodes.length;
+            long first = Math.max(0, written - capacity);
+            List<String> lines = new ArrayList<>((int) (written - first));
+            for (long seq = first; seq < written; seq++) {
+                int slot = (int) (seq % capacity);
+                Opcode opcode = Opcode.fromOrdinal(opcodes[slot]);
+                lines.add(withTimestamp
+                        ? owner.formatRecord(opcode, pids[slot], simTimes[slot], args0[slot], args1[slot], nanos[slot])
+                        : owner.formatMessage(opcode, pids[slot], simTimes[slot], args0[slot], args1[slot], false));
+            }
+            return List.copyOf(lines);
+        }
     }
 }
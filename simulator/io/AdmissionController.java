@@ -0,0 +1,181 @@
+package simulator.io;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import simulator.core.ProcessControlBlock;
+import simulator.memory.MemoryManager;
+
+/**
+ * Applies an {@link AdmissionPolicy} to one run. The loader thread hands over each job before allocating its
+ * memory and waits; the scheduler thread decides at its decision points, where the loader is idle, so admissions
+ * happen at the same simulated times however the two threads are interleaved. With nothing in memory every policy
+ * admits, so the loader then proceeds on its own.
+ */
+public class AdmissionController {
+    private final AdmissionPolicy policy;
+    private final MemoryManager memoryManager;
+    private final int cpuCount;
+
+    // Guarded by this.
+    private final List<ProcessControlBlock> resident = new ArrayList<>();
+    private ProcessControlBlock waiting;
+    private boolean counted;
+    private int heldCount;
+    private double adaptiveLimit = 1.0;
+    // Only completions of processes admitted after the last decrease can lower the adaptive limit again.
+    private long lastDecreaseTime = Long.MIN_VALUE;
+    private volatile boolean holding;
+    private Runnable holdListener;
+
+    AdmissionController(AdmissionPolicy policy, MemoryManager memoryManager, int cpuCount) {
+        if (cpuCount < 1) {
+            throw new IllegalArgumentException("CPU count must be positive");
+        }
+        this.policy = policy;
+        this.memoryManager = memoryManager;
+        this.cpuCount = cpuCount;
+    }
+
+    public AdmissionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Called by the loader before allocating {@code pcb}'s memory; returns once the job may be admitted.
+     */
+    public void awaitAdmission(ProcessControlBlock pcb) throws InterruptedException {
+        synchronized (this) {
+            if (memoryManager.getAllocatedProcessCount() == 0) {
+                return;
+            }
+            waiting = pcb;
+            counted = false;
+            holding = true;
+            if (holdListener != null) {
+                holdListener.run();
+            }
+            while (waiting == pcb) {
+                wait();
+            }
+        }
+    }
+
+    /**
+     * Runs {@code listener} each time the loader starts holding a job for a decision; set before the loader starts.
+     */
+    void setHoldListener(Runnable listener) {
+        this.holdListener = listener;
+    }
+
+    /**
+     * Called by the loader once {@code pcb} holds its memory.
+     */
+    public synchronized void admitted(ProcessControlBlock pcb) {
+        resident.add(pcb);
+    }
+
+    /**
+     * Reports whether the loader is waiting for a decision, which counts as idle for the scheduler.
+     */
+    public boolean isHolding() {
+        return holding;
+    }
+
+    /**
+     * Called by the scheduler thread at each decision point, before {@link #decide}: forgets terminated processes
+     * and, under an SLO, adjusts the limit from their residence times.
+     */
+    public synchronized void observe(long now) {
+        for (Iterator<ProcessControlBlock> it = resident.iterator(); it.hasNext(); ) {
+            ProcessControlBlock pcb = it.next();
+            if (pcb.getState() != ProcessControlBlock.ProcessState.TERMINATED) {
+                continue;
+            }
+            it.remove();
+            if (policy.getKind() != AdmissionPolicy.Kind.SLO) {
+                continue;
+            }
+            long residence = pcb.getCompletionTime() - pcb.getReadyAdmissionTime();
+            if (residence <= policy.getLimit()) {
+                // Additive increase spread over a full window of processes, as TCP congestion control does.
+                adaptiveLimit += 1.0 / adaptiveLimit;
+            } else if (pcb.getReadyAdmissionTime() >= lastDecreaseTime) {
+                adaptiveLimit = Math.max(1.0, adaptiveLimit / 2.0);
+                lastDecreaseTime = now;
+            }
+        }
+    }
+
+    /**
+     * Called by the scheduler thread while the loader is idle: lets the waiting job in if the policy admits it.
+     * Returns true if a job was let in, after which the caller should wait for the loader to go idle again.
+     */
+    public synchronized boolean decide() {
+        if (!holding) {
+            return false;
+        }
+        if (!admits()) {
+            if (!counted) {
+                heldCount++;
+                counted = true;
+            }
+            return false;
+        }
+        waiting = null;
+        holding = false;
+        notifyAll();
+        return true;
+    }
+
+    private boolean admits() {
+        int degree = memoryManager.getAllocatedProcessCount();
+        if (degree == 0) {
+            return true;
+        }
+        switch (policy.getKind()) {
+            case CAP:
+                return degree < policy.getLimit();
+            case WAIT:
+                return getPredictedWait() <= policy.getLimit();
+            case SLO:
+                return degree < (int) adaptiveLimit;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Returns the CPU work still owed to the processes in memory divided by the CPU count: the wait a job
+     * admitted now could expect before running.
+     */
+    public synchronized long getPredictedWait() {
+        long work = 0;
+        for (ProcessControlBlock pcb : resident) {
+            work += pcb.getBurstTime() - pcb.getExecutedTime();
+        }
+        return (work + cpuCount - 1) / cpuCount;
+    }
+
+    /**
+     * Returns how many jobs the policy turned away at least once.
+     */
+    public synchronized int getHeldCount() {
+        return heldCount;
+    }
+
+    /**
+     * Returns the cap on processes in memory currently in force, or -1 for a policy without one.
+     */
+    public synchronized int getCurrentLimit() {
+        switch (policy.getKind()) {
+            case CAP:
+                return (int) policy.getLimit();
+            case SLO:
+                return (int) adaptiveLimit;
+            default:
+                return -1;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package simulator.io;
+
+import java.util.Locale;
+
+import simulator.memory.MemoryManager;
+
+/**
+ * Rule the loader follows before admitting a job into memory, on top of the job having to fit. Written
+ * {@code none}, {@code cap:<n>}, {@code wait:<t>}, or {@code slo:<t>}; instances are immutable and each run gets
+ * its own {@link AdmissionController} from {@link #newController}.
+ */
+public final class AdmissionPolicy {
+    public static final AdmissionPolicy NONE = new AdmissionPolicy(Kind.NONE, 0);
+
+    public enum Kind {
+        /**
+         * Admit whenever memory fits.
+         */
+        NONE,
+        /**
+         * Admit while fewer than {@code limit} processes hold memory.
+         */
+        CAP,
+        /**
+         * Admit while the CPU work already in memory, spread over the CPUs, would keep a new job waiting no more
+         * than {@code limit} time units.
+         */
+        WAIT,
+        /**
+         * Adapt a cap on the processes in memory so their residence time, from admission to completion, stays
+         * within {@code limit} time units.
+         */
+        SLO;
+
+        public static Kind parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Kind kind;
+    private final long limit;
+
+    private AdmissionPolicy(Kind kind, long limit) {
+        this.kind = kind;
+        this.limit = limit;
+    }
+
+    public static AdmissionPolicy of(Kind kind, long limit) {
+        if (kind == Kind.NONE) {
+            return NONE;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Admission limit must be positive");
+        }
+        return new AdmissionPolicy(kind, limit);
+    }
+
+    /**
+     * Parses {@code none} or {@code <kind>:<limit>}, such as {@code cap:8}.
+     */
+    public static AdmissionPolicy parse(String spec) {
+        int colon = spec.indexOf(':');
+        Kind kind = Kind.parse(colon < 0 ? spec : spec.substring(0, colon));
+        if (kind == Kind.NONE) {
+            if (colon >= 0) {
+                throw new IllegalArgumentException("Admission policy none takes no limit");
+            }
+            return NONE;
+        }
+        if (colon < 0) {
+            throw new IllegalArgumentException("Admission policy " + spec.trim() + " needs a limit, as in "
+                    + kind.name().toLowerCase(Locale.ROOT) + ":<n>");
+        }
+        return of(kind, Long.parseLong(spec.substring(colon + 1).trim()));
+    }
+
+    /**
+     * Formats the policy in the syntax accepted by {@link #parse}.
+     */
+    public String format() {
+        String name = kind.name().toLowerCase(Locale.ROOT);
+        return kind == Kind.NONE ? name : name + ":" + limit;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * Creates the controller that applies this policy to a run using {@code memoryManager} on {@code cpuCount}
+     * CPUs, or returns null for {@link #NONE}.
+     */
+    public AdmissionController newController(MemoryManager memoryManager, int cpuCount) {
+        return kind == Kind.NONE ? null : new AdmissionController(this, memoryManager, cpuCount);
+    }
+}
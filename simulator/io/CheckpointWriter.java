@@ -0,0 +1,299 @@
+package simulator.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Background thread that compresses checkpoint snapshots and writes them to disk, so the scheduler thread only
+ * pays for copying its state into memory. A full snapshot (the base) replaces the previous one through an
+ * atomic rename and starts a new journal; each later snapshot holds only what changed and is appended to
+ * {@code <file>.journal} as a checksummed frame. A base is due again once the journal outgrows it or after
+ * {@link #MAX_DELTAS} deltas, so restoring never replays more than a bounded amount of history.
+ */
+public class CheckpointWriter extends Thread {
+    /**
+     * Most deltas appended to one base before the next snapshot must be full.
+     */
+    public static final int MAX_DELTAS = 64;
+
+    private final Path file;
+    private final Path journal;
+    private final Object lock = new Object();
+
+    // Snapshots waiting for the disk, oldest first. A delta depends on every snapshot before it, so none can be
+    // dropped; a new base supersedes everything still queued.
+    private final Deque<Frame> pending = new ArrayDeque<>();
+    private boolean closing;
+    private long writtenCount;
+    private boolean baseSubmitted;
+    private long baseBytes;
+    private long deltaBytes;
+    private int deltaCount;
+    private volatile IOException failure;
+
+    // Touched only by the writer thread.
+    private long generation;
+    private OutputStream journalOut;
+
+    public CheckpointWriter(Path file) {
+        super("checkpoint-writer");
+        this.file = file;
+        this.journal = journalFile(file);
+        setDaemon(true);
+    }
+
+    /**
+     * Reports whether the next snapshot must be full rather than a delta: before the first base, after
+     * {@link #MAX_DELTAS} deltas, or once the deltas together are larger than their base.
+     */
+    public boolean isBaseDue() {
+        synchronized (lock) {
+            return !baseSubmitted || deltaCount >= MAX_DELTAS || deltaBytes > baseBytes;
+        }
+    }
+
+    /**
+     * Hands a full snapshot to the writer without waiting for the disk.
+     */
+    public void submitBase(byte[] snapshot) {
+        synchronized (lock) {
+            checkOpen();
+            pending.clear();
+            pending.addLast(new Frame(snapshot, true));
+            baseSubmitted = true;
+            baseBytes = snapshot.length;
+            deltaBytes = 0;
+            deltaCount = 0;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Hands a snapshot of the changes since the previous one to the writer without waiting for the disk.
+     */
+    public void submitDelta(byte[] snapshot) {
+        synchronized (lock) {
+            checkOpen();
+            if (!baseSubmitted) {
+                throw new IllegalStateException("A checkpoint delta needs a base first");
+            }
+            pending.addLast(new Frame(snapshot, false));
+            deltaBytes += snapshot.length;
+            deltaCount++;
+            lock.notifyAll();
+        }
+    }
+
+    private void checkOpen() {
+        if (closing) {
+            throw new IllegalStateException("Checkpoint writer is closed");
+        }
+    }
+
+    /**
+     * Writes any snapshot still waiting, stops the thread, and reports the first write failure.
+     */
+    public void close() throws IOException, InterruptedException {
+        synchronized (lock) {
+            closing = true;
+            lock.notifyAll();
+        }
+        join();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns how many checkpoints have reached the disk.
+     */
+    public long getWrittenCount() {
+        synchronized (lock) {
+            return writtenCount;
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+        } catch (IOException ex) {
+            failure = ex;
+        }
+        try {
+            while (true) {
+                Frame frame;
+                synchronized (lock) {
+                    while (pending.isEmpty() && !closing) {
+                        try {
+                            lock.wait();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                    if (pending.isEmpty()) {
+                        return;
+                    }
+                    frame = pending.removeFirst();
+                }
+                // After a failure snapshots are still taken off the queue so the simulation never waits on the writer.
+                if (failure == null) {
+                    write(frame);
+                }
+            }
+        } finally {
+            closeJournal();
+        }
+    }
+
+    private void write(Frame frame) {
+        try {
+            if (frame.base) {
+                writeBase(frame.snapshot);
+            } else {
+                appendDelta(frame.snapshot);
+            }
+            synchronized (lock) {
+                writtenCount++;
+            }
+        } catch (IOException ex) {
+            failure = ex;
+        }
+    }
+
+    private void writeBase(byte[] snapshot) throws IOException {
+        long next = ThreadLocalRandom.current().nextLong();
+        generation = next == generation ? next + 1 : next;
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new FastGzipOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeLong(generation);
+            out.write(snapshot);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // A crash before the journal is truncated leaves frames of the old generation, which read skips.
+        closeJournal();
+        journalOut = Files.newOutputStream(journal, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    private void appendDelta(byte[] snapshot) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, snapshot.length / 4));
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream out = new DeflaterOutputStream(compressed, deflater)) {
+            out.write(snapshot);
+        } finally {
+            deflater.end();
+        }
+        byte[] payload = compressed.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        DataOutputStream out = new DataOutputStream(journalOut);
+        out.writeInt(payload.length);
+        out.writeLong(generation);
+        out.writeInt((int) crc.getValue());
+        out.write(payload);
+        out.flush();
+    }
+
+    private void closeJournal() {
+        if (journalOut != null) {
+            try {
+                journalOut.close();
+            } catch (IOException ex) {
+                if (failure == null) {
+                    failure = ex;
+                }
+            }
+            journalOut = null;
+        }
+    }
+
+    /**
+     * Reads and decompresses a checkpoint written by this class: the base snapshot followed by the deltas
+     * appended after it, in order. The journal is read up to the first frame that is incomplete, corrupt, or
+     * belongs to an older base, so a crash mid-append loses only that last delta.
+     */
+    public static List<byte[]> read(Path file) throws IOException {
+        List<byte[]> snapshots = new ArrayList<>();
+        long generation;
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(Files.newInputStream(file)))) {
+            generation = in.readLong();
+            snapshots.add(in.readAllBytes());
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(journalFile(file)))) {
+            while (true) {
+                int length = in.readInt();
+                if (in.readLong() != generation || length < 0) {
+                    break;
+                }
+                int checksum = in.readInt();
+                byte[] payload = in.readNBytes(length);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if (payload.length != length || (int) crc.getValue() != checksum) {
+                    break;
+                }
+                try (InputStream inflated = new InflaterInputStream(new ByteArrayInputStream(payload))) {
+                    snapshots.add(inflated.readAllBytes());
+                }
+            }
+        } catch (EOFException | NoSuchFileException ex) {
+            // The journal ends after its last complete frame, or no delta was written after the base.
+        }
+        return snapshots;
+    }
+
+    private static Path journalFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".journal");
+    }
+
+    /**
+     * Gzip stream at the fastest level; a base can hold the whole process table and is rewritten regularly.
+     */
+    private static final class FastGzipOutputStream extends GZIPOutputStream {
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+
+    private static final class Frame {
+        private final byte[] snapshot;
+        private final boolean base;
+
+        Frame(byte[] snapshot, boolean base) {
+            this.snapshot = snapshot;
+            this.base = base;
+        }
+    }
+}
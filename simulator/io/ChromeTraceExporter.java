@@ -0,0 +1,225 @@
+package simulator.io;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import simulator.core.ExecutionSlice;
+import simulator.core.SystemCallHandler;
+
+/**
+ * Streams a simulation timeline as Chrome trace-event JSON, viewable in Perfetto or chrome://tracing.
+ * CPU execution appears as one track per CPU, system calls as instant events, and memory use and
+ * ready-queue depth as counter tracks. Events are written as they arrive, so memory use is constant.
+ * One simulated time unit is exported as one millisecond.
+ */
+public class ChromeTraceExporter implements SystemCallHandler.TraceSink, Closeable {
+    private static final int SIMULATOR_PID = 1;
+    private static final int SCHEDULER_TID = 100;
+    private static final int LOADER_TID = 101;
+    private static final int MICROS_PER_UNIT = 1000;
+
+    private final Writer out;
+    private final int cpuCount;
+    private final int[] runningPid;
+    private final long[] runningSince;
+    private boolean firstEvent = true;
+    private int readyDepth;
+    private IOException failure;
+
+    public ChromeTraceExporter(Path file, String runName, int cpuCount) throws IOException {
+        this.out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 16);
+        this.cpuCount = cpuCount;
+        this.runningPid = new int[cpuCount];
+        this.runningSince = new long[cpuCount];
+        out.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+        metadata("process_name", SIMULATOR_PID, 0, runName);
+        for (int cpu = 0; cpu < cpuCount; cpu++) {
+            metadata("thread_name", SIMULATOR_PID, cpu, "CPU " + cpu);
+            runningPid[cpu] = -1;
+        }
+        metadata("thread_name", SIMULATOR_PID, SCHEDULER_TID, "Scheduler");
+        metadata("thread_name", SIMULATOR_PID, LOADER_TID, "Loader");
+    }
+
+    /**
+     * Streams an already collected slice list onto the given CPU track.
+     */
+    public synchronized void writeSlices(int cpu, List<ExecutionSlice> slices) throws IOException {
+        for (ExecutionSlice slice : slices) {
+            writeSlice(cpu, slice.getProcessId(), slice.getStartTime(), slice.getEndTime());
+        }
+        rethrowFailure();
+    }
+
+    /**
+     * Converts a system call record into timeline events; dispatch and yield/complete pairs become CPU slices.
+     */
+    @Override
+    public synchronized void accept(SystemCallHandler.Opcode opcode, int pid, long simTime, long arg0, int arg1, long nanos) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            switch (opcode) {
+                case DISPATCH:
+                    // A multicore dispatch carries the CPUs the process's threads run on; 0 means CPU 0.
+                    for (long mask = arg0 == 0 ? 1 : arg0; mask != 0; mask &= mask - 1) {
+                        int cpu = Long.numberOfTrailingZeros(mask);
+                        if (cpu < cpuCount) {
+                            runningPid[cpu] = pid;
+                            runningSince[cpu] = simTime;
+                        }
+                    }
+                    counter("Ready queue depth", simTime, --readyDepth);
+                    instant("dispatch", pid, simTime, 0);
+                    break;
+                case YIELD:
+                    closeSlices(pid, simTime);
+                    counter("Ready queue depth", simTime, ++readyDepth);
+                    instant("yield", pid, simTime, 0);
+                    break;
+                case COMPLETE:
+                    closeSlices(pid, simTime);
+                    break;
+                case ADMIT_READY:
+                    counter("Ready queue depth", simTime, ++readyDepth);
+                    break;
+                case ALLOC_MEM:
+                    counter("Memory used (MB)", simTime, arg1);
+                    instant("alloc", pid, simTime, LOADER_TID);
+                    break;
+                case RELEASE_MEM:
+                    counter("Memory used (MB)", simTime, arg0);
+                    instant("release", pid, simTime, SCHEDULER_TID);
+                    break;
+                case AGE:
+                    instant("age", pid, simTime, SCHEDULER_TID);
+                    break;
+                case IO_REQUEST:
+                    closeSlices(pid, simTime);
+                    instant("io_request", pid, simTime, SCHEDULER_TID);
+                    break;
+                case IO_COMPLETE:
+                    counter("Ready queue depth", simTime, ++readyDepth);
+                    instant("io_complete", pid, simTime, SCHEDULER_TID);
+                    break;
+                case STARVATION:
+                    instant("starvation", pid, simTime, SCHEDULER_TID);
+                    break;
+                default:
+                    break;
+            }
+        } catch (IOException ex) {
+            failure = ex;
+        }
+    }
+
+    private void closeSlices(int pid, long endTime) throws IOException {
+        for (int cpu = 0; cpu < cpuCount; cpu++) {
+            if (runningPid[cpu] == pid) {
+                writeSlice(cpu, pid, runningSince[cpu], endTime);
+                runningPid[cpu] = -1;
+            }
+        }
+    }
+
+    private void writeSlice(int cpu, int pid, long start, long end) throws IOException {
+        if (cpu < 0 || cpu >= cpuCount) {
+            throw new IllegalArgumentException("Unknown CPU " + cpu);
+        }
+        beginEvent();
+        out.write("{\"name\":\"P");
+        out.write(Integer.toString(pid));
+        out.write("\",\"cat\":\"cpu\",\"ph\":\"X\",\"pid\":");
+        out.write(Integer.toString(SIMULATOR_PID));
+        out.write(",\"tid\":");
+        out.write(Integer.toString(cpu));
+        out.write(",\"ts\":");
+        out.write(Long.toString(start * MICROS_PER_UNIT));
+        out.write(",\"dur\":");
+        out.write(Long.toString((end - start) * MICROS_PER_UNIT));
+        out.write(",\"args\":{\"pid\":");
+        out.write(Integer.toString(pid));
+        out.write("}}");
+    }
+
+    private void instant(String name, int pid, long simTime, int tid) throws IOException {
+        beginEvent();
+        out.write("{\"name\":\"");
+        out.write(name);
+        out.write("\",\"cat\":\"syscall\",\"ph\":\"i\",\"s\":\"t\",\"pid\":");
+        out.write(Integer.toString(SIMULATOR_PID));
+        out.write(",\"tid\":");
+        out.write(Integer.toString(tid));
+        out.write(",\"ts\":");
+        out.write(Long.toString(simTime * MICROS_PER_UNIT));
+        out.write(",\"args\":{\"pid\":");
+        out.write(Integer.toString(pid));
+        out.write("}}");
+    }
+
+    private void counter(String name, long simTime, long value) throws IOException {
+        beginEvent();
+        out.write("{\"name\":\"");
+        out.write(name);
+        out.write("\",\"ph\":\"C\",\"pid\":");
+        out.write(Integer.toString(SIMULATOR_PID));
+        out.write(",\"ts\":");
+        out.write(Long.toString(simTime * MICROS_PER_UNIT));
+        out.write(",\"args\":{\"value\":");
+        out.write(Long.toString(value));
+        out.write("}}");
+    }
+
+    private void metadata(String kind, int pid, int tid, String value) throws IOException {
+        beginEvent();
+        out.write("{\"name\":\"");
+        out.write(kind);
+        out.write("\",\"ph\":\"M\",\"pid\":");
+        out.write(Integer.toString(pid));
+        out.write(",\"tid\":");
+        out.write(Integer.toString(tid));
+        out.write(",\"args\":{\"name\":\"");
+        out.write(escape(value));
+        out.write("\"}}");
+    }
+
+    private void beginEvent() throws IOException {
+        if (!firstEvent) {
+            out.write(',');
+        }
+        out.write('\n');
+        firstEvent = false;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void rethrowFailure() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Terminates the JSON document and closes the file, reporting any write failure seen while streaming.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (failure == null) {
+                out.write("\n]}\n");
+            }
+        } finally {
+            out.close();
+        }
+        rethrowFailure();
+    }
+}
@@ -0,0 +1,179 @@
+package simulator.io;
+
+import simulator.core.CpuMask;
+import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
+
+/**
+ * Immutable, parsed form of one {@code id:burst:priority;memory[;threads[;cpus]]} job entry.
+ */
+public class JobDefinition {
+    private static final int[] NO_BURSTS = new int[0];
+
+    private final int id;
+    private final int[] cpuBursts;
+    private final int[] ioBursts;
+    private final int[] ioDevices;
+    private final int priority;
+    private final int memoryRequired;
+    private final int threads;
+    private final long affinityMask;
+
+    public JobDefinition(int id, int[] cpuBursts, int[] ioBursts, int[] ioDevices, int priority, int memoryRequired) {
+        this(id, cpuBursts, ioBursts, ioDevices, priority, memoryRequired, 1, CpuMask.ANY);
+    }
+
+    /**
+     * Creates a job that runs as {@code threads} threads, each executing every CPU burst, on the CPUs in
+     * {@code affinityMask}.
+     */
+    public JobDefinition(int id,
+                         int[] cpuBursts,
+                         int[] ioBursts,
+                         int[] ioDevices,
+                         int priority,
+                         int memoryRequired,
+                         int threads,
+                         long affinityMask) {
+        if (threads < 1 || threads > CpuMask.MAX_CPUS) {
+            throw new IllegalArgumentException("Process " + id + " must run between 1 and " + CpuMask.MAX_CPUS + " threads");
+        }
+        if (Long.bitCount(affinityMask) < threads) {
+            throw new IllegalArgumentException("Process " + id + " runs " + threads + " threads but its affinity allows only "
+                    + Long.bitCount(affinityMask) + " CPUs");
+        }
+        this.id = id;
+        this.cpuBursts = cpuBursts.clone();
+        this.ioBursts = ioBursts.clone();
+        this.ioDevices = ioDevices.clone();
+        this.priority = priority;
+        this.memoryRequired = memoryRequired;
+        this.threads = threads;
+        this.affinityMask = affinityMask;
+    }
+
+    /**
+     * Parses a job line. The burst field is either a single CPU burst or alternating CPU and I/O bursts such as
+     * {@code 5,10,3,4@1,2}, where an I/O burst may name its device after {@code @}. Optional fields after the
+     * memory give the thread count and the CPUs the job may run on, as in {@code 7:20:2;300;4;0-3}.
+     */
+    public static JobDefinition parse(String line) {
+        String[] parts = line.split(";");
+        if (parts.length < 2 || parts.length > 4) {
+            throw new IllegalArgumentException("Invalid job entry: " + line);
+        }
+        int threads = parts.length > 2 ? Integer.parseInt(parts[2].trim()) : 1;
+        long affinity = parts.length > 3 ? CpuMask.parse(parts[3]) : CpuMask.ANY;
+        String[] fields = parts[0].split(":");
+        if (fields.length != 3) {
+            throw new IllegalArgumentException("Invalid job definition: " + line);
+        }
+        int id = Integer.parseInt(fields[0].trim());
+        int priority = Integer.parseInt(fields[2].trim());
+        int memory = Integer.parseInt(parts[1].trim());
+        String burstField = fields[1].trim();
+        if (burstField.indexOf(',') < 0) {
+            return new JobDefinition(id, new int[] {Integer.parseInt(burstField)}, NO_BURSTS, NO_BURSTS, priority, memory,
+                    threads, affinity);
+        }
+        String[] tokens = burstField.split(",");
+        if (tokens.length % 2 == 0) {
+            throw new IllegalArgumentException("Burst sequence must start and end with a CPU burst: " + line);
+        }
+        int ioCount = tokens.length / 2;
+        int[] cpuBursts = new int[ioCount + 1];
+        int[] ioBursts = new int[ioCount];
+        int[] ioDevices = new int[ioCount];
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i].trim();
+            if (i % 2 == 0) {
+                cpuBursts[i / 2] = Integer.parseInt(token);
+                continue;
+            }
+            int at = token.indexOf('@');
+            ioBursts[i / 2] = Integer.parseInt(at < 0 ? token : token.substring(0, at).trim());
+            ioDevices[i / 2] = at < 0 ? 0 : Integer.parseInt(token.substring(at + 1).trim());
+            if (ioDevices[i / 2] < 0) {
+                throw new IllegalArgumentException("Invalid I/O device in job definition: " + line);
+            }
+        }
+        return new JobDefinition(id, cpuBursts, ioBursts, ioDevices, priority, memory, threads, affinity);
+    }
+
+    /**
+     * Formats the job in the job-file syntax accepted by {@link #parse}.
+     */
+    public String format() {
+        StringBuilder line = new StringBuilder();
+        line.append(id).append(':');
+        for (int i = 0; i < cpuBursts.length; i++) {
+            if (i > 0) {
+                line.append(',').append(ioBursts[i - 1]).append('@').append(ioDevices[i - 1]).append(',');
+            }
+            line.append(cpuBursts[i]);
+        }
+        line.append(':').append(priority).append(';').append(memoryRequired);
+        if (threads != 1 || affinityMask != CpuMask.ANY) {
+            line.append(';').append(threads);
+        }
+        if (affinityMask != CpuMask.ANY) {
+            line.append(';').append(CpuMask.format(affinityMask));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Appends this job as a new row of {@code table}, arriving at time 0, and returns its PCB view.
+     */
+    public ProcessControlBlock createIn(ProcessTable table, int arrivalOrder) {
+        return createIn(table, arrivalOrder, 0);
+    }
+
+    /**
+     * Appends this job as a new row of {@code table} arriving at {@code arrivalTime} and returns its PCB view.
+     */
+    public ProcessControlBlock createIn(ProcessTable table, int arrivalOrder, long arrivalTime) {
+        ProcessControlBlock pcb = ioBursts.length == 0
+                ? table.create(id, cpuBursts[0], priority, memoryRequired, arrivalTime, arrivalOrder)
+                : table.create(id, cpuBursts, ioBursts, ioDevices, priority, memoryRequired, arrivalTime, arrivalOrder);
+        if (threads != 1 || affinityMask != CpuMask.ANY) {
+            table.setPlacement(pcb.getSlot(), threads, affinityMask);
+        }
+        return pcb;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getMemoryRequired() {
+        return memoryRequired;
+    }
+
+    /**
+     * Returns the total CPU demand across all CPU bursts.
+     */
+    public int getTotalCpuTime() {
+        int total = 0;
+        for (int burst : cpuBursts) {
+            total += burst;
+        }
+        return total;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getAffinityMask() {
+        return affinityMask;
+    }
+
+    public int getIoBurstCount() {
+        return ioBursts.length;
+    }
+}
@@ -8,37 +8,171 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import simulator.core.LatencyHistogram;
 import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
 import simulator.core.SystemCallHandler;
 
 /**
- * Dedicated thread that loads job definitions from the job file into the job queue.
+ * Dedicated thread that loads job definitions from the job file, or from an already parsed {@link Workload},
+ * into the job queue.
  */
 public class JobReader extends Thread {
-    private static final int MAX_JOBS = 30;
-    private static final int MAX_TOTAL_MEMORY = 2048;
+    /**
+     * Job count the course's {@code job.txt} is limited to; the interactive menu keeps it.
+     */
+    public static final int DEFAULT_MAX_JOBS = 30;
+    public static final int DEFAULT_MEMORY_LIMIT = 2048;
 
     private final Path jobFilePath;
+    private final Workload workload;
     private final BlockingQueue<ProcessControlBlock> jobQueue;
     private final SystemCallHandler systemCalls;
     private final AtomicInteger totalJobs;
     private final AtomicBoolean finished;
+    private volatile Exception failure;
+    private final LatencyHistogram parseTime;
+    private final ProcessTable processTable;
+    private final int memoryLimit;
+    private int maxJobs = DEFAULT_MAX_JOBS;
+    private RunRecorder recorder;
+    private Runnable finishListener;
 
     public JobReader(Path jobFilePath,
                      BlockingQueue<ProcessControlBlock> jobQueue,
                      SystemCallHandler systemCalls,
                      AtomicInteger totalJobs,
                      AtomicBoolean finished) {
+        this(jobFilePath, jobQueue, systemCalls, totalJobs, finished, new LatencyHistogram("Job record parse"));
+    }
+
+    public JobReader(Path jobFilePath,
+                     BlockingQueue<ProcessControlBlock> jobQueue,
+                     SystemCallHandler systemCalls,
+                     AtomicInteger totalJobs,
+                     AtomicBoolean finished,
+                     LatencyHistogram parseTime) {
+        this(jobFilePath, jobQueue, systemCalls, totalJobs, finished, parseTime, new ProcessTable());
+    }
+
+    /**
+     * Creates a reader that appends every parsed job as a row of {@code processTable}.
+     */
+    public JobReader(Path jobFilePath,
+                     BlockingQueue<ProcessControlBlock> jobQueue,
+                     SystemCallHandler systemCalls,
+                     AtomicInteger totalJobs,
+                     AtomicBoolean finished,
+                     LatencyHistogram parseTime,
+                     ProcessTable processTable) {
+        this(jobFilePath, null, jobQueue, systemCalls, totalJobs, finished, parseTime, processTable, DEFAULT_MEMORY_LIMIT);
+    }
+
+    /**
+     * Creates a reader for a job file whose jobs must each fit in {@code memoryLimit} MB.
+     */
+    public JobReader(Path jobFilePath,
+                     BlockingQueue<ProcessControlBlock> jobQueue,
+                     SystemCallHandler systemCalls,
+                     AtomicInteger totalJobs,
+                     AtomicBoolean finished,
+                     LatencyHistogram parseTime,
+                     ProcessTable processTable,
+                     int memoryLimit) {
+        this(jobFilePath, null, jobQueue, systemCalls, totalJobs, finished, parseTime, processTable, memoryLimit);
+    }
+
+    /**
+     * Creates a reader that replays an already parsed workload instead of reading a file.
+     */
+    public JobReader(Workload workload,
+                     BlockingQueue<ProcessControlBlock> jobQueue,
+                     SystemCallHandler systemCalls,
+                     AtomicInteger totalJobs,
+                     AtomicBoolean finished,
+                     LatencyHistogram parseTime,
+                     ProcessTable processTable,
+                     int memoryLimit) {
+        this(null, workload, jobQueue, systemCalls, totalJobs, finished, parseTime, processTable, memoryLimit);
+    }
+
+    private JobReader(Path jobFilePath,
+                      Workload workload,
+                      BlockingQueue<ProcessControlBlock> jobQueue,
+                      SystemCallHandler systemCalls,
+                      AtomicInteger totalJobs,
+                      AtomicBoolean finished,
+                      LatencyHistogram parseTime,
+                      ProcessTable processTable,
+                      int memoryLimit) {
         super("job-reader");
         this.jobFilePath = jobFilePath;
+        this.workload = workload;
         this.jobQueue = jobQueue;
         this.systemCalls = systemCalls;
         this.totalJobs = totalJobs;
         this.finished = finished;
+        this.parseTime = parseTime;
+        this.processTable = processTable;
+        this.memoryLimit = memoryLimit;
     }
 
     @Override
     public void run() {
+        try {
+            if (workload != null) {
+                for (JobDefinition job : workload.getJobs()) {
+                    submit(job, System.nanoTime());
+                }
+            } else {
+                readJobFile();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure = ex;
+        } catch (IOException | RuntimeException ex) {
+            failure = ex;
+        } finally {
+            finished.set(true);
+            if (finishListener != null) {
+                finishListener.run();
+            }
+        }
+    }
+
+    /**
+     * Sets how many jobs a job file may list; must be called before the thread starts. A parsed {@link Workload} is
+     * never limited.
+     */
+    public void setMaxJobs(int maxJobs) {
+        if (maxJobs <= 0) {
+            throw new IllegalArgumentException("Maximum job count must be positive");
+        }
+        this.maxJobs = maxJobs;
+    }
+
+    /**
+     * Runs {@code listener} once reading has finished, successfully or not; must be called before the thread starts.
+     */
+    public void setFinishListener(Runnable listener) {
+        this.finishListener = listener;
+    }
+
+    /**
+     * Logs every job read to {@code recorder}; must be called before the thread starts.
+     */
+    public void setRecorder(RunRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Returns the error that stopped reading early, or null if every job was read. Valid once the thread has ended.
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    private void readJobFile() throws IOException, InterruptedException {
         try (BufferedReader reader = Files.newBufferedReader(jobFilePath)) {
             String line;
             while ((line = reader.readLine()) != null) {
@@ -46,42 +180,33 @@ public class JobReader extends Thread {
                 if (line.isEmpty() || line.startsWith("#")) {
                     continue;
                 }
-                int currentCount = totalJobs.get();
-                if (currentCount >= MAX_JOBS) {
-                    throw new IllegalStateException("job.txt exceeds maximum supported job count of " + MAX_JOBS);
-                }
-                ProcessControlBlock pcb = parseLine(line, currentCount);
-                if (pcb.getMemoryRequired() > MAX_TOTAL_MEMORY) {
-                    throw new IllegalStateException("Process " + pcb.getId()
-                            + " requires " + pcb.getMemoryRequired()
-                            + "MB which exceeds the available memory of " + MAX_TOTAL_MEMORY + "MB");
-                }
-                systemCalls.createProcess(pcb);
-                pcb.markQueued();
-                jobQueue.put(pcb);
-                systemCalls.enqueueJob(pcb, jobQueue.size());
-                totalJobs.incrementAndGet();
+                long parseStart = System.nanoTime();
+                submit(JobDefinition.parse(line), parseStart);
             }
-        } catch (IOException | InterruptedException ex) {
-            throw new RuntimeException("Failed to read job file", ex);
-        } finally {
-            finished.set(true);
         }
     }
 
-    private ProcessControlBlock parseLine(String line, int arrivalOrder) {
-        String[] parts = line.split(";");
-        if (parts.length != 2) {
-            throw new IllegalArgumentException("Invalid job entry: " + line);
+    private void submit(JobDefinition job, long parseStart) throws InterruptedException {
+        int currentCount = totalJobs.get();
+        if (workload == null && currentCount >= maxJobs) {
+            throw new IllegalStateException(jobFilePath.getFileName() + " exceeds maximum supported job count of "
+                    + maxJobs);
+        }
+        ProcessControlBlock pcb = job.createIn(processTable, currentCount);
+        parseTime.recordSince(parseStart);
+        if (pcb.getMemoryRequired() > memoryLimit) {
+            throw new IllegalStateException("Process " + pcb.getId()
+                    + " requires " + pcb.getMemoryRequired()
+                    + "MB which exceeds the available memory of " + memoryLimit + "MB");
         }
-        String[] fields = parts[0].split(":");
-        if (fields.length != 3) {
-            throw new IllegalArgumentException("Invalid job definition: " + line);
+        systemCalls.createProcess(pcb);
+        pcb.markQueued();
+        jobQueue.put(pcb);
+        int queueDepth = jobQueue.size();
+        systemCalls.enqueueJob(pcb, queueDepth);
+        if (recorder != null) {
+            recorder.job(job, pcb.getArrivalTime(), queueDepth);
         }
-        int id = Integer.parseInt(fields[0].trim());
-        int burst = Integer.parseInt(fields[1].trim());
-        int priority = Integer.parseInt(fields[2].trim());
-        int memory = Integer.parseInt(parts[1].trim());
-        return new ProcessControlBlock(id, burst, priority, memory, 0, arrivalOrder);
+        totalJobs.incrementAndGet();
     }
 }
@@ -0,0 +1,170 @@
+package simulator.io;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
+import simulator.core.SimulationClock;
+import simulator.core.SystemCallHandler;
+
+/**
+ * Open-ended job source that external threads feed while a run is in progress, in place of a {@link JobReader}.
+ * Each job arrives at the simulated time of its submission. Closing the stream lets the run finish once every
+ * submitted job has completed.
+ */
+public class JobStream {
+    private final CountDownLatch attached = new CountDownLatch(1);
+    // Memory is accounted per process id, so an id may only be reused once its process has been recycled.
+    private final Set<Integer> submittedIds = new HashSet<>();
+
+    private ProcessTable processTable;
+    private BlockingQueue<ProcessControlBlock> jobQueue;
+    private SystemCallHandler systemCalls;
+    private SimulationClock clock;
+    private AtomicInteger totalJobs;
+    private AtomicBoolean finished;
+    private int memoryLimit;
+    private RunRecorder recorder;
+    private boolean closed;
+    private boolean recycling;
+
+    /**
+     * Binds the stream to the queues and counters of a starting run; called once by {@code SimulationRunner}.
+     */
+    public synchronized void attach(ProcessTable processTable,
+                                    BlockingQueue<ProcessControlBlock> jobQueue,
+                                    SystemCallHandler systemCalls,
+                                    SimulationClock clock,
+                                    AtomicInteger totalJobs,
+                                    AtomicBoolean finished,
+                                    int memoryLimit) {
+        if (this.processTable != null) {
+            throw new IllegalStateException("Job stream is already attached to a run");
+        }
+        this.processTable = processTable;
+        this.jobQueue = jobQueue;
+        this.systemCalls = systemCalls;
+        this.clock = clock;
+        this.totalJobs = totalJobs;
+        this.finished = finished;
+        this.memoryLimit = memoryLimit;
+        if (recycling) {
+            processTable.enableRecycling();
+        }
+        if (closed) {
+            finished.set(true);
+        }
+        attached.countDown();
+    }
+
+    /**
+     * Reuses the process table rows and ids of completed processes, so a stream that runs indefinitely holds
+     * only the jobs still in flight. Views returned by {@link #submit} are then only valid until their process
+     * completes, and an id can be submitted again once its earlier process has completed. Call before
+     * {@link #attach}; the run must keep streaming metrics and take no checkpoints, since both retain views.
+     */
+    public synchronized void setRecycling(boolean recycling) {
+        this.recycling = recycling;
+    }
+
+    public synchronized boolean isRecycling() {
+        return recycling;
+    }
+
+    /**
+     * Releases the rows and ids of the processes completed since the last call; the scheduler thread calls it
+     * at each decision point of a recycling run.
+     */
+    public synchronized void recycleFinished() {
+        processTable.recycleFinished(submittedIds::remove);
+    }
+
+    /**
+     * Logs every submitted job to {@code recorder}; call before {@link #attach} so no submission is missed.
+     */
+    public synchronized void setRecorder(RunRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Creates the job at the current simulated time and places it on the job queue, waiting for the run to
+     * attach first. Rejects jobs that can never fit in memory and ids already used in this run.
+     */
+    public ProcessControlBlock submit(JobDefinition job) throws InterruptedException {
+        attached.await();
+        return submit(job, clock.getTime());
+    }
+
+    /**
+     * Submits a job like {@link #submit(JobDefinition)} but returns its arrival time instead of a view, which a
+     * recycling stream may hand to another job as soon as this one completes.
+     */
+    public long submitForArrivalTime(JobDefinition job) throws InterruptedException {
+        attached.await();
+        long arrivalTime = clock.getTime();
+        submit(job, arrivalTime);
+        return arrivalTime;
+    }
+
+    /**
+     * Submits a job that arrived at {@code arrivalTime}, which may lie behind the current simulated time when
+     * the submitter only hands jobs over at its own synchronization points.
+     */
+    public ProcessControlBlock submit(JobDefinition job, long arrivalTime) throws InterruptedException {
+        attached.await();
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Job stream is closed");
+            }
+            if (arrivalTime > clock.getTime()) {
+                throw new IllegalArgumentException("Process " + job.getId() + " arrives at " + arrivalTime
+                        + ", after the current time " + clock.getTime());
+            }
+            if (job.getMemoryRequired() > memoryLimit) {
+                throw new IllegalArgumentException("Process " + job.getId() + " requires " + job.getMemoryRequired()
+                        + "MB which exceeds the available memory of " + memoryLimit + "MB");
+            }
+            if (!submittedIds.add(job.getId())) {
+                throw new IllegalArgumentException("Process id " + job.getId() + " was already submitted");
+            }
+            ProcessControlBlock pcb = job.createIn(processTable, totalJobs.get(), arrivalTime);
+            systemCalls.createProcess(pcb);
+            pcb.markQueued();
+            jobQueue.put(pcb);
+            int queueDepth = jobQueue.size();
+            systemCalls.enqueueJob(pcb, queueDepth);
+            if (recorder != null) {
+                recorder.job(job, pcb.getArrivalTime(), queueDepth);
+            }
+            totalJobs.incrementAndGet();
+            return pcb;
+        }
+    }
+
+    /**
+     * Stops accepting submissions; the run drains the jobs already submitted and then terminates.
+     */
+    public synchronized void close() {
+        closed = true;
+        if (finished != null) {
+            finished.set(true);
+        }
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    public synchronized int getSubmittedCount() {
+        return totalJobs == null ? 0 : totalJobs.get();
+    }
+
+    public synchronized int getQueueDepth() {
+        return jobQueue == null ? 0 : jobQueue.size();
+    }
+}
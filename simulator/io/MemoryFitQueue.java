@@ -0,0 +1,128 @@
+package simulator.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import simulator.core.ProcessControlBlock;
+
+/**
+ * Jobs waiting for admission, ordered by a scheduler's admission order and indexed by memory requirement, so the
+ * first job in that order that fits in the free memory is found in O(log n) time instead of by a scan. Each
+ * memory requirement has its own heap, and a segment tree over the requirements holds the best job of every
+ * range, which turns "best job needing at most the free memory" into a prefix query.
+ */
+final class MemoryFitQueue {
+    private final Comparator<ProcessControlBlock> order;
+    private final int maxMemory;
+    private final int leaves;
+    private final List<PriorityQueue<ProcessControlBlock>> buckets;
+    // best[leaves + m] is the head of the heap for memory m; each inner node holds the better of its children.
+    private final ProcessControlBlock[] best;
+    private int size;
+
+    MemoryFitQueue(Comparator<ProcessControlBlock> order, int maxMemory) {
+        this.order = order;
+        this.maxMemory = maxMemory;
+        this.leaves = Integer.highestOneBit(Math.max(1, maxMemory)) << 1;
+        this.buckets = new ArrayList<>(Collections.nCopies(maxMemory + 1, null));
+        this.best = new ProcessControlBlock[2 * leaves];
+    }
+
+    synchronized void add(ProcessControlBlock pcb) {
+        int memory = pcb.getMemoryRequired();
+        if (memory < 0 || memory > maxMemory) {
+            throw new IllegalArgumentException("Process " + pcb.getId() + " requires " + memory
+                    + "MB, outside the " + maxMemory + "MB available");
+        }
+        PriorityQueue<ProcessControlBlock> bucket = buckets.get(memory);
+        if (bucket == null) {
+            bucket = new PriorityQueue<>(order);
+            buckets.set(memory, bucket);
+        }
+        bucket.add(pcb);
+        size++;
+        update(memory);
+    }
+
+    /**
+     * Removes and returns the first job in admission order that needs at most {@code freeMemory}, or null if
+     * none fits.
+     */
+    synchronized ProcessControlBlock pollFitting(int freeMemory) {
+        ProcessControlBlock chosen = null;
+        // Standard bottom-up query over the leaves for memory 0..freeMemory.
+        int lo = leaves;
+        int hi = leaves + Math.min(freeMemory, maxMemory) + 1;
+        while (lo < hi) {
+            if ((lo & 1) == 1) {
+                chosen = better(chosen, best[lo++]);
+            }
+            if ((hi & 1) == 1) {
+                chosen = better(chosen, best[--hi]);
+            }
+            lo >>= 1;
+            hi >>= 1;
+        }
+        if (chosen != null) {
+            int memory = chosen.getMemoryRequired();
+            buckets.get(memory).poll();
+            size--;
+            update(memory);
+        }
+        return chosen;
+    }
+
+    /**
+     * Returns the smallest memory requirement among the waiting jobs; only valid when the queue is not empty.
+     */
+    synchronized int getSmallestMemory() {
+        int node = 1;
+        while (node < leaves) {
+            node = best[2 * node] != null ? 2 * node : 2 * node + 1;
+        }
+        return node - leaves;
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Lists the waiting jobs in arrival order.
+     */
+    synchronized List<ProcessControlBlock> toList() {
+        List<ProcessControlBlock> jobs = new ArrayList<>(size);
+        for (PriorityQueue<ProcessControlBlock> bucket : buckets) {
+            if (bucket != null) {
+                jobs.addAll(bucket);
+            }
+        }
+        jobs.sort(Comparator.comparingInt(ProcessControlBlock::getArrivalOrder));
+        return jobs;
+    }
+
+    private void update(int memory) {
+        int node = leaves + memory;
+        best[node] = buckets.get(memory).peek();
+        for (node >>= 1; node >= 1; node >>= 1) {
+            best[node] = better(best[2 * node], best[2 * node + 1]);
+        }
+    }
+
+    private ProcessControlBlock better(ProcessControlBlock a, ProcessControlBlock b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return order.compare(a, b) <= 0 ? a : b;
+    }
+}
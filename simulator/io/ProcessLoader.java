@@ -1,8 +1,12 @@
 package simulator.io;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import simulator.core.ProcessControlBlock;
 import simulator.core.SimulationClock;
@@ -10,7 +14,9 @@ import simulator.core.SystemCallHandler;
 import simulator.memory.MemoryManager;
 
 /**
- * Moves PCBs from the job queue to the ready queue while respecting available memory.
+ * Moves PCBs from the job queue to the ready queue while respecting available memory. Jobs are admitted in
+ * arrival order unless the scheduler supplies an admission order, in which case the loader admits the first job
+ * in that order that fits in the free memory.
  */
 public class ProcessLoader extends Thread {
     private final BlockingQueue<ProcessControlBlock> jobQueue;
@@ -22,6 +28,17 @@ public class ProcessLoader extends Thread {
 
     private final AtomicBoolean shutdownRequested = new AtomicBoolean(false);
     private final AtomicBoolean loadingComplete = new AtomicBoolean(false);
+    private final AtomicInteger admittedCount = new AtomicInteger();
+    // The job taken off the job queue but not yet admitted, typically while it waits for memory.
+    private volatile ProcessControlBlock inHand;
+    // Counts the changes that can let a scheduler waiting in awaitProgress continue; guarded by progressLock.
+    private final Object progressLock = new Object();
+    private long progress;
+    private RunRecorder recorder;
+    private AdmissionController admission;
+    // With an admission order, jobs taken off the job queue wait here until chosen; null admits in arrival order.
+    private MemoryFitQueue waiting;
+    private boolean waitForReader;
 
     public ProcessLoader(BlockingQueue<ProcessControlBlock> jobQueue,
                          BlockingQueue<ProcessControlBlock> readyQueue,
@@ -41,29 +58,152 @@ public class ProcessLoader extends Thread {
     @Override
     public void run() {
         try {
-            while (true) {
-                ProcessControlBlock pcb = jobQueue.poll(100, TimeUnit.MILLISECONDS);
-                if (pcb == null) {
-                    if (readerFinished.get() && jobQueue.isEmpty()) {
-                        break;
-                    }
-                    if (shutdownRequested.get()) {
-                        break;
-                    }
-                    continue;
-                }
-                // Block until memory is available, ensuring the ready queue never over-commits RAM.
-                memoryManager.allocateBlocking(pcb);
-                int degree = memoryManager.getAllocatedProcessCount();
-                int readyTime = clock.getTime();
-                pcb.markReady(readyTime, degree, true);
-                systemCalls.admitToReady(pcb, readyTime, degree);
-                readyQueue.put(pcb);
+            if (waiting == null) {
+                admitInArrivalOrder();
+            } else {
+                admitInOrder();
             }
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
         } finally {
             loadingComplete.set(true);
+            signalProgress();
+        }
+    }
+
+    private void admitInArrivalOrder() throws InterruptedException {
+        while (true) {
+            ProcessControlBlock pcb = jobQueue.poll(100, TimeUnit.MILLISECONDS);
+            if (pcb == null) {
+                if (readerFinished.get() && jobQueue.isEmpty()) {
+                    break;
+                }
+                if (shutdownRequested.get()) {
+                    break;
+                }
+                continue;
+            }
+            inHand = pcb;
+            admit(pcb);
+            // The last job is admitted; exit now rather than after another poll timeout.
+            if (readerFinished.get() && jobQueue.isEmpty()) {
+                break;
+            }
+        }
+    }
+
+    private void admitInOrder() throws InterruptedException {
+        while (true) {
+            // Read before draining: once the reader has finished, the drain is guaranteed to see every job.
+            boolean allQueued = readerFinished.get();
+            for (ProcessControlBlock queued = jobQueue.poll(); queued != null; queued = jobQueue.poll()) {
+                waiting.add(queued);
+            }
+            if (allQueued && waiting.isEmpty()) {
+                break;
+            }
+            if (waiting.isEmpty() || (waitForReader && !allQueued)) {
+                if (shutdownRequested.get()) {
+                    break;
+                }
+                ProcessControlBlock next = jobQueue.poll(100, TimeUnit.MILLISECONDS);
+                if (next != null) {
+                    waiting.add(next);
+                }
+                continue;
+            }
+            ProcessControlBlock pcb = waiting.pollFitting(memoryManager.getFreeMemory());
+            if (pcb == null) {
+                // Nothing fits: wait until the smallest waiting job would, then choose again.
+                memoryManager.awaitFree(waiting.getSmallestMemory());
+                continue;
+            }
+            inHand = pcb;
+            admit(pcb);
+        }
+    }
+
+    private void admit(ProcessControlBlock pcb) throws InterruptedException {
+        if (admission != null) {
+            admission.awaitAdmission(pcb);
+        }
+        // Block until memory is available, ensuring the ready queue never over-commits RAM.
+        memoryManager.allocateBlocking(pcb);
+        if (admission != null) {
+            admission.admitted(pcb);
+        }
+        markAdmitted(pcb, clock.getTime(), memoryManager.getAllocatedProcessCount());
+        readyQueue.put(pcb);
+        inHand = null;
+        admittedCount.incrementAndGet();
+        signalProgress();
+    }
+
+    /**
+     * Replays one recorded admission on the calling thread in place of the loader thread, which is not started in
+     * a replayed run. The job the loader would admit next, the head of the job queue or the first fitting job in
+     * the admission order, must be the recorded process and must fit in memory.
+     */
+    public void admitRecorded(RunRecording.Admission admission) {
+        ProcessControlBlock pcb;
+        if (waiting != null) {
+            for (ProcessControlBlock queued = jobQueue.poll(); queued != null; queued = jobQueue.poll()) {
+                waiting.add(queued);
+            }
+            pcb = waiting.pollFitting(memoryManager.getFreeMemory());
+        } else {
+            pcb = jobQueue.poll();
+        }
+        if (pcb == null || pcb.getId() != admission.getPid()) {
+            throw new IllegalStateException("Replay diverged from the recorded run: process " + admission.getPid()
+                    + " was admitted next, but the loader would admit " + (pcb == null ? "no job" : "process " + pcb.getId()));
+        }
+        if (!memoryManager.tryAllocate(pcb)) {
+            throw new IllegalStateException("Replay diverged from the recorded run: process " + pcb.getId()
+                    + " does not fit in memory at its recorded admission");
+        }
+        markAdmitted(pcb, admission.getReadyTime(), admission.getDegree());
+        readyQueue.add(pcb);
+        admittedCount.incrementAndGet();
+    }
+
+    private void markAdmitted(ProcessControlBlock pcb, long readyTime, int degree) {
+        pcb.markReady(readyTime, degree, true);
+        systemCalls.admitToReady(pcb, readyTime, degree);
+        if (recorder != null) {
+            recorder.admit(pcb.getId(), readyTime, degree);
+        }
+        pcb.markReadyEnqueued(System.nanoTime());
+    }
+
+    /**
+     * Returns a token that {@link #awaitProgress} compares against; read it before checking the loader's state.
+     */
+    public long getProgress() {
+        synchronized (progressLock) {
+            return progress;
+        }
+    }
+
+    /**
+     * Blocks until the loader's state has changed since {@code seen} was read from {@link #getProgress}: a job was
+     * admitted, loading completed, the next job stalled on memory or admission control, or the reader finished.
+     */
+    public void awaitProgress(long seen) throws InterruptedException {
+        synchronized (progressLock) {
+            while (progress == seen) {
+                progressLock.wait();
+            }
+        }
+    }
+
+    /**
+     * Wakes a scheduler blocked in {@link #awaitProgress}; called by the loader, the memory manager and the reader.
+     */
+    public void signalProgress() {
+        synchronized (progressLock) {
+            progress++;
+            progressLock.notifyAll();
         }
     }
 
@@ -72,6 +212,83 @@ public class ProcessLoader extends Thread {
         interrupt();
     }
 
+    /**
+     * Reports whether the loader has admitted everything it currently can: either all jobs are loaded, the next
+     * job is waiting for memory that only a terminating process can free, or it is waiting for admission control.
+     */
+    public boolean isIdle() {
+        return loadingComplete.get() || memoryManager.isAllocationStalled()
+                || (admission != null && admission.isHolding());
+    }
+
+    /**
+     * Returns how many jobs the loader has placed on the ready queue so far.
+     */
+    public int getAdmittedCount() {
+        return admittedCount.get();
+    }
+
+    /**
+     * Seeds the admitted count of a run resumed from a checkpoint; must be called before the thread starts.
+     */
+    public void setAdmittedCount(int admitted) {
+        admittedCount.set(admitted);
+    }
+
+    /**
+     * Has every job pass {@code admission} before it is given memory; must be called before the thread starts.
+     */
+    public void setAdmissionController(AdmissionController admission) {
+        this.admission = admission;
+        if (admission != null) {
+            admission.setHoldListener(this::signalProgress);
+        }
+    }
+
+    /**
+     * Admits waiting jobs in {@code order} rather than arrival order, each time choosing the first job that fits in
+     * the free memory; must be called before the thread starts. With {@code waitForReader} the loader lets the
+     * reader finish before its first choice, so the choice does not depend on how far reading has got; an
+     * open-ended stream never finishes, so it chooses among the jobs queued so far.
+     */
+    public void setAdmissionOrder(Comparator<ProcessControlBlock> order, boolean waitForReader) {
+        this.waiting = new MemoryFitQueue(order, memoryManager.getTotalMemory());
+        this.waitForReader = waitForReader;
+    }
+
+    /**
+     * Logs every admission to {@code recorder}; must be called before the thread starts.
+     */
+    public void setRecorder(RunRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Lists the jobs not yet admitted: the job waiting for memory, if any, then the jobs waiting to be chosen in
+     * the admission order (in arrival order), then the job queue. Only consistent while the loader is idle and no
+     * job is being added.
+     */
+    public List<ProcessControlBlock> getPendingJobs() {
+        List<ProcessControlBlock> pending = new ArrayList<>(jobQueue.size() + 1);
+        ProcessControlBlock held = inHand;
+        if (held != null) {
+            pending.add(held);
+        }
+        if (waiting != null) {
+            pending.addAll(waiting.toList());
+        }
+        pending.addAll(jobQueue);
+        return pending;
+    }
+
+    /**
+     * Returns how many jobs are waiting on the job queue for admission, including those waiting to be chosen in
+     * the admission order.
+     */
+    public int getJobQueueDepth() {
+        return jobQueue.size() + (waiting != null ? waiting.size() : 0);
+    }
+
     public boolean isLoadingComplete() {
         return loadingComplete.get();
     }
@@ -0,0 +1,271 @@
+package simulator.io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+import simulator.core.CpuTopology;
+import simulator.core.DistributionSummary;
+import simulator.core.MetricsAccumulator;
+import simulator.core.ProcessReport;
+import simulator.core.SchedulingResult;
+
+/**
+ * Serializes scheduler results in machine-readable form for scripts and automated benchmarking.
+ */
+public class ResultExporter {
+    /**
+     * Output formats supported by the headless command line.
+     */
+    public enum Format {
+        TEXT,
+        JSON,
+        CSV;
+
+        public static Format parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final boolean includeSystemCalls;
+
+    /**
+     * Creates an exporter; the per-entry system call log is only written to JSON when {@code includeSystemCalls} is set.
+     */
+    public ResultExporter(boolean includeSystemCalls) {
+        this.includeSystemCalls = includeSystemCalls;
+    }
+
+    /**
+     * Writes one summary row per scheduler.
+     */
+    public void writeCsv(List<SchedulingResult> results, Writer out) throws IOException {
+        out.write("scheduler,completed,avg_waiting,avg_turnaround,avg_response,p99_waiting,p99_turnaround,p99_response,"
+                + "throughput,cpu_utilization,fairness\n");
+        for (SchedulingResult result : results) {
+            out.write(csvField(result.getSchedulerName()));
+            out.write(',');
+            out.write(Integer.toString(result.getMetrics().getCompletedCount()));
+            for (double value : new double[] {
+                    result.getAverageWaitingTime(),
+                    result.getAverageTurnaroundTime(),
+                    result.getResponseSummary().getMean(),
+                    result.getWaitingSummary().getP99(),
+                    result.getTurnaroundSummary().getP99(),
+                    result.getResponseSummary().getP99(),
+                    result.getThroughput(),
+                    result.getCpuUtilization(),
+                    result.getFairnessIndex()}) {
+                out.write(',');
+                out.write(number(value));
+            }
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Writes a JSON document with summaries, distributions, devices, and per-process metrics when retained.
+     */
+    public void writeJson(List<SchedulingResult> results, Writer out) throws IOException {
+        out.write("{\"results\":[");
+        for (int i = 0; i < results.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeResult(results.get(i), out);
+        }
+        out.write("\n]}\n");
+    }
+
+    private void writeResult(SchedulingResult result, Writer out) throws IOException {
+        out.write("\n{\"scheduler\":");
+        out.write(jsonString(result.getSchedulerName()));
+        out.write(",\"completed\":");
+        out.write(Integer.toString(result.getMetrics().getCompletedCount()));
+        out.write(",\"makespan\":");
+        out.write(Long.toString(result.getMetrics().getMakespan()));
+        field(out, "avgWaiting", result.getAverageWaitingTime());
+        field(out, "avgTurnaround", result.getAverageTurnaroundTime());
+        field(out, "throughput", result.getThroughput());
+        field(out, "cpuUtilization", result.getCpuUtilization());
+        field(out, "fairness", result.getFairnessIndex());
+        field(out, "avgMemoryUsed", result.getAverageMemoryUsed());
+        out.write(",\"peakMemoryUsed\":");
+        out.write(Integer.toString(result.getPeakMemoryUsed()));
+        field(out, "avgDegree", result.getAverageDegree());
+        out.write(",\"peakDegree\":");
+        out.write(Integer.toString(result.getPeakDegree()));
+        MetricsAccumulator metrics = result.getMetrics();
+        if (metrics.getAdmissionPolicy() != null) {
+            out.write(",\"admission\":{\"policy\":");
+            out.write(jsonString(metrics.getAdmissionPolicy()));
+            out.write(",\"held\":");
+            out.write(Integer.toString(metrics.getAdmissionHolds()));
+            out.write(",\"finalLimit\":");
+            out.write(Integer.toString(metrics.getAdmissionLimit()));
+            out.write('}');
+        }
+        if (result.isLive()) {
+            field(out, "liveAvgWaitingMillis", result.getAverageWallWaitingMillis());
+            field(out, "liveAvgTurnaroundMillis", result.getAverageWallTurnaroundMillis());
+        }
+        distribution(out, "waiting", result.getWaitingSummary());
+        distribution(out, "turnaround", result.getTurnaroundSummary());
+        distribution(out, "response", result.getResponseSummary());
+        distribution(out, "slowdown", result.getSlowdownSummary());
+
+        out.write(",\"deviceUtilization\":[");
+        for (int device = 0; device < result.getDeviceCount(); device++) {
+            if (device > 0) {
+                out.write(',');
+            }
+            out.write(number(result.getDeviceUtilization(device)));
+        }
+        out.write(']');
+
+        if (result.getCpuCount() > 1) {
+            out.write(",\"cpuCount\":");
+            out.write(Integer.toString(result.getCpuCount()));
+            out.write(",\"perCpuUtilization\":[");
+            for (int cpu = 0; cpu < result.getCpuCount(); cpu++) {
+                if (cpu > 0) {
+                    out.write(',');
+                }
+                out.write(number(result.getCpuUtilization(cpu)));
+            }
+            out.write(']');
+            CpuTopology topology = result.getMetrics().getCpuTopology();
+            if (topology.isHeterogeneous()) {
+                out.write(",\"cpuSpeeds\":");
+                out.write(jsonString(topology.format()));
+                out.write(",\"classUtilization\":[");
+                for (int speedClass = 0; speedClass < topology.getClassCount(); speedClass++) {
+                    if (speedClass > 0) {
+                        out.write(',');
+                    }
+                    out.write("{\"speed\":");
+                    out.write(number(topology.getClassSpeed(speedClass)));
+                    field(out, "utilization", result.getClassUtilization(speedClass));
+                    out.write('}');
+                }
+                out.write(']');
+            }
+            field(out, "fragmentation", result.getFragmentation());
+            out.write(",\"migrations\":");
+            out.write(Long.toString(result.getMigrationCount()));
+            out.write(",\"migrationPenalty\":");
+            out.write(Long.toString(result.getMigrationPenaltyTime()));
+        }
+
+        if (result.hasDetails()) {
+            out.write(",\"processes\":[");
+            List<ProcessReport> reports = result.buildProcessReports();
+            for (int i = 0; i < reports.size(); i++) {
+                ProcessReport report = reports.get(i);
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write("{\"id\":");
+                out.write(Integer.toString(report.getProcessId()));
+                out.write(",\"waiting\":");
+                out.write(Long.toString(report.getWaitingTime()));
+                out.write(",\"turnaround\":");
+                out.write(Long.toString(report.getTurnaroundTime()));
+                out.write(",\"response\":");
+                out.write(Long.toString(report.getResponseTime()));
+                out.write('}');
+            }
+            out.write(']');
+        }
+
+        out.write(",\"starvationNotices\":");
+        stringArray(out, result.getStarvationNotices());
+        if (includeSystemCalls) {
+            out.write(",\"systemCalls\":");
+            stringArray(out, result.getSystemCallLog());
+        }
+        out.write('}');
+    }
+
+    private static void field(Writer out, String name, double value) throws IOException {
+        out.write(",\"");
+        out.write(name);
+        out.write("\":");
+        out.write(number(value));
+    }
+
+    private static void distribution(Writer out, String name, DistributionSummary summary) throws IOException {
+        out.write(",\"");
+        out.write(name);
+        out.write("\":{\"mean\":");
+        out.write(number(summary.getMean()));
+        out.write(",\"p50\":");
+        out.write(number(summary.getP50()));
+        out.write(",\"p90\":");
+        out.write(number(summary.getP90()));
+        out.write(",\"p99\":");
+        out.write(number(summary.getP99()));
+        out.write(",\"max\":");
+        out.write(number(summary.getMax()));
+        out.write('}');
+    }
+
+    private static void stringArray(Writer out, List<String> values) throws IOException {
+        out.write('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(jsonString(values.get(i)));
+        }
+        out.write(']');
+    }
+
+    // JSON has no NaN or infinity, so non-finite values are written as null.
+    private static String number(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return "null";
+        }
+        return Double.toString(value);
+    }
+
+    private static String jsonString(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2);
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,115 @@
+package simulator.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the inputs of a run that depend on thread timing to a text log that {@link RunRecording} replays: the
+ * jobs in creation order, each loader admission with its ready time and degree of multiprogramming, and what the
+ * scheduler thread observed of them at each numbered step. Every kind of line is written by a single thread, so
+ * lines of one kind appear in the order they happened even though kinds interleave.
+ */
+public class RunRecorder implements AutoCloseable {
+    static final String HEADER = "# simulator run log v1";
+
+    private final Path file;
+    private final Writer out;
+    private IOException failure;
+
+    /**
+     * Creates {@code file}, and any missing parent directories, for a run of {@code schedulerName} with
+     * {@code memorySize} MB of memory.
+     */
+    public RunRecorder(Path file, String schedulerName, int memorySize) throws IOException {
+        this.file = file;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+        line(HEADER);
+        line("scheduler " + schedulerName);
+        line("memory " + memorySize);
+    }
+
+    /**
+     * Records a job created at {@code arrivalTime} that left {@code queueDepth} jobs on the job queue.
+     */
+    public synchronized void job(JobDefinition job, long arrivalTime, int queueDepth) {
+        line("job " + arrivalTime + ' ' + queueDepth + ' ' + job.format());
+    }
+
+    /**
+     * Records the loader placing a process on the ready queue.
+     */
+    public synchronized void admit(int pid, long readyTime, int degree) {
+        line("admit " + pid + ' ' + readyTime + ' ' + degree);
+    }
+
+    /**
+     * Records that the drain at {@code step} took {@code count} newly admitted processes; empty drains are not logged.
+     */
+    public synchronized void drain(long step, int count) {
+        line("drain " + step + ' ' + count);
+    }
+
+    /**
+     * Records that the blocking take at {@code step} returned a newly admitted process.
+     */
+    public synchronized void take(long step) {
+        line("take " + step);
+    }
+
+    /**
+     * Records the degree of multiprogramming the scheduler read at {@code step}.
+     */
+    public synchronized void degree(long step, int degree) {
+        line("degree " + step + ' ' + degree);
+    }
+
+    /**
+     * Records the outcome of admission control once the run has finished; a replay never consults the controller,
+     * so it reports these instead.
+     */
+    public synchronized void admission(String policy, int heldJobs, int finalLimit) {
+        line("admission " + policy + ' ' + heldJobs + ' ' + finalLimit);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Flushes the log and reports the first write failure.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            out.close();
+        } catch (IOException ex) {
+            if (failure == null) {
+                failure = ex;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void line(String text) {
+        // A failed write is reported once at close, so the threads being recorded never see an exception.
+        if (failure != null) {
+            return;
+        }
+        try {
+            out.write(text);
+            out.write('\n');
+        } catch (IOException ex) {
+            failure = ex;
+        }
+    }
+}
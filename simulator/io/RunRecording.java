@@ -0,0 +1,290 @@
+package simulator.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A run log written by {@link RunRecorder}, loaded for replay. Besides the recorded jobs it keeps a cursor over
+ * the admissions and scheduler observations, so one instance drives exactly one replayed run. Whenever the replay
+ * asks for something the log does not hold at that step, the replayed scheduler has diverged from the recorded
+ * one and an {@link IllegalStateException} is thrown.
+ */
+public class RunRecording {
+    /**
+     * One loader admission: the process, the simulated time it became ready, and the degree of multiprogramming.
+     */
+    public static final class Admission {
+        private final int pid;
+        private final long readyTime;
+        private final int degree;
+
+        Admission(int pid, long readyTime, int degree) {
+            this.pid = pid;
+            this.readyTime = readyTime;
+            this.degree = degree;
+        }
+
+        public int getPid() {
+            return pid;
+        }
+
+        public long getReadyTime() {
+            return readyTime;
+        }
+
+        public int getDegree() {
+            return degree;
+        }
+    }
+
+    private final Path file;
+    private final String schedulerName;
+    private final int memorySize;
+    private final List<JobDefinition> jobs;
+    private final long[] arrivalTimes;
+    private final int[] queueDepths;
+    private final List<Admission> admissions;
+    private final long[] drainSteps;
+    private final int[] drainCounts;
+    private final long[] takeSteps;
+    private final long[] degreeSteps;
+    private final int[] degrees;
+    private final String admissionPolicy;
+    private final int admissionHolds;
+    private final int admissionLimit;
+
+    private int nextAdmission;
+    private int nextDrain;
+    private int nextTake;
+    private int nextDegree;
+
+    private RunRecording(Path file,
+                         String schedulerName,
+                         int memorySize,
+                         List<JobDefinition> jobs,
+                         long[] arrivalTimes,
+                         int[] queueDepths,
+                         List<Admission> admissions,
+                         long[] drainSteps,
+                         int[] drainCounts,
+                         long[] takeSteps,
+                         long[] degreeSteps,
+                         int[] degrees,
+                         String admissionPolicy,
+                         int admissionHolds,
+                         int admissionLimit) {
+        this.file = file;
+        this.schedulerName = schedulerName;
+        this.memorySize = memorySize;
+        this.jobs = Collections.unmodifiableList(jobs);
+        this.arrivalTimes = arrivalTimes;
+        this.queueDepths = queueDepths;
+        this.admissions = admissions;
+        this.drainSteps = drainSteps;
+        this.drainCounts = drainCounts;
+        this.takeSteps = takeSteps;
+        this.degreeSteps = degreeSteps;
+        this.degrees = degrees;
+        this.admissionPolicy = admissionPolicy;
+        this.admissionHolds = admissionHolds;
+        this.admissionLimit = admissionLimit;
+    }
+
+    /**
+     * Parses a run log, rejecting unknown or malformed lines with the line number.
+     */
+    public static RunRecording load(Path file) throws IOException {
+        String schedulerName = null;
+        int memorySize = -1;
+        List<JobDefinition> jobs = new ArrayList<>();
+        List<Long> arrivalTimes = new ArrayList<>();
+        List<Integer> queueDepths = new ArrayList<>();
+        List<Admission> admissions = new ArrayList<>();
+        List<long[]> drains = new ArrayList<>();
+        List<Long> takes = new ArrayList<>();
+        List<long[]> degrees = new ArrayList<>();
+        String admissionPolicy = AdmissionPolicy.NONE.format();
+        int admissionHolds = 0;
+        int admissionLimit = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    String[] fields = line.split(" ", 4);
+                    switch (fields[0]) {
+                        case "scheduler":
+                            schedulerName = line.substring("scheduler ".length());
+                            break;
+                        case "memory":
+                            memorySize = Integer.parseInt(fields[1]);
+                            break;
+                        case "job":
+                            arrivalTimes.add(Long.parseLong(fields[1]));
+                            queueDepths.add(Integer.parseInt(fields[2]));
+                            jobs.add(JobDefinition.parse(fields[3]));
+                            break;
+                        case "admit":
+                            admissions.add(new Admission(Integer.parseInt(fields[1]), Long.parseLong(fields[2]),
+                                    Integer.parseInt(fields[3])));
+                            break;
+                        case "drain":
+                            drains.add(new long[] {Long.parseLong(fields[1]), Integer.parseInt(fields[2])});
+                            break;
+                        case "take":
+                            takes.add(Long.parseLong(fields[1]));
+                            break;
+                        case "degree":
+                            degrees.add(new long[] {Long.parseLong(fields[1]), Integer.parseInt(fields[2])});
+                            break;
+                        case "admission":
+                            admissionPolicy = AdmissionPolicy.parse(fields[1]).format();
+                            admissionHolds = Integer.parseInt(fields[2]);
+                            admissionLimit = Integer.parseInt(fields[3]);
+                            break;
+                        default:
+                            throw new IllegalArgumentException("unknown record '" + fields[0] + "'");
+                    }
+                } catch (RuntimeException ex) {
+                    throw new IOException("Invalid run log " + file + " line " + number + ": " + ex.getMessage(), ex);
+                }
+            }
+        }
+        if (schedulerName == null || memorySize <= 0) {
+            throw new IOException(file + " is not a simulator run log");
+        }
+        long[] drainSteps = new long[drains.size()];
+        int[] drainCounts = new int[drains.size()];
+        for (int i = 0; i < drainSteps.length; i++) {
+            drainSteps[i] = drains.get(i)[0];
+            drainCounts[i] = (int) drains.get(i)[1];
+        }
+        long[] degreeSteps = new long[degrees.size()];
+        int[] degreeValues = new int[degrees.size()];
+        for (int i = 0; i < degreeSteps.length; i++) {
+            degreeSteps[i] = degrees.get(i)[0];
+            degreeValues[i] = (int) degrees.get(i)[1];
+        }
+        return new RunRecording(file, schedulerName, memorySize, jobs,
+                arrivalTimes.stream().mapToLong(Long::longValue).toArray(),
+                queueDepths.stream().mapToInt(Integer::intValue).toArray(),
+                admissions, drainSteps, drainCounts,
+                takes.stream().mapToLong(Long::longValue).toArray(),
+                degreeSteps, degreeValues, admissionPolicy, admissionHolds, admissionLimit);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String getSchedulerName() {
+        return schedulerName;
+    }
+
+    public int getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * Returns the admission policy of the recorded run, formatted as {@link AdmissionPolicy#format}.
+     */
+    public String getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    /**
+     * Returns how many jobs admission control held back during the recorded run.
+     */
+    public int getAdmissionHolds() {
+        return admissionHolds;
+    }
+
+    /**
+     * Returns the admission limit in force when the recorded run finished.
+     */
+    public int getAdmissionLimit() {
+        return admissionLimit;
+    }
+
+    /**
+     * Returns the recorded jobs in creation order.
+     */
+    public List<JobDefinition> getJobs() {
+        return jobs;
+    }
+
+    public long getArrivalTime(int job) {
+        return arrivalTimes[job];
+    }
+
+    /**
+     * Returns the job queue depth reported when the job was enqueued.
+     */
+    public int getQueueDepth(int job) {
+        return queueDepths[job];
+    }
+
+    /**
+     * Returns the next admission in loader order.
+     */
+    public Admission nextAdmission() {
+        if (nextAdmission == admissions.size()) {
+            throw diverged("the scheduler took more processes than were admitted");
+        }
+        return admissions.get(nextAdmission++);
+    }
+
+    /**
+     * Returns how many admitted processes the drain at {@code step} took, or zero if it found none.
+     */
+    public int drainCount(long step) {
+        if (nextDrain < drainSteps.length && drainSteps[nextDrain] < step) {
+            throw diverged("no drain was made at step " + drainSteps[nextDrain]);
+        }
+        if (nextDrain < drainSteps.length && drainSteps[nextDrain] == step) {
+            return drainCounts[nextDrain++];
+        }
+        return 0;
+    }
+
+    /**
+     * Reports whether the blocking take at {@code step} returned a process.
+     */
+    public boolean take(long step) {
+        if (nextTake < takeSteps.length && takeSteps[nextTake] < step) {
+            throw diverged("no blocking take was made at step " + takeSteps[nextTake]);
+        }
+        if (nextTake < takeSteps.length && takeSteps[nextTake] == step) {
+            nextTake++;
+            return true;
+        }
+        if (nextDrain == drainSteps.length && nextTake == takeSteps.length && nextAdmission < admissions.size()) {
+            throw diverged((admissions.size() - nextAdmission) + " admitted processes were never handed to the scheduler");
+        }
+        return false;
+    }
+
+    /**
+     * Returns the degree of multiprogramming the scheduler read at {@code step}.
+     */
+    public int degree(long step) {
+        if (nextDegree == degreeSteps.length || degreeSteps[nextDegree] != step) {
+            throw diverged("the degree of multiprogramming was not read at step " + step);
+        }
+        return degrees[nextDegree++];
+    }
+
+    private IllegalStateException diverged(String detail) {
+        return new IllegalStateException("Replay of " + file + " diverged from the recorded run: " + detail);
+    }
+}
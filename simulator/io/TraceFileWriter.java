@@ -0,0 +1,229 @@
+package simulator.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import simulator.core.SystemCallHandler;
+
+/**
+ * Background thread that streams system call records to rotating trace files on disk.
+ * Callers only copy primitives into a pooled buffer; formatting and file I/O happen on this thread.
+ */
+public class TraceFileWriter extends Thread implements SystemCallHandler.TraceSink {
+    public static final long DEFAULT_MAX_FILE_BYTES = 64L * 1024 * 1024;
+
+    private static final int RECORD_BYTES = 1 + 4 + 8 + 8 + 4 + 8;
+    private static final int RECORDS_PER_BATCH = 4096;
+    private static final int POOL_SIZE = 4;
+    private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+    // How often a producer waiting for a free batch checks whether the writer has failed.
+    private static final long HAND_OFF_POLL_MILLIS = 50;
+
+    private final Path directory;
+    private final String fileStem;
+    private final SystemCallHandler formatter;
+    private final long maxFileBytes;
+    private final boolean compressRotated;
+
+    private final BlockingQueue<ByteBuffer> freeBuffers = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final BlockingQueue<ByteBuffer> fullBuffers = new ArrayBlockingQueue<>(POOL_SIZE + 1);
+    private ByteBuffer current;
+
+    private FileChannel channel;
+    private int fileIndex;
+    private long fileBytes;
+    private volatile IOException failure;
+
+    public TraceFileWriter(Path directory,
+                           String fileStem,
+                           SystemCallHandler formatter,
+                           long maxFileBytes,
+                           boolean compressRotated) {
+        super("trace-writer");
+        if (maxFileBytes <= 0) {
+            throw new IllegalArgumentException("Maximum trace file size must be positive");
+        }
+        this.directory = directory;
+        this.fileStem = fileStem;
+        this.formatter = formatter;
+        this.maxFileBytes = maxFileBytes;
+        this.compressRotated = compressRotated;
+        setDaemon(true);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            freeBuffers.add(ByteBuffer.allocate(RECORD_BYTES * RECORDS_PER_BATCH));
+        }
+        this.current = freeBuffers.poll();
+    }
+
+    /**
+     * Copies a record into the current batch, handing the batch to the writer thread once it is full.
+     */
+    @Override
+    public synchronized void accept(SystemCallHandler.Opcode opcode, int pid, long simTime, long arg0, int arg1, long nanos) {
+        current.put((byte) opcode.ordinal())
+                .putInt(pid)
+                .putLong(simTime)
+                .putLong(arg0)
+                .putInt(arg1)
+                .putLong(nanos);
+        if (current.remaining() < RECORD_BYTES) {
+            handOff();
+        }
+    }
+
+    private void handOff() {
+        checkFailure();
+        try {
+            // Never blocks: the queue has room for every pooled batch plus the end-of-stream marker.
+            fullBuffers.put(current);
+            // Waits only when the writer falls a whole pool behind, applying backpressure instead of allocating.
+            ByteBuffer next;
+            while ((next = freeBuffers.poll(HAND_OFF_POLL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                checkFailure();
+                if (!isAlive()) {
+                    throw new IllegalStateException("Trace writer stopped");
+                }
+            }
+            current = next;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while handing off trace records", ex);
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new IllegalStateException("Failed to write trace files to " + directory, failure);
+        }
+    }
+
+    /**
+     * Flushes pending records, waits for the writer to drain, and closes the active file.
+     */
+    public void close() throws IOException, InterruptedException {
+        synchronized (this) {
+            if (failure == null && isAlive() && current.position() > 0) {
+                handOff();
+            }
+            fullBuffers.put(END_OF_STREAM);
+        }
+        join();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            Files.createDirectories(directory);
+            openNextFile();
+        } catch (IOException ex) {
+            failure = ex;
+        }
+        StringBuilder text = new StringBuilder();
+        try {
+            while (true) {
+                ByteBuffer batch = fullBuffers.take();
+                if (batch == END_OF_STREAM) {
+                    break;
+                }
+                // After a failure batches are still recycled, so a producer sees the failure at its next hand-off.
+                if (failure == null) {
+                    writeBatch(batch, text);
+                }
+                batch.clear();
+                freeBuffers.put(batch);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            failure = new IOException("Trace writer failed", ex);
+        } finally {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException ex) {
+                if (failure == null) {
+                    failure = ex;
+                }
+            }
+        }
+    }
+
+    private void writeBatch(ByteBuffer batch, StringBuilder text) {
+        batch.flip();
+        text.setLength(0);
+        while (batch.remaining() >= RECORD_BYTES) {
+            SystemCallHandler.Opcode opcode = SystemCallHandler.Opcode.fromOrdinal(batch.get());
+            int pid = batch.getInt();
+            long simTime = batch.getLong();
+            long arg0 = batch.getLong();
+            int arg1 = batch.getInt();
+            long nanos = batch.getLong();
+            text.append(formatter.formatRecord(opcode, pid, simTime, arg0, arg1, nanos))
+                    .append(System.lineSeparator());
+        }
+        try {
+            write(ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException ex) {
+            failure = ex;
+        }
+    }
+
+    private void write(ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            fileBytes += channel.write(data);
+        }
+        if (fileBytes >= maxFileBytes) {
+            rotate();
+        }
+    }
+
+    private void rotate() throws IOException {
+        channel.close();
+        Path finished = currentFile();
+        if (compressRotated) {
+            compress(finished);
+        }
+        fileIndex++;
+        openNextFile();
+    }
+
+    private void openNextFile() throws IOException {
+        channel = FileChannel.open(currentFile(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        fileBytes = 0;
+    }
+
+    private Path currentFile() {
+        return directory.resolve(fileStem + "." + fileIndex + ".log");
+    }
+
+    private void compress(Path file) throws IOException {
+        Path target = file.resolveSibling(file.getFileName() + ".gz");
+        try (InputStream in = Files.newInputStream(file);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(target))) {
+            in.transferTo(out);
+        }
+        Files.delete(file);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+}
@@ -0,0 +1,57 @@
+package simulator.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A job file parsed once into memory, so many simulations can replay it without touching the disk.
+ */
+public class Workload {
+    private final List<JobDefinition> jobs;
+
+    public Workload(List<JobDefinition> jobs) {
+        this.jobs = Collections.unmodifiableList(new ArrayList<>(jobs));
+    }
+
+    /**
+     * Parses every non-blank, non-comment line of a job file.
+     */
+    public static Workload load(Path jobFile) throws IOException {
+        List<JobDefinition> jobs = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(jobFile)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                jobs.add(JobDefinition.parse(line));
+            }
+        }
+        return new Workload(jobs);
+    }
+
+    public List<JobDefinition> getJobs() {
+        return jobs;
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    /**
+     * Returns the largest memory requirement of any job, the minimum memory size that can run the workload.
+     */
+    public int getMaxMemoryRequired() {
+        int max = 0;
+        for (JobDefinition job : jobs) {
+            max = Math.max(max, job.getMemoryRequired());
+        }
+        return max;
+    }
+}
@@ -0,0 +1,81 @@
+package simulator.io;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Produces seeded synthetic workloads, so independent replications of an experiment can be drawn on demand.
+ */
+public class WorkloadGenerator {
+    /**
+     * Shapes of the CPU burst distribution used for generated jobs.
+     */
+    public enum Distribution {
+        UNIFORM,
+        EXPONENTIAL,
+        BIMODAL;
+
+        public static Distribution parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final int MAX_PRIORITY = 10;
+
+    private final int jobCount;
+    private final Distribution distribution;
+    private final int maxMemoryPerJob;
+
+    /**
+     * Creates a generator of {@code jobCount} jobs whose memory requirements lie in {@code 1..maxMemoryPerJob} MB.
+     */
+    public WorkloadGenerator(int jobCount, Distribution distribution, int maxMemoryPerJob) {
+        if (jobCount <= 0) {
+            throw new IllegalArgumentException("Job count must be positive");
+        }
+        if (maxMemoryPerJob <= 0) {
+            throw new IllegalArgumentException("Memory per job must be positive");
+        }
+        this.jobCount = jobCount;
+        this.distribution = distribution;
+        this.maxMemoryPerJob = maxMemoryPerJob;
+    }
+
+    /**
+     * Draws one workload; the same seed always yields the same jobs.
+     */
+    public Workload generate(long seed) {
+        Random random = new Random(seed);
+        List<JobDefinition> jobs = new ArrayList<>(jobCount);
+        for (int i = 0; i < jobCount; i++) {
+            int burst = burst(random);
+            int priority = 1 + random.nextInt(MAX_PRIORITY);
+            int memory = 1 + random.nextInt(maxMemoryPerJob);
+            jobs.add(new JobDefinition(i + 1, new int[] {burst}, new int[0], new int[0], priority, memory));
+        }
+        return new Workload(jobs);
+    }
+
+    private int burst(Random random) {
+        switch (distribution) {
+            case UNIFORM:
+                return 1 + random.nextInt(50);
+            case EXPONENTIAL:
+                return 1 + (int) (-Math.log(1.0 - random.nextDouble()) * 20.0);
+            case BIMODAL:
+                return random.nextInt(10) < 8 ? 1 + random.nextInt(10) : 80 + random.nextInt(40);
+            default:
+                throw new IllegalArgumentException("Unknown distribution " + distribution);
+        }
+    }
+
+    public int getJobCount() {
+        return jobCount;
+    }
+
+    public Distribution getDistribution() {
+        return distribution;
+    }
+}
@@ -1,8 +1,12 @@
 package simulator.memory;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import simulator.core.LatencyHistogram;
 import simulator.core.ProcessControlBlock;
 import simulator.core.SystemCallHandler;
 
@@ -12,25 +16,92 @@ import simulator.core.SystemCallHandler;
 public class MemoryManager {
     private final int totalMemory;
     private final SystemCallHandler systemCalls;
+    private final LatencyHistogram allocationWait;
 
     private final Map<Integer, Integer> allocationByPid = new HashMap<>();
-    private int usedMemory;
+    // Written only under the monitor; volatile so that monitoring reads never contend with the loader.
+    private volatile int usedMemory;
+    private volatile int allocatedCount;
+    private volatile int blockedRequest;
+    private Runnable stallListener;
 
     public MemoryManager(int totalMemory, SystemCallHandler systemCalls) {
+        this(totalMemory, systemCalls, new LatencyHistogram("Memory allocation wait"));
+    }
+
+    public MemoryManager(int totalMemory, SystemCallHandler systemCalls, LatencyHistogram allocationWait) {
         this.totalMemory = totalMemory;
         this.systemCalls = systemCalls;
+        this.allocationWait = allocationWait;
     }
 
     /**
      * Blocks until sufficient memory is available for the process.
      */
-    public synchronized void allocateBlocking(ProcessControlBlock pcb) throws InterruptedException {
+    public void allocateBlocking(ProcessControlBlock pcb) throws InterruptedException {
+        long start = System.nanoTime();
+        // The timer starts before the monitor so that lock contention counts toward the wait.
+        synchronized (this) {
+            int requested = pcb.getMemoryRequired();
+            waitForFree(requested);
+            commit(pcb, requested);
+        }
+        allocationWait.recordSince(start);
+    }
+
+    /**
+     * Blocks until {@code requested} MB are free without allocating them. A loader choosing among several jobs
+     * waits here for the smallest of them; the wait counts as a stalled allocation.
+     */
+    public synchronized void awaitFree(int requested) throws InterruptedException {
+        waitForFree(requested);
+    }
+
+    /**
+     * Returns how much memory is not allocated.
+     */
+    public int getFreeMemory() {
+        return totalMemory - usedMemory;
+    }
+
+    private void waitForFree(int requested) throws InterruptedException {
+        blockedRequest = requested;
+        try {
+            if (stallListener != null && usedMemory + requested > totalMemory) {
+                stallListener.run();
+            }
+            while (usedMemory + requested > totalMemory) {
+                wait();
+            }
+        } finally {
+            blockedRequest = 0;
+        }
+    }
+
+    /**
+     * Runs {@code listener} each time an allocation starts waiting for memory, so a thread waiting for the loader
+     * to stall can block instead of polling {@link #isAllocationStalled}; set before the loader starts.
+     */
+    public void setStallListener(Runnable listener) {
+        this.stallListener = listener;
+    }
+
+    /**
+     * Allocates memory for the process only if it fits right now; returns false without waiting otherwise.
+     */
+    public synchronized boolean tryAllocate(ProcessControlBlock pcb) {
         int requested = pcb.getMemoryRequired();
-        while (usedMemory + requested > totalMemory) {
-            wait();
+        if (usedMemory + requested > totalMemory) {
+            return false;
         }
+        commit(pcb, requested);
+        return true;
+    }
+
+    private void commit(ProcessControlBlock pcb, int requested) {
         usedMemory += requested;
         allocationByPid.put(pcb.getId(), requested);
+        allocatedCount = allocationByPid.size();
         systemCalls.allocateMemory(pcb, usedMemory, totalMemory);
     }
 
@@ -40,16 +111,56 @@ public class MemoryManager {
     public synchronized void release(ProcessControlBlock pcb) {
         Integer allocated = allocationByPid.remove(pcb.getId());
         if (allocated != null) {
-            usedMemory -= allocated;
-            if (usedMemory < 0) {
-                usedMemory = 0;
-            }
+            usedMemory = Math.max(0, usedMemory - allocated);
+            allocatedCount = allocationByPid.size();
             systemCalls.releaseMemory(pcb, usedMemory, totalMemory);
             notifyAll();
         }
     }
 
-    public synchronized int getUsedMemory() {
+    /**
+     * Reports whether an allocation is waiting for memory that has not yet been released, so the caller
+     * cannot make progress until another process terminates. Reads without the monitor: only the scheduler
+     * thread releases memory, so when it asks, a stalled request cannot become satisfiable between the two reads.
+     */
+    public boolean isAllocationStalled() {
+        int requested = blockedRequest;
+        return requested > 0 && usedMemory + requested > totalMemory;
+    }
+
+    /**
+     * Writes the current allocations as process id and size pairs.
+     */
+    public synchronized void writeCheckpoint(DataOutput out) throws IOException {
+        out.writeInt(allocationByPid.size());
+        for (Map.Entry<Integer, Integer> entry : allocationByPid.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    /**
+     * Replaces the allocations with those saved by {@link #writeCheckpoint}, without logging them again.
+     */
+    public synchronized void restoreCheckpoint(DataInput in) throws IOException {
+        allocationByPid.clear();
+        int used = 0;
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int pid = in.readInt();
+            int size = in.readInt();
+            allocationByPid.put(pid, size);
+            used += size;
+        }
+        if (used > totalMemory) {
+            throw new IOException("Checkpoint allocates " + used + "MB but only " + totalMemory + "MB is available");
+        }
+        usedMemory = used;
+        allocatedCount = allocationByPid.size();
+        notifyAll();
+    }
+
+    public int getUsedMemory() {
         return usedMemory;
     }
 
@@ -57,7 +168,7 @@ public class MemoryManager {
         return totalMemory;
     }
 
-    public synchronized int getAllocatedProcessCount() {
-        return allocationByPid.size();
+    public int getAllocatedProcessCount() {
+        return allocatedCount;
     }
 }
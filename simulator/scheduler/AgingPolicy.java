@@ -0,0 +1,150 @@
+package simulator.scheduler;
+
+import java.util.Locale;
+
+/**
+ * How {@link PriorityScheduler} raises the priority of waiting processes. A policy maps timestamps to a boost above
+ * the base priority in O(1), so aging never needs a per-tick pass; the scheduler only raises a process to the boost
+ * its current wait earns, and lowers it when a burst ends.
+ */
+public interface AgingPolicy {
+    /**
+     * Returns the boost earned by waiting {@code waited} units since the process last became ready. A process
+     * keeps a higher boost it already holds.
+     */
+    int boostAfterWaiting(long waited, int agingInterval);
+
+    /**
+     * Returns the shortest wait that earns more than {@code boost}, or {@link Long#MAX_VALUE} if no wait does, so
+     * the scheduler can tell when a waiting process next needs its priority raised. The default searches
+     * {@link #boostAfterWaiting}, which must not decrease as the wait grows.
+     */
+    default long waitToExceed(int boost, int agingInterval) {
+        if (boostAfterWaiting(0, agingInterval) > boost) {
+            return 0;
+        }
+        long low = 0;
+        long high = agingInterval;
+        while (boostAfterWaiting(high, agingInterval) <= boost) {
+            if (high > Long.MAX_VALUE / 2) {
+                return Long.MAX_VALUE;
+            }
+            low = high;
+            high *= 2;
+        }
+        // The boost at low is at most boost and the boost at high exceeds it.
+        while (high - low > 1) {
+            long middle = low + (high - low) / 2;
+            if (boostAfterWaiting(middle, agingInterval) > boost) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Returns the boost a process holding {@code boost} keeps after running a burst of {@code ran} units; at most
+     * {@code boost}.
+     */
+    int boostAfterRunning(int boost, long ran, int agingInterval);
+
+    /**
+     * Short lowercase name shown in scheduler names and reports.
+     */
+    String getLabel();
+
+    /**
+     * The built-in policies.
+     */
+    enum Standard implements AgingPolicy {
+        /**
+         * One level per aging interval waited; boosts are kept after running.
+         */
+        LINEAR {
+            @Override
+            public int boostAfterWaiting(long waited, int agingInterval) {
+                return (int) Math.min(Integer.MAX_VALUE, waited / agingInterval);
+            }
+
+            @Override
+            public long waitToExceed(int boost, int agingInterval) {
+                return boost == Integer.MAX_VALUE ? Long.MAX_VALUE : (boost + 1L) * agingInterval;
+            }
+        },
+        /**
+         * The boost doubles, plus one, every aging interval waited: 1, 3, 7, 15, and so on. Boosts are kept after
+         * running.
+         */
+        EXPONENTIAL {
+            @Override
+            public int boostAfterWaiting(long waited, int agingInterval) {
+                long intervals = waited / agingInterval;
+                return intervals >= Integer.SIZE - 1 ? Integer.MAX_VALUE : (1 << intervals) - 1;
+            }
+
+            @Override
+            public long waitToExceed(int boost, int agingInterval) {
+                // The boost after k intervals is 2^k - 1, which first exceeds boost at k = bit length of boost + 1.
+                return boost == Integer.MAX_VALUE
+                        ? Long.MAX_VALUE
+                        : (long) (Integer.SIZE - Integer.numberOfLeadingZeros(boost + 1)) * agingInterval;
+            }
+        },
+        /**
+         * Linear while waiting; a dispatched process returns to its base priority, so each wait earns its own boost.
+         */
+        RESET_ON_DISPATCH {
+            @Override
+            public int boostAfterWaiting(long waited, int agingInterval) {
+                return LINEAR.boostAfterWaiting(waited, agingInterval);
+            }
+
+            @Override
+            public long waitToExceed(int boost, int agingInterval) {
+                return LINEAR.waitToExceed(boost, agingInterval);
+            }
+
+            @Override
+            public int boostAfterRunning(int boost, long ran, int agingInterval) {
+                return 0;
+            }
+        },
+        /**
+         * Linear while waiting; the boost halves for every aging interval spent running, decaying back to the base
+         * priority for CPU-heavy processes while short bursts keep most of it.
+         */
+        DECAY {
+            @Override
+            public int boostAfterWaiting(long waited, int agingInterval) {
+                return LINEAR.boostAfterWaiting(waited, agingInterval);
+            }
+
+            @Override
+            public long waitToExceed(int boost, int agingInterval) {
+                return LINEAR.waitToExceed(boost, agingInterval);
+            }
+
+            @Override
+            public int boostAfterRunning(int boost, long ran, int agingInterval) {
+                long halvings = ran / agingInterval;
+                return halvings >= Integer.SIZE - 1 ? 0 : boost >> halvings;
+            }
+        };
+
+        public static Standard parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+
+        @Override
+        public int boostAfterRunning(int boost, long ran, int agingInterval) {
+            return boost;
+        }
+
+        @Override
+        public String getLabel() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package simulator.scheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import simulator.app.SimulationContext;
+import simulator.core.CpuMask;
+import simulator.core.CpuTopology;
+import simulator.core.LatencyHistogram;
+import simulator.core.MetricsAccumulator;
+import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
+import simulator.core.SchedulingResult;
+import simulator.core.SimulationClock;
+import simulator.core.SystemCallHandler;
+import simulator.memory.MemoryManager;
+
+/**
+ * Round-robin gang scheduler over several simulated CPUs. All threads of a job are dispatched together, each on
+ * its own CPU within the job's affinity mask, and run the job's current burst in lockstep for at most one quantum.
+ * Gangs are placed in queue order; a gang that does not fit reserves the CPUs it may use, so later gangs only
+ * backfill the others and a wide gang is never starved by narrow ones. A gang placed on other CPUs than last time
+ * first pays a migration penalty on each CPU, modelling a cold cache.
+ * <p>
+ * CPUs may run at different speeds. A gang advances at the speed of its slowest CPU, so a quantum of {@code q}
+ * time units completes {@code q * speed} units of its burst, and the {@link Placement} policy decides whether
+ * gangs are steered to the fast CPUs.
+ */
+public class GangScheduler implements Scheduler {
+    public static final int DEFAULT_CPU_COUNT = 4;
+    public static final int DEFAULT_MIGRATION_PENALTY = 1;
+
+    /**
+     * How a gang's CPUs are picked among the free ones it may use.
+     */
+    public enum Placement {
+        /**
+         * Lowest-numbered CPUs, ignoring speed.
+         */
+        OBLIVIOUS,
+        /**
+         * Fastest CPUs for each gang in queue order.
+         */
+        FASTEST_FIRST,
+        /**
+         * Among the gangs placed at one decision point, the fastest CPUs go to the gang with the least work left.
+         */
+        SHORTEST_TO_FASTEST;
+
+        public static Placement parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+
+        public String getLabel() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private final CpuTopology topology;
+    private final int timeQuantum;
+    private final int migrationPenalty;
+    private final Placement placement;
+
+    public GangScheduler() {
+        this(DEFAULT_CPU_COUNT, RoundRobinScheduler.DEFAULT_TIME_QUANTUM, DEFAULT_MIGRATION_PENALTY);
+    }
+
+    public GangScheduler(int cpuCount, int timeQuantum, int migrationPenalty) {
+        this(CpuTopology.uniform(cpuCount), timeQuantum, migrationPenalty, Placement.OBLIVIOUS);
+    }
+
+    public GangScheduler(CpuTopology topology, int timeQuantum, int migrationPenalty, Placement placement) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive");
+        }
+        if (migrationPenalty < 0) {
+            throw new IllegalArgumentException("Migration penalty must not be negative");
+        }
+        this.topology = topology;
+        this.timeQuantum = timeQuantum;
+        this.migrationPenalty = migrationPenalty;
+        this.placement = placement;
+    }
+
+    @Override
+    public int getCpuCount() {
+        return topology.getCpuCount();
+    }
+
+    public CpuTopology getTopology() {
+        return topology;
+    }
+
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
+
+    public int getMigrationPenalty() {
+        return migrationPenalty;
+    }
+
+    @Override
+    public String getName() {
+        String cpus = topology.isHeterogeneous() ? topology.format() : Integer.toString(topology.getCpuCount());
+        return "Gang Scheduling (cpus=" + cpus + ", q=" + timeQuantum
+                + (placement == Placement.OBLIVIOUS ? "" : ", " + placement.getLabel()) + ")";
+    }
+
+    @Override
+    public SchedulingResult run(SimulationContext context) throws InterruptedException {
+        if (context.isLive()) {
+            throw new IllegalStateException("Gang scheduling runs on simulated CPUs only and does not support live mode");
+        }
+        ProcessTable table = context.getProcessTable();
+        int cpuCount = topology.getCpuCount();
+        long allCpus = CpuMask.first(cpuCount);
+        SlotList waiting = new SlotList();
+        for (int slot : context.getRestoredReadySlots()) {
+            waiting.add(slot);
+        }
+        MetricsAccumulator metrics = context.createMetricsAccumulator();
+        if (metrics.getCpuCount() != cpuCount) {
+            metrics.setCpuTopology(topology);
+        }
+
+        SimulationClock clock = context.getClock();
+        SystemCallHandler sys = context.getSystemCalls();
+        MemoryManager memory = context.getMemoryManager();
+        LatencyHistogram decisionTime = context.getLatencies().getDispatchDecision();
+
+        // Gangs on the CPUs, in dispatch order; at most one per CPU.
+        SlotList running = new SlotList();
+        long[] runningEnd = new long[cpuCount];
+        long[] runningMask = new long[cpuCount];
+        long free = allCpus;
+
+        List<ProcessControlBlock> buffer = new ArrayList<>();
+
+        while (!context.canTerminate(metrics.getCompletedCount()) || !waiting.isEmpty() || !running.isEmpty()) {
+            long now = clock.getTime();
+            for (int i = 0; i < running.size(); ) {
+                if (runningEnd[i] > now) {
+                    i++;
+                    continue;
+                }
+                ProcessControlBlock current = table.view(running.removeAt(i));
+                free |= runningMask[i];
+                System.arraycopy(runningEnd, i + 1, runningEnd, i, running.size() - i);
+                System.arraycopy(runningMask, i + 1, runningMask, i, running.size() - i);
+                if (current.getRemainingTime() > 0) {
+                    sys.yield(current, now, current.getRemainingTime());
+                    current.markRequeued(now, context.getDegreeOfMultiprogramming());
+                    waiting.add(current.getSlot());
+                } else if (current.hasPendingIo()) {
+                    context.blockForIo(current);
+                } else {
+                    current.markCompleted(now);
+                    sys.complete(current, now);
+                    memory.release(current);
+                    metrics.recordCompletion(current);
+                }
+            }
+
+            buffer.clear();
+            context.drainReadyQueue(buffer);
+            context.collectIoCompletions(buffer);
+            for (ProcessControlBlock pcb : buffer) {
+                waiting.add(admit(context, pcb, allCpus));
+            }
+            // Only a checkpoint with every CPU idle captures the whole ready set.
+            if (running.isEmpty() && context.isCheckpointDue()) {
+                context.checkpoint(waiting.toArray());
+            }
+
+            long reserved = 0;
+            long decisionStart = System.nanoTime();
+            int placed = running.size();
+            for (int i = 0; i < waiting.size(); ) {
+                int slot = waiting.get(i);
+                long affinity = table.getAffinityMask(slot);
+                long allowed = free & affinity & ~reserved;
+                long previous = table.getLastCpuMask(slot);
+                int threads = table.getThreadCount(slot);
+                long cpus = placement == Placement.OBLIVIOUS
+                        ? CpuMask.choose(allowed, previous, threads)
+                        : topology.fastest(allowed, previous, threads);
+                if (cpus == 0) {
+                    reserved |= affinity & allCpus;
+                    i++;
+                    continue;
+                }
+                waiting.removeAt(i);
+                runningMask[running.size()] = cpus;
+                running.add(slot);
+                free &= ~cpus;
+            }
+            if (placement == Placement.SHORTEST_TO_FASTEST) {
+                reassignByRemainingWork(table, running, runningMask, placed);
+            }
+            for (int i = placed; i < running.size(); i++) {
+                int slot = running.get(i);
+                long cpus = runningMask[i];
+                long previous = table.getLastCpuMask(slot);
+                ProcessControlBlock current = table.view(slot);
+                decisionTime.recordSince(decisionStart);
+                current.markDispatched(now);
+                sys.dispatch(current, now, cpus);
+
+                int penalty = previous != 0 && previous != cpus ? migrationPenalty : 0;
+                if (penalty > 0) {
+                    metrics.recordMigration((long) penalty * Long.bitCount(cpus));
+                }
+                // The gang moves in lockstep, so its slowest CPU sets how much of the burst a quantum covers.
+                double speed = topology.slowest(cpus);
+                int executed = current.consumeCpu(Math.max(1, (int) (timeQuantum * speed)));
+                long end = now + penalty + (long) Math.ceil(executed / speed - 1e-9);
+                for (long mask = cpus; mask != 0; mask &= mask - 1) {
+                    metrics.recordSlice(Long.numberOfTrailingZeros(mask), current.getId(), now, end);
+                }
+                table.setLastCpuMask(slot, cpus);
+                runningEnd[i] = end;
+                decisionStart = System.nanoTime();
+            }
+
+            if (running.isEmpty()) {
+                if (context.hasPendingIo()) {
+                    context.idleUntilNextIoCompletion();
+                    continue;
+                }
+                ProcessControlBlock next = context.takeNextReady(100);
+                if (next != null) {
+                    waiting.add(admit(context, next, allCpus));
+                } else if (context.canTerminate(metrics.getCompletedCount())) {
+                    break;
+                }
+                continue;
+            }
+
+            // Stop at the next arrival too, so a job reaching a cluster node can take CPUs left free until then.
+            long next = Math.min(context.getNextIoCompletionTime(), context.getNextArrivalTime());
+            for (int i = 0; i < running.size(); i++) {
+                next = Math.min(next, runningEnd[i]);
+            }
+            if (!waiting.isEmpty()) {
+                metrics.recordFragmentation(Long.bitCount(free) * (next - now));
+            }
+            clock.advance(next - now);
+        }
+
+        metrics.recordDevices(context.getDevices());
+        return new SchedulingResult(
+                getName(),
+                metrics,
+                context.getSystemCalls().getStarvationLog(),
+                context.getSystemCalls().getSystemCallLog(),
+                context.getLatencies()
+        );
+    }
+
+    /**
+     * Hands the CPUs just given to the gangs from {@code first} onwards back out fastest first, in order of
+     * remaining work; if affinity prevents that, the queue-order placement is kept.
+     */
+    private void reassignByRemainingWork(ProcessTable table, SlotList running, long[] runningMask, int first) {
+        int count = running.size() - first;
+        if (count < 2) {
+            return;
+        }
+        Integer[] order = new Integer[count];
+        long pool = 0;
+        for (int i = 0; i < count; i++) {
+            order[i] = first + i;
+            pool |= runningMask[first + i];
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(
+                table.getRemainingTime(running.get(a)), table.getRemainingTime(running.get(b))));
+        long[] masks = new long[count];
+        for (int index : order) {
+            int slot = running.get(index);
+            long cpus = topology.fastest(pool & table.getAffinityMask(slot), table.getLastCpuMask(slot),
+                    table.getThreadCount(slot));
+            if (cpus == 0) {
+                return;
+            }
+            masks[index - first] = cpus;
+            pool &= ~cpus;
+        }
+        System.arraycopy(masks, 0, runningMask, first, count);
+    }
+
+    /**
+     * Returns the slot of a process entering the ready set, rejecting one whose gang can never be placed.
+     */
+    private int admit(SimulationContext context, ProcessControlBlock pcb, long allCpus) {
+        int usable = Long.bitCount(pcb.getAffinityMask() & allCpus);
+        if (pcb.getThreadCount() > usable) {
+            throw new IllegalStateException("Process " + pcb.getId() + " has " + pcb.getThreadCount()
+                    + " threads but may run on only " + usable + " of " + topology.getCpuCount() + " CPUs");
+        }
+        return context.slotOf(pcb);
+    }
+}
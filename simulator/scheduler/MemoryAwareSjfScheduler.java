@@ -0,0 +1,118 @@
+package simulator.scheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import simulator.app.SimulationContext;
+import simulator.core.LatencyHistogram;
+import simulator.core.MetricsAccumulator;
+import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
+import simulator.core.SchedulingResult;
+import simulator.core.SimulationClock;
+import simulator.core.SystemCallHandler;
+import simulator.memory.MemoryManager;
+
+/**
+ * Non-preemptive shortest job first variant that runs the job with the smallest memory-time product first: its
+ * remaining burst times the memory it holds until completion. A short job with a large footprint no longer goes
+ * ahead of several small ones. The same product orders admission: among the waiting jobs that fit in the free
+ * memory, the loader admits the one with the smallest total burst times memory, so memory is handed to the jobs
+ * that will return it soonest per megabyte.
+ */
+public class MemoryAwareSjfScheduler implements Scheduler {
+    private static final Comparator<ProcessControlBlock> ADMISSION_ORDER = Comparator
+            .comparingLong((ProcessControlBlock pcb) -> (long) pcb.getBurstTime() * pcb.getMemoryRequired())
+            .thenComparingInt(ProcessControlBlock::getArrivalOrder);
+
+    @Override
+    public String getName() {
+        return "Smallest Memory-Time First";
+    }
+
+    @Override
+    public Comparator<ProcessControlBlock> getAdmissionOrder() {
+        return ADMISSION_ORDER;
+    }
+
+    @Override
+    public SchedulingResult run(SimulationContext context) throws InterruptedException {
+        ProcessTable table = context.getProcessTable();
+        // A process's score only changes while it runs, so it is computed once each time it enters the heap.
+        SlotHeap ready = new SlotHeap();
+        for (int slot : context.getRestoredReadySlots()) {
+            add(ready, table, slot);
+        }
+        MetricsAccumulator metrics = context.createMetricsAccumulator();
+
+        SimulationClock clock = context.getClock();
+        SystemCallHandler sys = context.getSystemCalls();
+        MemoryManager memory = context.getMemoryManager();
+        LatencyHistogram decisionTime = context.getLatencies().getDispatchDecision();
+
+        List<ProcessControlBlock> buffer = new ArrayList<>();
+
+        while (!context.canTerminate(metrics.getCompletedCount()) || !ready.isEmpty()) {
+            buffer.clear();
+            context.drainReadyQueue(buffer);
+            context.collectIoCompletions(buffer);
+            for (ProcessControlBlock pcb : buffer) {
+                add(ready, table, context.slotOf(pcb));
+            }
+            if (context.isCheckpointDue()) {
+                context.checkpoint(ready.toArray());
+            }
+
+            if (ready.isEmpty()) {
+                if (context.hasPendingIo()) {
+                    context.idleUntilNextIoCompletion();
+                    continue;
+                }
+                ProcessControlBlock pending = context.takeNextReady(100);
+                if (pending != null) {
+                    add(ready, table, context.slotOf(pending));
+                } else if (context.canTerminate(metrics.getCompletedCount())) {
+                    break;
+                }
+                continue;
+            }
+            long decisionStart = System.nanoTime();
+            ProcessControlBlock next = table.view(ready.pollFirst());
+            decisionTime.recordSince(decisionStart);
+
+            long start = clock.getTime();
+            next.markDispatched(start);
+            sys.dispatch(next, start);
+
+            int executed = next.consumeCpu(next.getRemainingTime());
+            context.runOnCpu(next, executed);
+            clock.advance(executed);
+
+            metrics.recordSlice(next.getId(), start, clock.getTime());
+            if (next.hasPendingIo()) {
+                context.blockForIo(next);
+                continue;
+            }
+
+            next.markCompleted(clock.getTime());
+            sys.complete(next, clock.getTime());
+            memory.release(next);
+            metrics.recordCompletion(next);
+        }
+
+        metrics.recordDevices(context.getDevices());
+        return new SchedulingResult(
+                getName(),
+                metrics,
+                context.getSystemCalls().getStarvationLog(),
+                context.getSystemCalls().getSystemCallLog(),
+                context.getLatencies()
+        );
+    }
+
+    private static void add(SlotHeap ready, ProcessTable table, int slot) {
+        long score = (long) table.getRemainingTime(slot) * table.getMemoryRequired(slot);
+        ready.add(slot, score, table.getArrivalOrder(slot));
+    }
+}
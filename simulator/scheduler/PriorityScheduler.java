@@ -1,113 +1,216 @@
 package simulator.scheduler;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 
 import simulator.app.SimulationContext;
-import simulator.core.ExecutionSlice;
+import simulator.core.LatencyHistogram;
+import simulator.core.MetricsAccumulator;
 import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
 import simulator.core.SimulationClock;
 import simulator.core.SchedulingResult;
 import simulator.core.SystemCallHandler;
 import simulator.memory.MemoryManager;
 
 /**
- * Non-preemptive priority scheduler with starvation detection and aging.
+ * Non-preemptive priority scheduler with starvation detection and aging. An {@link AgingPolicy} decides how much a
+ * waiting process is boosted and how much of the boost it keeps after a burst.
  */
 public class PriorityScheduler implements Scheduler {
-    private static final int AGING_INTERVAL = 5;
+    public static final int DEFAULT_AGING_INTERVAL = 5;
+
+    private final int agingInterval;
+    private final AgingPolicy agingPolicy;
+
+    public PriorityScheduler() {
+        this(DEFAULT_AGING_INTERVAL);
+    }
+
+    /**
+     * Creates a scheduler that raises a waiting process's priority by one every {@code agingInterval} time units.
+     */
+    public PriorityScheduler(int agingInterval) {
+        this(agingInterval, AgingPolicy.Standard.LINEAR);
+    }
+
+    public PriorityScheduler(int agingInterval, AgingPolicy agingPolicy) {
+        if (agingInterval <= 0) {
+            throw new IllegalArgumentException("Aging interval must be positive");
+        }
+        this.agingInterval = agingInterval;
+        this.agingPolicy = agingPolicy;
+    }
+
+    public int getAgingInterval() {
+        return agingInterval;
+    }
+
+    public AgingPolicy getAgingPolicy() {
+        return agingPolicy;
+    }
 
     @Override
     public String getName() {
-        return "Priority Scheduling";
+        return agingPolicy == AgingPolicy.Standard.LINEAR
+                ? "Priority Scheduling"
+                : "Priority Scheduling (" + agingPolicy.getLabel() + ")";
     }
 
     @Override
     public SchedulingResult run(SimulationContext context) throws InterruptedException {
-        List<ProcessControlBlock> ready = new ArrayList<>();
-        List<ProcessControlBlock> completed = new ArrayList<>();
-        List<ExecutionSlice> slices = new ArrayList<>();
+        ProcessTable table = context.getProcessTable();
+        PrioritySlotHeap ready = new PrioritySlotHeap();
+        // The next time each ready process may starve or earn a boost, so aging touches only processes that are due.
+        SlotHeap agingDue = new SlotHeap();
+        long[] nextAging = new long[16];
+        for (int slot : context.getRestoredReadySlots()) {
+            nextAging = enqueue(ready, agingDue, nextAging, table, slot);
+        }
+        MetricsAccumulator metrics = context.createMetricsAccumulator();
 
         SimulationClock clock = context.getClock();
         SystemCallHandler sys = context.getSystemCalls();
         MemoryManager memory = context.getMemoryManager();
+        LatencyHistogram decisionTime = context.getLatencies().getDispatchDecision();
 
         List<ProcessControlBlock> buffer = new ArrayList<>();
 
         // Loop until every admitted job is dispatched and the loader reports completion.
-        while (!context.canTerminate(completed.size()) || !ready.isEmpty()) {
+        while (!context.canTerminate(metrics.getCompletedCount()) || !ready.isEmpty()) {
             buffer.clear();
             context.drainReadyQueue(buffer);
+            context.collectIoCompletions(buffer);
+            // A process sits in the ready queue at most once, so slots never repeat.
             for (ProcessControlBlock pcb : buffer) {
-                if (!ready.contains(pcb)) {
-                    ready.add(pcb);
-                }
+                nextAging = enqueue(ready, agingDue, nextAging, table, context.slotOf(pcb));
+            }
+            if (context.isCheckpointDue()) {
+                context.checkpoint(ready.toArray());
             }
 
-            applyAging(ready, clock, sys);
+            applyAging(ready, agingDue, nextAging, table, clock.getTime(), sys);
 
             if (ready.isEmpty()) {
+                if (context.hasPendingIo()) {
+                    context.idleUntilNextIoCompletion();
+                    continue;
+                }
                 ProcessControlBlock pending = context.takeNextReady(100);
                 if (pending != null) {
-                    ready.add(pending);
-                } else if (context.canTerminate(completed.size())) {
+                    nextAging = enqueue(ready, agingDue, nextAging, table, context.slotOf(pending));
+                } else if (context.canTerminate(metrics.getCompletedCount())) {
                     break;
                 }
                 continue;
             }
 
-            ProcessControlBlock next = ready.stream()
-                    .max(Comparator
-                            .comparingInt(ProcessControlBlock::getDynamicPriority)
-                            .thenComparingInt(pcb -> clock.getTime() - pcb.getLastReadyTimestamp())
-                            .thenComparingInt(pcb -> -pcb.getArrivalOrder()))
-                    .orElseThrow();
-            ready.remove(next);
+            long decisionStart = System.nanoTime();
+            ProcessControlBlock next = table.view(ready.pollFirst());
+            decisionTime.recordSince(decisionStart);
 
-            int start = clock.getTime();
+            long start = clock.getTime();
             next.markDispatched(start);
             sys.dispatch(next, start);
 
             int executed = next.consumeCpu(next.getRemainingTime());
+            context.runOnCpu(next, executed);
             clock.advance(executed);
 
+            metrics.recordSlice(next.getId(), start, clock.getTime());
+            // Every burst gives up the boost the policy does not let a running process keep.
+            int slot = next.getSlot();
+            int boost = table.getPriorityBoostCount(slot);
+            int kept = agingPolicy.boostAfterRunning(boost, executed, agingInterval);
+            if (kept < boost) {
+                table.lowerPriorityBoost(slot, kept);
+            }
+            if (next.hasPendingIo()) {
+                context.blockForIo(next);
+                continue;
+            }
+
             next.markCompleted(clock.getTime());
             sys.complete(next, clock.getTime());
             memory.release(next);
-
-            slices.add(new ExecutionSlice(next.getId(), start, clock.getTime()));
-            completed.add(next);
+            metrics.recordCompletion(next);
         }
 
+        metrics.recordDevices(context.getDevices());
         return new SchedulingResult(
                 getName(),
-                slices,
-                completed,
+                metrics,
                 context.getSystemCalls().getStarvationLog(),
-                context.getSystemCalls().getSystemCallLog()
+                context.getSystemCalls().getSystemCallLog(),
+                context.getLatencies()
         );
     }
 
-    private void applyAging(List<ProcessControlBlock> ready, SimulationClock clock, SystemCallHandler sys) {
-        int now = clock.getTime();
-        // Each pass both detects starvation and incrementally increases priority for long-waiting jobs.
-        for (ProcessControlBlock pcb : ready) {
-            int waited = now - pcb.getLastReadyTimestamp();
-            if (pcb.getReadyAdmissionTime() >= 0 && waited > pcb.getAdmissionDegree()) {
-                if (!pcb.hasSufferedStarvation()) {
-                    pcb.markStarvation(waited);
-                    sys.reportStarvation(pcb, waited, pcb.getAdmissionDegree());
-                }
+    /**
+     * Adds a newly ready process and schedules its first aging check; returns {@code nextAging}, grown if needed.
+     */
+    private long[] enqueue(PrioritySlotHeap ready, SlotHeap agingDue, long[] nextAging, ProcessTable table, int slot) {
+        if (slot >= nextAging.length) {
+            nextAging = Arrays.copyOf(nextAging, Math.max(slot + 1, nextAging.length * 2));
+        }
+        ready.add(slot, table.getDynamicPriority(slot), table.getLastReadyTimestamp(slot), table.getArrivalOrder(slot));
+        scheduleAging(agingDue, nextAging, table, slot);
+        return nextAging;
+    }
+
+    /**
+     * Brings every ready process whose aging check is due up to date: reports starvation once its wait exceeds its
+     * admission degree, and raises it to the boost its wait earns. The boost follows from the ready timestamp
+     * alone, so processes that are not due are never visited.
+     */
+    private void applyAging(PrioritySlotHeap ready,
+                            SlotHeap agingDue,
+                            long[] nextAging,
+                            ProcessTable table,
+                            long now,
+                            SystemCallHandler sys) {
+        while (!agingDue.isEmpty() && agingDue.peekKey() <= now) {
+            long due = agingDue.peekKey();
+            int slot = agingDue.pollFirst();
+            // Entries left behind by a dispatch or an earlier reschedule no longer match.
+            if (!ready.contains(slot) || nextAging[slot] != due) {
+                continue;
             }
-            int expectedBoosts = waited / AGING_INTERVAL;
-            if (expectedBoosts > pcb.getPriorityBoostCount()) {
-                int delta = expectedBoosts - pcb.getPriorityBoostCount();
-                pcb.boostPriority(delta);
-                if (delta > 0) {
-                    sys.boostPriority(pcb);
-                }
+            long waited = now - table.getLastReadyTimestamp(slot);
+            int degree = table.getAdmissionDegree(slot);
+            if (table.getReadyAdmissionTime(slot) >= 0 && waited > degree && !table.hasSufferedStarvation(slot)) {
+                table.markStarvation(slot, waited);
+                sys.reportStarvation(table.view(slot), waited, degree);
+            }
+            int expectedBoosts = agingPolicy.boostAfterWaiting(waited, agingInterval);
+            int boosts = table.getPriorityBoostCount(slot);
+            if (expectedBoosts > boosts && table.boostPriority(slot, expectedBoosts - boosts) > 0) {
+                ready.raise(slot, table.getDynamicPriority(slot));
+                sys.boostPriority(table.view(slot));
+            }
+            scheduleAging(agingDue, nextAging, table, slot);
+        }
+    }
+
+    /**
+     * Records when {@code slot} next needs an aging check, or none if it can neither starve nor gain priority.
+     */
+    private void scheduleAging(SlotHeap agingDue, long[] nextAging, ProcessTable table, int slot) {
+        long lastReady = table.getLastReadyTimestamp(slot);
+        long next = Long.MAX_VALUE;
+        if (table.getReadyAdmissionTime(slot) >= 0 && !table.hasSufferedStarvation(slot)) {
+            next = lastReady + table.getAdmissionDegree(slot) + 1;
+        }
+        if (table.getDynamicPriority(slot) < ProcessTable.MAX_DYNAMIC_PRIORITY) {
+            long wait = agingPolicy.waitToExceed(table.getPriorityBoostCount(slot), agingInterval);
+            if (wait != Long.MAX_VALUE) {
+                next = Math.min(next, lastReady + wait);
             }
         }
+        nextAging[slot] = next;
+        if (next != Long.MAX_VALUE) {
+            agingDue.add(slot, next, table.getArrivalOrder(slot));
+        }
     }
 }
@@ -0,0 +1,138 @@
+package simulator.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * Indexed binary max-heap of process table slots ordered by dynamic priority, then by the earliest ready timestamp,
+ * then by arrival order. Each slot's position is tracked, so a boosted slot is sifted up in place instead of the
+ * ready set being rescanned. Keys sit in arrays parallel to the slots.
+ */
+final class PrioritySlotHeap {
+    private int[] slots = new int[16];
+    private int[] priorities = new int[16];
+    private long[] readyTimes = new long[16];
+    private int[] orders = new int[16];
+    // Heap index of each slot, or -1 when the slot is not in the heap; indexed by slot.
+    private int[] positions = new int[0];
+    private int size;
+
+    /**
+     * Adds {@code slot}, which must not already be in the heap; O(log n).
+     */
+    void add(int slot, int priority, long readyTime, int arrivalOrder) {
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+            priorities = Arrays.copyOf(priorities, size * 2);
+            readyTimes = Arrays.copyOf(readyTimes, size * 2);
+            orders = Arrays.copyOf(orders, size * 2);
+        }
+        if (slot >= positions.length) {
+            int previous = positions.length;
+            positions = Arrays.copyOf(positions, Math.max(slot + 1, previous * 2));
+            Arrays.fill(positions, previous, positions.length, -1);
+        }
+        siftUp(size++, slot, priority, readyTime, arrivalOrder);
+    }
+
+    /**
+     * Raises the priority of {@code slot}, which must be in the heap, to {@code priority}; O(log n).
+     */
+    void raise(int slot, int priority) {
+        int index = positions[slot];
+        if (priority < priorities[index]) {
+            throw new IllegalArgumentException("Priority of slot " + slot + " can only be raised");
+        }
+        siftUp(index, slot, priority, readyTimes[index], orders[index]);
+    }
+
+    /**
+     * Removes and returns the slot that runs first; O(log n).
+     */
+    int pollFirst() {
+        if (size == 0) {
+            throw new IllegalStateException("Priority slot heap is empty");
+        }
+        int first = slots[0];
+        positions[first] = -1;
+        int last = --size;
+        int slot = slots[last];
+        int priority = priorities[last];
+        long readyTime = readyTimes[last];
+        int order = orders[last];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && before(child + 1, child)) {
+                child++;
+            }
+            if (!before(priorities[child], readyTimes[child], orders[child], priority, readyTime, order)) {
+                break;
+            }
+            move(child, i);
+            i = child;
+        }
+        if (size > 0) {
+            set(i, slot, priority, readyTime, order);
+        }
+        return first;
+    }
+
+    boolean contains(int slot) {
+        return slot < positions.length && positions[slot] >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the slots in heap order, which is not sorted.
+     */
+    int[] toArray() {
+        return Arrays.copyOf(slots, size);
+    }
+
+    private void siftUp(int i, int slot, int priority, long readyTime, int order) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(priority, readyTime, order, priorities[parent], readyTimes[parent], orders[parent])) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        set(i, slot, priority, readyTime, order);
+    }
+
+    private boolean before(int a, int b) {
+        return before(priorities[a], readyTimes[a], orders[a], priorities[b], readyTimes[b], orders[b]);
+    }
+
+    private static boolean before(int priority, long readyTime, int order,
+                                  int otherPriority, long otherReadyTime, int otherOrder) {
+        if (priority != otherPriority) {
+            return priority > otherPriority;
+        }
+        if (readyTime != otherReadyTime) {
+            return readyTime < otherReadyTime;
+        }
+        return order < otherOrder;
+    }
+
+    private void move(int from, int to) {
+        set(to, slots[from], priorities[from], readyTimes[from], orders[from]);
+    }
+
+    private void set(int index, int slot, int priority, long readyTime, int order) {
+        slots[index] = slot;
+        priorities[index] = priority;
+        readyTimes[index] = readyTime;
+        orders[index] = order;
+        positions[slot] = index;
+    }
+}
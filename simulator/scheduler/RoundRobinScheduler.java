@@ -1,13 +1,13 @@
 package simulator.scheduler;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
 
 import simulator.app.SimulationContext;
-import simulator.core.ExecutionSlice;
+import simulator.core.LatencyHistogram;
+import simulator.core.MetricsAccumulator;
 import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
 import simulator.core.SimulationClock;
 import simulator.core.SchedulingResult;
 import simulator.core.SystemCallHandler;
@@ -17,69 +17,105 @@ import simulator.memory.MemoryManager;
  * Preemptive round-robin scheduler with a fixed quantum.
  */
 public class RoundRobinScheduler implements Scheduler {
-    private static final int TIME_QUANTUM = 7;
+    public static final int DEFAULT_TIME_QUANTUM = 7;
+
+    private final int timeQuantum;
+
+    public RoundRobinScheduler() {
+        this(DEFAULT_TIME_QUANTUM);
+    }
+
+    public RoundRobinScheduler(int timeQuantum) {
+        if (timeQuantum <= 0) {
+            throw new IllegalArgumentException("Time quantum must be positive");
+        }
+        this.timeQuantum = timeQuantum;
+    }
+
+    public int getTimeQuantum() {
+        return timeQuantum;
+    }
 
     @Override
     public String getName() {
-        return "Round Robin (q=" + TIME_QUANTUM + ")";
+        return "Round Robin (q=" + timeQuantum + ")";
     }
 
     @Override
     public SchedulingResult run(SimulationContext context) throws InterruptedException {
-        Deque<ProcessControlBlock> rrQueue = new ArrayDeque<>();
-        List<ProcessControlBlock> completed = new ArrayList<>();
-        List<ExecutionSlice> slices = new ArrayList<>();
+        SlotQueue rrQueue = new SlotQueue();
+        for (int slot : context.getRestoredReadySlots()) {
+            rrQueue.addLast(slot);
+        }
+        ProcessTable table = context.getProcessTable();
+        MetricsAccumulator metrics = context.createMetricsAccumulator();
 
         SimulationClock clock = context.getClock();
         SystemCallHandler sys = context.getSystemCalls();
         MemoryManager memory = context.getMemoryManager();
+        LatencyHistogram decisionTime = context.getLatencies().getDispatchDecision();
 
         List<ProcessControlBlock> buffer = new ArrayList<>();
 
         // Round robin rotates through the queue until the loader and ready lists are empty.
-        while (!context.canTerminate(completed.size()) || !rrQueue.isEmpty()) {
+        while (!context.canTerminate(metrics.getCompletedCount()) || !rrQueue.isEmpty()) {
             buffer.clear();
             context.drainReadyQueue(buffer);
+            context.collectIoCompletions(buffer);
             for (ProcessControlBlock pcb : buffer) {
-                rrQueue.add(pcb);
+                rrQueue.addLast(context.slotOf(pcb));
+            }
+            if (context.isCheckpointDue()) {
+                context.checkpoint(rrQueue.toArray());
             }
             if (rrQueue.isEmpty()) {
+                if (context.hasPendingIo()) {
+                    context.idleUntilNextIoCompletion();
+                    continue;
+                }
                 ProcessControlBlock next = context.takeNextReady(100);
                 if (next != null) {
-                    rrQueue.add(next);
-                } else if (context.canTerminate(completed.size())) {
+                    rrQueue.addLast(context.slotOf(next));
+                } else if (context.canTerminate(metrics.getCompletedCount())) {
                     break;
                 }
                 continue;
             }
-            ProcessControlBlock current = rrQueue.pollFirst();
-            int start = clock.getTime();
+            long decisionStart = System.nanoTime();
+            int slot = rrQueue.pollFirst();
+            ProcessControlBlock current = table.view(slot);
+            decisionTime.recordSince(decisionStart);
+            long start = clock.getTime();
             current.markDispatched(start);
             sys.dispatch(current, start);
 
-            int executed = current.consumeCpu(TIME_QUANTUM);
+            int executed = current.consumeCpu(timeQuantum);
+            context.runOnCpu(current, executed);
             clock.advance(executed);
-            slices.add(new ExecutionSlice(current.getId(), start, clock.getTime()));
+            metrics.recordSlice(current.getId(), start, clock.getTime());
 
             if (current.getRemainingTime() > 0) {
                 sys.yield(current, clock.getTime(), current.getRemainingTime());
-                current.markRequeued(clock.getTime(), memory.getAllocatedProcessCount());
-                rrQueue.addLast(current);
+                current.markRequeued(clock.getTime(), context.getDegreeOfMultiprogramming());
+                rrQueue.addLast(slot);
+            } else if (current.hasPendingIo()) {
+                context.blockForIo(current);
             } else {
                 current.markCompleted(clock.getTime());
                 sys.complete(current, clock.getTime());
                 memory.release(current);
-                completed.add(current);
+                metrics.recordCompletion(current);
             }
 
         }
 
+        metrics.recordDevices(context.getDevices());
         return new SchedulingResult(
                 getName(),
-                slices,
-                completed,
+                metrics,
                 context.getSystemCalls().getStarvationLog(),
-                context.getSystemCalls().getSystemCallLog()
+                context.getSystemCalls().getSystemCallLog(),
+                context.getLatencies()
         );
     }
 }
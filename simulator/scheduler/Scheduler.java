@@ -1,6 +1,9 @@
 package simulator.scheduler;
 
+import java.util.Comparator;
+
 import simulator.app.SimulationContext;
+import simulator.core.ProcessControlBlock;
 import simulator.core.SchedulingResult;
 
 /**
@@ -13,7 +16,25 @@ public interface Scheduler {
     String getName();
 
     /**
-     * Runs the scheduling algorithm using the shared simulation context.
+     * Returns how many simulated CPUs the scheduler runs processes on.
+     */
+    default int getCpuCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the order in which the loader admits waiting jobs that fit in memory, or null to admit them in
+     * arrival order.
+     */
+    default Comparator<ProcessControlBlock> getAdmissionOrder() {
+        return null;
+    }
+
+    /**
+     * Runs the scheduling algorithm using the shared simulation context. Each call to
+     * {@link SimulationContext#drainReadyQueue} blocks until the loader has admitted every job that fits, so
+     * implementations see the same ready set on every run and must not drain while holding a lock the loader
+     * or the caller's other threads need.
      */
     SchedulingResult run(SimulationContext context) throws InterruptedException;
 }
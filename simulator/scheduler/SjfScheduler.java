@@ -1,12 +1,13 @@
 package simulator.scheduler;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 import simulator.app.SimulationContext;
-import simulator.core.ExecutionSlice;
+import simulator.core.LatencyHistogram;
+import simulator.core.MetricsAccumulator;
 import simulator.core.ProcessControlBlock;
+import simulator.core.ProcessTable;
 import simulator.core.SimulationClock;
 import simulator.core.SchedulingResult;
 import simulator.core.SystemCallHandler;
@@ -23,55 +24,95 @@ public class SjfScheduler implements Scheduler {
 
     @Override
     public SchedulingResult run(SimulationContext context) throws InterruptedException {
-        List<ProcessControlBlock> ready = new ArrayList<>();
-        List<ProcessControlBlock> completed = new ArrayList<>();
-        List<ExecutionSlice> slices = new ArrayList<>();
+        SlotList ready = new SlotList();
+        for (int slot : context.getRestoredReadySlots()) {
+            ready.add(slot);
+        }
+        ProcessTable table = context.getProcessTable();
+        MetricsAccumulator metrics = context.createMetricsAccumulator();
 
         SimulationClock clock = context.getClock();
         SystemCallHandler sys = context.getSystemCalls();
         MemoryManager memory = context.getMemoryManager();
+        LatencyHistogram decisionTime = context.getLatencies().getDispatchDecision();
+
+        List<ProcessControlBlock> buffer = new ArrayList<>();
 
         // Continue running until the loader finishes and no more ready work exists.
-        while (!context.canTerminate(completed.size()) || !ready.isEmpty()) {
-            context.drainReadyQueue(ready);
+        while (!context.canTerminate(metrics.getCompletedCount()) || !ready.isEmpty()) {
+            buffer.clear();
+            context.drainReadyQueue(buffer);
+            context.collectIoCompletions(buffer);
+            for (ProcessControlBlock pcb : buffer) {
+                ready.add(context.slotOf(pcb));
+            }
+            if (context.isCheckpointDue()) {
+                context.checkpoint(ready.toArray());
+            }
 
             if (ready.isEmpty()) {
+                if (context.hasPendingIo()) {
+                    context.idleUntilNextIoCompletion();
+                    continue;
+                }
                 ProcessControlBlock pending = context.takeNextReady(100);
                 if (pending != null) {
-                    ready.add(pending);
-                } else if (context.canTerminate(completed.size())) {
+                    ready.add(context.slotOf(pending));
+                } else if (context.canTerminate(metrics.getCompletedCount())) {
                     break;
                 }
                 continue;
             }
-            ProcessControlBlock next = ready.stream()
-                    .min(Comparator
-                            .comparingInt(ProcessControlBlock::getRemainingTime)
-                            .thenComparingInt(ProcessControlBlock::getArrivalOrder))
-                    .orElseThrow();
-            ready.remove(next);
+            long decisionStart = System.nanoTime();
+            ProcessControlBlock next = table.view(ready.removeAt(selectShortest(ready, table)));
+            decisionTime.recordSince(decisionStart);
 
-            int start = clock.getTime();
+            long start = clock.getTime();
             next.markDispatched(start);
             sys.dispatch(next, start);
 
             int executed = next.consumeCpu(next.getRemainingTime());
+            context.runOnCpu(next, executed);
             clock.advance(executed);
 
+            metrics.recordSlice(next.getId(), start, clock.getTime());
+            if (next.hasPendingIo()) {
+                context.blockForIo(next);
+                continue;
+            }
+
             next.markCompleted(clock.getTime());
             sys.complete(next, clock.getTime());
             memory.release(next);
-
-            slices.add(new ExecutionSlice(next.getId(), start, clock.getTime()));
-            completed.add(next);
+            metrics.recordCompletion(next);
         }
 
+        metrics.recordDevices(context.getDevices());
         return new SchedulingResult(
                 getName(),
-                slices,
-                completed,
+                metrics,
                 context.getSystemCalls().getStarvationLog(),
-                context.getSystemCalls().getSystemCallLog()
+                context.getSystemCalls().getSystemCallLog(),
+                context.getLatencies()
         );
     }
+
+    /**
+     * Scans the remaining-time column for the shortest job, breaking ties by arrival order.
+     */
+    private static int selectShortest(SlotList ready, ProcessTable table) {
+        int best = 0;
+        int bestSlot = ready.get(0);
+        for (int i = 1; i < ready.size(); i++) {
+            int slot = ready.get(i);
+            int remaining = table.getRemainingTime(slot);
+            int bestRemaining = table.getRemainingTime(bestSlot);
+            if (remaining < bestRemaining
+                    || (remaining == bestRemaining && table.getArrivalOrder(slot) < table.getArrivalOrder(bestSlot))) {
+                best = i;
+                bestSlot = slot;
+            }
+        }
+        return best;
+    }
 }
@@ -0,0 +1,105 @@
+package simulator.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of process table slots keyed by a precomputed score, with ties broken by arrival order. Keys and
+ * orders sit in arrays parallel to the slots, so sifting compares primitives and touches no PCB objects.
+ */
+final class SlotHeap {
+    private int[] slots = new int[16];
+    private long[] keys = new long[16];
+    private int[] orders = new int[16];
+    private int size;
+
+    /**
+     * Adds {@code slot} with its score {@code key} and its {@code arrivalOrder}; O(log n).
+     */
+    void add(int slot, long key, int arrivalOrder) {
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+            orders = Arrays.copyOf(orders, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(key, arrivalOrder, keys[parent], orders[parent])) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        set(i, slot, key, arrivalOrder);
+    }
+
+    /**
+     * Removes and returns the slot with the smallest key; O(log n).
+     */
+    int pollFirst() {
+        if (size == 0) {
+            throw new IllegalStateException("Slot heap is empty");
+        }
+        int first = slots[0];
+        int last = --size;
+        int slot = slots[last];
+        long key = keys[last];
+        int order = orders[last];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && less(keys[child + 1], orders[child + 1], keys[child], orders[child])) {
+                child++;
+            }
+            if (!less(keys[child], orders[child], key, order)) {
+                break;
+            }
+            move(child, i);
+            i = child;
+        }
+        if (size > 0) {
+            set(i, slot, key, order);
+        }
+        return first;
+    }
+
+    /**
+     * Returns the smallest key without removing its slot.
+     */
+    long peekKey() {
+        if (size == 0) {
+            throw new IllegalStateException("Slot heap is empty");
+        }
+        return keys[0];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the slots in heap order, which is not sorted.
+     */
+    int[] toArray() {
+        return Arrays.copyOf(slots, size);
+    }
+
+    private static boolean less(long key, int order, long otherKey, int otherOrder) {
+        return key < otherKey || (key == otherKey && order < otherOrder);
+    }
+
+    private void move(int from, int to) {
+        set(to, slots[from], keys[from], orders[from]);
+    }
+
+    private void set(int index, int slot, long key, int order) {
+        slots[index] = slot;
+        keys[index] = key;
+        orders[index] = order;
+    }
+}
@@ -0,0 +1,45 @@
+package simulator.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * Insertion-ordered list of process table slots backed by a plain int array, so scanning the ready
+ * set touches no PCB objects.
+ */
+final class SlotList {
+    private int[] slots = new int[16];
+    private int size;
+
+    void add(int slot) {
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        slots[size++] = slot;
+    }
+
+    int get(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Removes and returns the slot at {@code index}.
+     */
+    int removeAt(int index) {
+        int slot = slots[index];
+        System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+        size--;
+        return slot;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(slots, size);
+    }
+}
@@ -0,0 +1,52 @@
+package simulator.scheduler;
+
+/**
+ * FIFO ring of process table slots that grows on demand.
+ */
+final class SlotQueue {
+    private int[] slots = new int[16];
+    private int head;
+    private int size;
+
+    void addLast(int slot) {
+        if (size == slots.length) {
+            grow();
+        }
+        slots[(head + size) & (slots.length - 1)] = slot;
+        size++;
+    }
+
+    int pollFirst() {
+        if (size == 0) {
+            throw new IllegalStateException("Slot queue is empty");
+        }
+        int slot = slots[head];
+        head = (head + 1) & (slots.length - 1);
+        size--;
+        return slot;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the queued slots from head to tail.
+     */
+    int[] toArray() {
+        int[] copy = new int[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = slots[(head + i) & (slots.length - 1)];
+        }
+        return copy;
+    }
+
+    private void grow() {
+        int[] grown = new int[slots.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = slots[(head + i) & (slots.length - 1)];
+        }
+        slots = grown;
+        head = 0;
+    }
+}